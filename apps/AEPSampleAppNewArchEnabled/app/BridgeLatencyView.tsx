@@ -0,0 +1,107 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+
+import React, {useState} from 'react';
+import {Button, Text, View, ScrollView} from 'react-native';
+import {Identity, MobileCore} from '@adobe/react-native-aepcore';
+import {Edge} from '@adobe/react-native-aepedge';
+import {Identity as EdgeIdentity} from '@adobe/react-native-aepedgeidentity';
+import {Optimize} from '@adobe/react-native-aepoptimize';
+import {Target} from '@adobe/react-native-aeptarget';
+import styles from '../styles/styles';
+import {useRouter} from 'expo-router';
+
+const ITERATIONS = 200;
+
+// Each pair makes the same kind of call on a module that has a TurboModule implementation
+// (AEPCore, AEPEdge, AEPOptimize) and on one that still uses the legacy module API.
+const COMPARISONS: Array<{
+  title: string;
+  turboModule: () => Promise<unknown>;
+  legacyModule: () => Promise<unknown>;
+}> = [
+  {
+    title: 'MobileCore vs Identity',
+    turboModule: () => MobileCore.extensionVersion(),
+    legacyModule: () => Identity.extensionVersion(),
+  },
+  {
+    title: 'Edge vs EdgeIdentity',
+    turboModule: () => Edge.extensionVersion(),
+    legacyModule: () => EdgeIdentity.extensionVersion(),
+  },
+  {
+    title: 'Optimize vs Target',
+    turboModule: () => Optimize.extensionVersion(),
+    legacyModule: () => Target.extensionVersion(),
+  },
+];
+
+function architecture(): string {
+  return (global as any).RN$Bridgeless ? 'New Architecture (bridgeless)' : 'Legacy bridge';
+}
+
+async function measure(call: () => Promise<unknown>): Promise<string> {
+  // Warm up so the module is created and the first-call cost is excluded.
+  await call();
+
+  const samples: Array<number> = [];
+  for (let i = 0; i < ITERATIONS; i++) {
+    const start = performance.now();
+    await call();
+    samples.push(performance.now() - start);
+  }
+
+  samples.sort((a, b) => a - b);
+  const mean = samples.reduce((sum, sample) => sum + sample, 0) / samples.length;
+  const percentile = (p: number) => samples[Math.min(samples.length - 1, Math.floor(samples.length * p))];
+  return `mean ${mean.toFixed(3)} ms, p50 ${percentile(0.5).toFixed(3)} ms, p95 ${percentile(0.95).toFixed(3)} ms`;
+}
+
+const BridgeLatencyView = () => {
+  const [results, setResults] = useState<Array<string>>([]);
+  const [running, setRunning] = useState(false);
+  const router = useRouter();
+
+  async function run() {
+    setRunning(true);
+    const lines: Array<string> = [];
+    for (const comparison of COMPARISONS) {
+      lines.push(comparison.title);
+      lines.push('  TurboModule: ' + (await measure(comparison.turboModule)));
+      lines.push('  Legacy module: ' + (await measure(comparison.legacyModule)));
+    }
+    console.log('AdobeExperienceSDK: bridge latency\n' + lines.join('\n'));
+    setResults(lines);
+    setRunning(false);
+  }
+
+  return (
+    <View style={styles.container}>
+      <ScrollView contentContainerStyle={{marginTop: 75}}>
+        <Button onPress={router.back} title="Go to main page" />
+        <Text style={styles.welcome}>Bridge Latency</Text>
+        <Text style={styles.text}>{architecture()}</Text>
+        <Text style={styles.text}>{ITERATIONS} awaited calls per module</Text>
+        <Button title="Run" onPress={run} disabled={running} />
+        <View style={styles.breakLine} />
+        {results.map((line, index) => (
+          <Text key={index} style={styles.text}>
+            {line}
+          </Text>
+        ))}
+      </ScrollView>
+    </View>
+  );
+};
+
+export default BridgeLatencyView;
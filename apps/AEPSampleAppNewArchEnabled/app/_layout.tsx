@@ -91,6 +91,7 @@ export default function RootLayout() {
         <Drawer.Screen name="PlacesView" options={{ title: 'PlacesView' }} />
         <Drawer.Screen name="ProfileView" options={{ title: 'ProfileView' }} />
         <Drawer.Screen name="TargetView" options={{ title: 'TargetView' }} />
+        <Drawer.Screen name="BridgeLatencyView" options={{ title: 'Bridge Latency' }} />
       </Drawer>
     </ThemeProvider>
   );
@@ -46,6 +46,10 @@ export default function HomeScreen() {
         onPress={() => router.push('/PlacesView')}
         title="Places"
       />
+      <Button
+        onPress={() => router.push('/BridgeLatencyView')}
+        title="Bridge Latency"
+      />
 
     </View>
   );
@@ -0,0 +1,260 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic, {@link JavaOnlyMap}/{@link JavaOnlyArray}-backed payloads shaped like the data the
+ * bridge converts in production: commerce XDM, identity maps, Optimize and Messaging propositions.
+ */
+public final class BridgeFixtures {
+
+    /** Leaf fields per product list item; 25 products plus the event envelope is a ~330 field checkout. */
+    public static final int FIELDS_PER_PRODUCT = 12;
+
+    private BridgeFixtures() {}
+
+    /**
+     * Routes {@link RCTAEPBridgeConverter#createMap()} and {@link RCTAEPBridgeConverter#createArray()}
+     * to Java-only containers, as the native ones need the React Native shared libraries.
+     */
+    public static void useJavaOnlyWritables() {
+        RCTAEPBridgeConverter.setWritableFactory(new RCTAEPBridgeConverter.WritableFactory() {
+            @Override
+            public WritableMap createMap() {
+                return new JavaOnlyMap();
+            }
+
+            @Override
+            public WritableArray createArray() {
+                return new JavaOnlyArray();
+            }
+        });
+    }
+
+    /**
+     * @param productCount number of entries in {@code productListItems}
+     * @return a commerce checkout XDM payload
+     */
+    public static JavaOnlyMap checkoutXdm(final int productCount) {
+        final JavaOnlyArray products = new JavaOnlyArray();
+        double total = 0;
+        for (int i = 0; i < productCount; i++) {
+            final double price = 10 + i;
+            total += price;
+            final JavaOnlyMap product = new JavaOnlyMap();
+            product.putString("SKU", "SKU-" + i);
+            product.putString("name", "Product " + i);
+            product.putString("productAddMethod", "product page");
+            product.putString("currencyCode", "USD");
+            product.putDouble("quantity", 1 + (i % 3));
+            product.putDouble("priceTotal", price);
+            product.putString("productImageUrl", "https://cdn.example.com/images/" + i + ".png");
+            product.putBoolean("onSale", i % 2 == 0);
+            product.putNull("discountCode");
+            final JavaOnlyMap selectedOptions = new JavaOnlyMap();
+            selectedOptions.putString("size", "M");
+            selectedOptions.putString("color", "blue");
+            product.putMap("selectedOptions", selectedOptions);
+            product.putArray("categories", JavaOnlyArray.of("apparel", "sale", "category-" + (i % 5)));
+            products.pushMap(product);
+        }
+
+        final JavaOnlyMap order = new JavaOnlyMap();
+        order.putString("purchaseID", "order-1234");
+        order.putString("currencyCode", "USD");
+        order.putDouble("priceTotal", total);
+        order.putArray("payments", JavaOnlyArray.of(JavaOnlyMap.of(
+                "paymentType", "credit_card", "currencyCode", "USD", "paymentAmount", total)));
+
+        final JavaOnlyMap commerce = new JavaOnlyMap();
+        commerce.putMap("checkouts", JavaOnlyMap.of("value", 1.0));
+        commerce.putMap("purchases", JavaOnlyMap.of("value", 1.0));
+        commerce.putMap("order", order);
+
+        final JavaOnlyMap xdm = new JavaOnlyMap();
+        xdm.putString("eventType", "commerce.purchases");
+        xdm.putString("timestamp", "2026-01-01T00:00:00.000Z");
+        xdm.putMap("commerce", commerce);
+        xdm.putArray("productListItems", products);
+        xdm.putMap("web", JavaOnlyMap.of("webPageDetails", JavaOnlyMap.of(
+                "name", "checkout", "URL", "https://shop.example.com/checkout", "siteSection", "cart")));
+        xdm.putMap("device", JavaOnlyMap.of(
+                "manufacturer", "Google", "model", "Pixel", "screenHeight", 2400.0, "screenWidth", 1080.0));
+        xdm.putMap("environment", JavaOnlyMap.of(
+                "type", "application", "operatingSystem", "Android", "operatingSystemVersion", "14"));
+        xdm.putMap("identityMap", identityMap(2, 1).getMap("identityMap"));
+        return xdm;
+    }
+
+    /**
+     * @param productCount number of entries in {@code xdmData.productListItems}
+     * @return an experience event as sent by {@code Edge.sendEvent}
+     */
+    public static JavaOnlyMap experienceEvent(final int productCount) {
+        final JavaOnlyMap event = new JavaOnlyMap();
+        event.putMap("xdmData", checkoutXdm(productCount));
+        event.putMap("data", JavaOnlyMap.of("cartId", "cart-1", "loyaltyTier", "gold", "screen", "checkout"));
+        event.putString("datasetIdentifier", "5f8b1c2d3e4a5b6c7d8e9f00");
+        return event;
+    }
+
+    /**
+     * @param namespaceCount number of identity namespaces
+     * @param itemsPerNamespace identity items per namespace
+     * @return an identity map as sent by {@code Identity.updateIdentities}
+     */
+    public static JavaOnlyMap identityMap(final int namespaceCount, final int itemsPerNamespace) {
+        final JavaOnlyMap namespaces = new JavaOnlyMap();
+        for (int n = 0; n < namespaceCount; n++) {
+            final JavaOnlyArray items = new JavaOnlyArray();
+            for (int i = 0; i < itemsPerNamespace; i++) {
+                items.pushMap(JavaOnlyMap.of(
+                        "id", "user-" + n + "-" + i + "@example.com",
+                        "authenticatedState", i == 0 ? "authenticated" : "ambiguous",
+                        "primary", n == 0 && i == 0));
+            }
+            namespaces.putArray("namespace" + n, items);
+        }
+
+        return JavaOnlyMap.of("identityMap", namespaces);
+    }
+
+    /**
+     * @param contextDataCount number of context data entries
+     * @return action/state context data, including a few non-string values that are dropped
+     */
+    public static JavaOnlyMap contextData(final int contextDataCount) {
+        final JavaOnlyMap contextData = new JavaOnlyMap();
+        for (int i = 0; i < contextDataCount; i++) {
+            if (i % 10 == 9) {
+                contextData.putDouble("metric" + i, i);
+            } else {
+                contextData.putString("key" + i, "value" + i);
+            }
+        }
+
+        return contextData;
+    }
+
+    /**
+     * @param offerCount number of offers in the proposition
+     * @return Optimize proposition event data, as passed to {@code OptimizeProposition.fromEventData}
+     */
+    public static Map<String, Object> optimizeProposition(final int offerCount) {
+        final List<Object> items = new ArrayList<>(offerCount);
+        for (int i = 0; i < offerCount; i++) {
+            final Map<String, Object> characteristics = new HashMap<>();
+            characteristics.put("placement", "home-feed");
+            characteristics.put("rank", String.valueOf(i));
+
+            final Map<String, Object> data = new HashMap<>();
+            data.put("id", "offer-" + i);
+            data.put("format", "application/json");
+            data.put("content", "{\"title\":\"Offer " + i + "\",\"image\":\"https://cdn.example.com/offers/" + i
+                    + ".png\",\"cta\":\"Shop now\",\"discount\":" + (i * 5) + "}");
+            data.put("language", listOf("en-us"));
+            data.put("characteristics", characteristics);
+
+            final Map<String, Object> item = new HashMap<>();
+            item.put("id", "offer-" + i);
+            item.put("etag", "1");
+            item.put("schema", "https://ns.adobe.com/experience/offer-management/content-component-json");
+            item.put("score", (double) i);
+            item.put("data", data);
+            items.add(item);
+        }
+
+        final Map<String, Object> proposition = new HashMap<>();
+        proposition.put("id", "de03ac85-802a-4331-a905-a57053164d35");
+        proposition.put("scope", "eyJhY3Rpdml0eUlkIjoieGNvcmU6b2ZmZXItYWN0aXZpdHk6MTExMTExMTExMTExMTExMSJ9");
+        proposition.put("scopeDetails", scopeDetails("xcore:offer-activity:1111111111111111"));
+        proposition.put("activity", mapOf("id", "xcore:offer-activity:1111111111111111", "etag", "8"));
+        proposition.put("placement", mapOf("id", "xcore:offer-placement:1111111111111111", "etag", "1"));
+        proposition.put("items", items);
+        return proposition;
+    }
+
+    /**
+     * @param index used to make ids unique per proposition
+     * @return a content card proposition, as passed to {@code Proposition.fromEventData}
+     */
+    public static Map<String, Object> contentCardProposition(final int index) {
+        final Map<String, Object> content = new HashMap<>();
+        content.put("title", mapOf("content", "Card " + index));
+        content.put("body", mapOf("content", "Limited time offer on item " + index + ". Tap to see more details."));
+        content.put("image", mapOf("url", "https://cdn.example.com/cards/" + index + ".png", "alt", "card image"));
+        content.put("actionUrl", "https://shop.example.com/deals/" + index);
+        content.put("buttons", listOf(
+                mapOf("interactId", "shop", "actionUrl", "https://shop.example.com/deals/" + index,
+                        "text", mapOf("content", "Shop now")),
+                mapOf("interactId", "later", "text", mapOf("content", "Later"))));
+        content.put("dismissBtn", mapOf("style", "simple"));
+
+        final Map<String, Object> data = new HashMap<>();
+        data.put("contentType", "application/json");
+        data.put("content", content);
+        data.put("meta", mapOf("surface", "mobileapp://com.example.app/inbox", "priority", (double) index));
+        data.put("publishedDate", 1767225600.0);
+        data.put("expiryDate", 1798761600.0);
+
+        final Map<String, Object> item = new HashMap<>();
+        item.put("id", "item-" + index);
+        item.put("schema", "https://ns.adobe.com/personalization/message/content-card");
+        item.put("data", data);
+
+        final Map<String, Object> proposition = new HashMap<>();
+        proposition.put("id", "proposition-" + index);
+        proposition.put("scope", "mobileapp://com.example.app/inbox");
+        proposition.put("scopeDetails", scopeDetails("activity-" + index));
+        proposition.put("items", listOf(item));
+        return proposition;
+    }
+
+    // Helper methods
+
+    private static Map<String, Object> scopeDetails(final String activityId) {
+        final Map<String, Object> scopeDetails = new HashMap<>();
+        scopeDetails.put("decisionProvider", "AJO");
+        scopeDetails.put("correlationID", "c2b3e2b8-0d0b-4a4f-9a55-5a3ff0f2a1c0");
+        scopeDetails.put("activity", mapOf("id", activityId, "matchedSurfaces", listOf("mobileapp://com.example.app/inbox")));
+        scopeDetails.put("characteristics", mapOf("eventToken", "eyJtZXNzYWdlRXhlY3V0aW9uIjp7fX0="));
+        return scopeDetails;
+    }
+
+    private static Map<String, Object> mapOf(final Object... keysAndValues) {
+        final Map<String, Object> map = new HashMap<>(keysAndValues.length);
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+
+        return map;
+    }
+
+    private static List<Object> listOf(final Object... values) {
+        final List<Object> list = new ArrayList<>(values.length);
+        for (final Object value : values) {
+            list.add(value);
+        }
+
+        return list;
+    }
+}
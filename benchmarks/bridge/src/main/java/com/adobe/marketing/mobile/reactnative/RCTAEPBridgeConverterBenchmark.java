@@ -0,0 +1,73 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative;
+
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.WritableMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RCTAEPBridgeConverter} in both directions, for a checkout XDM payload of
+ * {@code productCount * BridgeFixtures.FIELDS_PER_PRODUCT} plus ~30 envelope fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RCTAEPBridgeConverterBenchmark {
+
+    @Param({"1", "25", "100"})
+    public int productCount;
+
+    private JavaOnlyMap xdm;
+    private Map<String, Object> xdmMap;
+    private JavaOnlyMap contextData;
+
+    @Setup
+    public void setup() {
+        BridgeFixtures.useJavaOnlyWritables();
+        xdm = BridgeFixtures.checkoutXdm(productCount);
+        xdmMap = RCTAEPBridgeConverter.toMap(xdm);
+        contextData = BridgeFixtures.contextData(productCount);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return RCTAEPBridgeConverter.toMap(xdm);
+    }
+
+    @Benchmark
+    public Map<String, String> toStringMap() {
+        return RCTAEPBridgeConverter.toStringMap(contextData);
+    }
+
+    @Benchmark
+    public WritableMap toWritableMap() {
+        return RCTAEPBridgeConverter.toWritableMap(xdmMap);
+    }
+}
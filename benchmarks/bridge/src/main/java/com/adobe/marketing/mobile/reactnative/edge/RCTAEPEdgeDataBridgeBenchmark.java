@@ -0,0 +1,58 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative.edge;
+
+import com.adobe.marketing.mobile.ExperienceEvent;
+import com.adobe.marketing.mobile.reactnative.BridgeFixtures;
+import com.facebook.react.bridge.JavaOnlyMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RCTAEPEdgeDataBridge#experienceEventFromReadableMap}, the per-call cost of {@code Edge.sendEvent}
+ * before the event is handed to the SDK.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RCTAEPEdgeDataBridgeBenchmark {
+
+    @Param({"1", "25", "100"})
+    public int productCount;
+
+    private JavaOnlyMap experienceEvent;
+
+    @Setup
+    public void setup() {
+        experienceEvent = BridgeFixtures.experienceEvent(productCount);
+    }
+
+    @Benchmark
+    public ExperienceEvent experienceEventFromReadableMap() {
+        return RCTAEPEdgeDataBridge.experienceEventFromReadableMap(experienceEvent);
+    }
+}
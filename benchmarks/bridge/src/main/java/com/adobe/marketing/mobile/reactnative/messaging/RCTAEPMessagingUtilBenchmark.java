@@ -0,0 +1,96 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative.messaging;
+
+import com.adobe.marketing.mobile.messaging.Proposition;
+import com.adobe.marketing.mobile.messaging.Surface;
+import com.adobe.marketing.mobile.reactnative.BridgeFixtures;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeSnapshotCache;
+import com.facebook.react.bridge.WritableMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RCTAEPMessagingUtil#convertSurfacePropositions} for an inbox surface holding
+ * {@code propositionCount} content cards, as returned by {@code getPropositionsForSurfaces}:
+ * on the first read, on a repeated read of unchanged propositions served from snapshots, and as
+ * summaries without item content, as returned by {@code getPropositionSummariesForSurfaces}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RCTAEPMessagingUtilBenchmark {
+
+    @Param({"1", "50", "200"})
+    public int propositionCount;
+
+    private Map<Surface, List<Proposition>> propositionMap;
+    private String packageName;
+    private RCTAEPBridgeSnapshotCache snapshots;
+
+    @Setup
+    public void setup() {
+        BridgeFixtures.useJavaOnlyWritables();
+        final Surface surface = new Surface("inbox");
+        final String uri = surface.getUri();
+        packageName = uri.substring("mobileapp://".length(), uri.lastIndexOf('/'));
+
+        final List<Proposition> propositions = new ArrayList<>(propositionCount);
+        for (int i = 0; i < propositionCount; i++) {
+            final Proposition proposition = Proposition.fromEventData(BridgeFixtures.contentCardProposition(i));
+            if (proposition == null) {
+                throw new IllegalStateException("Invalid proposition fixture.");
+            }
+            propositions.add(proposition);
+        }
+
+        propositionMap = new HashMap<>();
+        propositionMap.put(surface, propositions);
+
+        snapshots = new RCTAEPBridgeSnapshotCache();
+        RCTAEPMessagingUtil.convertSurfacePropositions(propositionMap, packageName, snapshots);
+    }
+
+    @Benchmark
+    public WritableMap convertSurfacePropositions() {
+        return RCTAEPMessagingUtil.convertSurfacePropositions(propositionMap, packageName, new RCTAEPBridgeSnapshotCache());
+    }
+
+    @Benchmark
+    public WritableMap convertSurfacePropositionsFromSnapshots() {
+        return RCTAEPMessagingUtil.convertSurfacePropositions(propositionMap, packageName, snapshots);
+    }
+
+    @Benchmark
+    public WritableMap convertSurfacePropositionSummaries() {
+        return RCTAEPMessagingUtil.convertSurfacePropositionsPage(propositionMap, packageName, 0, 0, true, snapshots);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative.optimize;
+
+import com.adobe.marketing.mobile.optimize.Offer;
+import com.adobe.marketing.mobile.optimize.OptimizeProposition;
+import com.adobe.marketing.mobile.reactnative.BridgeFixtures;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeSnapshotCache;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.WritableMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RCTAEPOptimizeUtil#convertPropositionToWritableMap}, run once per scope on every
+ * {@code getPropositions} and {@code onPropositionsUpdate}, also when served from the snapshot of an
+ * unchanged proposition, and {@link RCTAEPOptimizeUtil#getNativeOffers}, run on every batched
+ * {@code Optimize.displayed}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RCTAEPOptimizeUtilBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int offerCount;
+
+    private OptimizeProposition proposition;
+    private RCTAEPOptimizePropositionCache propositionCache;
+    private RCTAEPBridgeSnapshotCache snapshots;
+    private JavaOnlyArray displayedOffers;
+
+    @Setup
+    public void setup() {
+        BridgeFixtures.useJavaOnlyWritables();
+        proposition = OptimizeProposition.fromEventData(BridgeFixtures.optimizeProposition(offerCount));
+        if (proposition == null) {
+            throw new IllegalStateException("Invalid proposition fixture.");
+        }
+
+        final String propositionId = "xcore:offer-activity:1111111111111111";
+        propositionCache = new RCTAEPOptimizePropositionCache();
+        propositionCache.put(propositionId, proposition);
+        snapshots = new RCTAEPBridgeSnapshotCache();
+        RCTAEPOptimizeUtil.convertPropositionToWritableMap(proposition, snapshots);
+        // Every offer of the proposition is displayed, as on a feed of offerCount tiles.
+        displayedOffers = new JavaOnlyArray();
+        for (final Offer offer : proposition.getOffers()) {
+            displayedOffers.pushMap(JavaOnlyMap.of(
+                    "id", offer.getId(), RCTAEPOptimizeConstants.UNIQUE_PROPOSITION_ID_KEY, propositionId));
+        }
+    }
+
+    @Benchmark
+    public WritableMap convertPropositionToWritableMap() {
+        return RCTAEPOptimizeUtil.convertPropositionToWritableMap(proposition);
+    }
+
+    @Benchmark
+    public WritableMap convertPropositionToWritableMapFromSnapshot() {
+        return RCTAEPOptimizeUtil.convertPropositionToWritableMap(proposition, snapshots);
+    }
+
+    @Benchmark
+    public List<Offer> getNativeOffers() {
+        return RCTAEPOptimizeUtil.getNativeOffers(displayedOffers, propositionCache);
+    }
+}
@@ -18,6 +18,7 @@ module.exports = {
   moduleFileExtensions: ["ts", "tsx", "js", "jsx", "json", "node"],
   moduleNameMapper: {
     "^react-native$": "<rootDir>/node_modules/react-native",
+    "^@adobe/react-native-aepcore$": "<rootDir>/packages/core/src",
   },
   testPathIgnorePatterns: [
     "/node_modules/",
@@ -18,6 +18,7 @@ import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 
 public class RCTAEPAssuranceModule extends ReactContextBaseJavaModule {
+    public static final String NAME = "AEPAssurance";
 
 
     public RCTAEPAssuranceModule(ReactApplicationContext reactContext) {
@@ -38,6 +39,6 @@ public class RCTAEPAssuranceModule extends ReactContextBaseJavaModule {
 
     @Override
     public String getName() {
-        return "AEPAssurance";
+        return NAME;
     }
 }
@@ -11,28 +11,38 @@ governing permissions and limitations under the License.
 
 package com.adobe.marketing.mobile.reactnative.assurance;
 
-import com.facebook.react.ReactPackage;
-import com.facebook.react.bridge.JavaScriptModule;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeModuleInfo;
+import com.facebook.react.BaseReactPackage;
 import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.uimanager.ViewManager;
+import com.facebook.react.module.model.ReactModuleInfo;
+import com.facebook.react.module.model.ReactModuleInfoProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the Assurance module.
+ * Modules are described by {@link ReactModuleInfo} and created on first access from JS,
+ * not when the React instance starts.
+ */
+public class RCTAEPAssurancePackage extends BaseReactPackage {
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-public class RCTAEPAssurancePackage implements ReactPackage {
     @Override
-    public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-      return Arrays.<NativeModule>asList(new RCTAEPAssuranceModule(reactContext));
-    }
+    public NativeModule getModule(String name, ReactApplicationContext reactContext) {
+        if (RCTAEPAssuranceModule.NAME.equals(name)) {
+            return new RCTAEPAssuranceModule(reactContext);
+        }
 
-    // Deprecated from RN 0.47
-    public List<Class<? extends JavaScriptModule>> createJSModules() {
-      return Collections.emptyList();
+        return null;
     }
 
     @Override
-    public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
-      return Collections.emptyList();
+    public ReactModuleInfoProvider getReactModuleInfoProvider() {
+        return () -> {
+            Map<String, ReactModuleInfo> moduleInfos = new HashMap<>();
+            moduleInfos.put(RCTAEPAssuranceModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPAssuranceModule.NAME, RCTAEPAssuranceModule.class, false));
+            return moduleInfos;
+        };
     }
 }
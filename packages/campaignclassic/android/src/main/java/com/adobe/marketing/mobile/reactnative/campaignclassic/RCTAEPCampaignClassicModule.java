@@ -17,6 +17,7 @@ import com.adobe.marketing.mobile.AdobeError;
 import com.adobe.marketing.mobile.CampaignClassic;
 import com.adobe.marketing.mobile.LoggingMode;
 import com.adobe.marketing.mobile.MobileCore;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 
 public class RCTAEPCampaignClassicModule extends ReactContextBaseJavaModule {
+  public static final String NAME = "AEPCampaignClassic";
 
   private static final String TAG = "RCTAEPCampaignClassicModule";
   private final ReactApplicationContext reactContext;
@@ -42,7 +44,7 @@ public class RCTAEPCampaignClassicModule extends ReactContextBaseJavaModule {
 
   @Override
   public String getName() {
-    return "AEPCampaignClassic";
+    return NAME;
   }
 
   @ReactMethod
@@ -55,24 +57,21 @@ public class RCTAEPCampaignClassicModule extends ReactContextBaseJavaModule {
                                       final String userKey,
                                       ReadableMap additionalParams) {
     final Map<String, Object> additionalParamsMap =
-        additionalParams != null
-            ? RCTAEPCampaignClassicUtil.convertReadableMapToMap(
-                  additionalParams)
-            : null;
+        RCTAEPBridgeConverter.toMap(additionalParams);
       CampaignClassic.registerDevice(deviceToken, userKey, additionalParamsMap);
   }
 
   @ReactMethod
   public void trackNotificationReceiveWithUserInfo(ReadableMap trackInfo) {
     final Map<String, String> trackInfoMap =
-        RCTAEPCampaignClassicUtil.convertTrackInfoToMap(trackInfo);
+        RCTAEPBridgeConverter.toStringMap(trackInfo);
     CampaignClassic.trackNotificationReceive(trackInfoMap);
   }
 
   @ReactMethod
   public void trackNotificationClickWithUserInfo(ReadableMap trackInfo) {
     final Map<String, String> trackInfoMap =
-        RCTAEPCampaignClassicUtil.convertTrackInfoToMap(trackInfo);
+        RCTAEPBridgeConverter.toStringMap(trackInfo);
     CampaignClassic.trackNotificationClick(trackInfoMap);
   }
 }
\ No newline at end of file
@@ -10,29 +10,38 @@
  */
 package com.adobe.marketing.mobile.reactnative.campaignclassic;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
-import com.facebook.react.ReactPackage;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeModuleInfo;
+import com.facebook.react.BaseReactPackage;
 import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.uimanager.ViewManager;
-import com.facebook.react.bridge.JavaScriptModule;
-public class RCTAEPCampaignClassicPackage implements ReactPackage {
+import com.facebook.react.module.model.ReactModuleInfo;
+import com.facebook.react.module.model.ReactModuleInfoProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the Campaign Classic module.
+ * Modules are described by {@link ReactModuleInfo} and created on first access from JS,
+ * not when the React instance starts.
+ */
+public class RCTAEPCampaignClassicPackage extends BaseReactPackage {
 
     @Override
-    public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-      return Arrays.<NativeModule>asList(new RCTAEPCampaignClassicModule(reactContext));
-    }
+    public NativeModule getModule(String name, ReactApplicationContext reactContext) {
+        if (RCTAEPCampaignClassicModule.NAME.equals(name)) {
+            return new RCTAEPCampaignClassicModule(reactContext);
+        }
 
-    // Deprecated from RN 0.47
-    public List<Class<? extends JavaScriptModule>> createJSModules() {
-      return Collections.emptyList();
+        return null;
     }
 
     @Override
-    public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
-      return Collections.emptyList();
+    public ReactModuleInfoProvider getReactModuleInfoProvider() {
+        return () -> {
+            Map<String, ReactModuleInfo> moduleInfos = new HashMap<>();
+            moduleInfos.put(RCTAEPCampaignClassicModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPCampaignClassicModule.NAME, RCTAEPCampaignClassicModule.class, false));
+            return moduleInfos;
+        };
     }
 }
@@ -10,7 +10,7 @@ OF ANY KIND, either express or implied. See the License for the specific languag
 governing permissions and limitations under the License.
 */
 
-import { NativeModules } from 'react-native';
+import { AppState, NativeEventEmitter, NativeModules } from 'react-native';
 
 const mockAEPCore = {
   extensionVersion: jest.fn(() => Promise.resolve('1.0.0')),
@@ -24,9 +24,15 @@ const mockAEPCore = {
   getPrivacyStatus: jest.fn(() => Promise.resolve(PrivacyStatus.OPT_IN)),
   getSdkIdentities: jest.fn(() => Promise.resolve('identities')),
   dispatchEvent: jest.fn(() => Promise.resolve(true)),
+  dispatchEvents: jest.fn((_events: Event[]) => Promise.resolve(true)),
   dispatchEventWithResponseCallback: jest.fn((event: Event, _timeoutMS: Number) => Promise.resolve(event)),
   trackAction: jest.fn((_action?: string, _contextData?: Record<string, string>) => Promise.resolve()),
   trackState: jest.fn((_state?: string, _contextData?: Record<string, string>) => Promise.resolve()),
+  trackBatch: jest.fn((_entries: Array<Record<string, any>>) => Promise.resolve()),
+  registerEventListener: jest.fn((_eventType: string, _eventSource: string, _fieldPaths: string[] | null) => Promise.resolve('1')),
+  unregisterEventListener: jest.fn((_listenerId: string) => Promise.resolve()),
+  addListener: jest.fn(),
+  removeListeners: jest.fn(),
   setAdvertisingIdentifier: jest.fn((_advertisingIdentifier?: string) => Promise.resolve()),
   setPushIdentifier: jest.fn((_pushIdentifier?: string) => Promise.resolve()),
   collectPii: jest.fn((_data: Record<string, string>) => Promise.resolve()),
@@ -98,6 +104,68 @@ describe('MobileCore', () => {
     expect(mockAEPCore.dispatchEvent).toHaveBeenCalledWith(testEvent);
   });
 
+  it('dispatchEvents is called once with all events', async () => {
+    const events = [
+      new Event('event1', 'eventType', 'eventSource', { index: 1 }),
+      new Event('event2', 'eventType', 'eventSource', { index: 2 })
+    ];
+    await expect(MobileCore.dispatchEvents(events)).resolves.toBe(true);
+    expect(mockAEPCore.dispatchEvents).toHaveBeenCalledTimes(1);
+    expect(mockAEPCore.dispatchEvents).toHaveBeenCalledWith(events);
+  });
+
+  it('dispatchEvents resolves without a native call for no events', async () => {
+    await expect(MobileCore.dispatchEvents([])).resolves.toBe(true);
+    expect(mockAEPCore.dispatchEvents).not.toHaveBeenCalled();
+  });
+
+  it('registerEventListener forwards native events to the listener until removed', async () => {
+    let onEvent: (body: any) => void = () => {};
+    const remove = jest.fn();
+    const spy = jest
+      .spyOn(NativeEventEmitter.prototype, 'addListener')
+      .mockImplementation((_eventName: string, listener: (body: any) => void) => {
+        onEvent = listener;
+        return { remove } as any;
+      });
+    const listener = jest.fn();
+
+    const subscription = await MobileCore.registerEventListener(
+      'com.adobe.eventType.edge',
+      'com.adobe.eventSource.responseContent',
+      ['payload.id'],
+      listener
+    );
+    expect(mockAEPCore.registerEventListener).toHaveBeenCalledWith(
+      'com.adobe.eventType.edge',
+      'com.adobe.eventSource.responseContent',
+      ['payload.id']
+    );
+    expect(spy).toHaveBeenCalledWith('onEvent', expect.any(Function));
+
+    const eventData = { payload: { id: 'abc' } };
+    onEvent({ listenerId: '2', event: { eventName: 'other' } });
+    onEvent({
+      listenerId: '1',
+      event: {
+        eventName: 'response',
+        eventType: 'com.adobe.eventType.edge',
+        eventSource: 'com.adobe.eventSource.responseContent',
+        eventData
+      }
+    });
+    expect(listener).toHaveBeenCalledTimes(1);
+    expect(listener.mock.calls[0][0]).toBeInstanceOf(Event);
+    expect(listener.mock.calls[0][0].eventData).toEqual(eventData);
+
+    subscription.remove();
+    subscription.remove();
+    expect(mockAEPCore.unregisterEventListener).toHaveBeenCalledTimes(1);
+    expect(mockAEPCore.unregisterEventListener).toHaveBeenCalledWith('1');
+    expect(remove).toHaveBeenCalledTimes(1);
+    spy.mockRestore();
+  });
+
   it('dispatchEventWithResponseCallback is called with correct parameters', async () => {
     let testEvent = new Event('eventName', 'eventType', 'eventSource', {
       testDataKey: 'testDataValue',
@@ -120,6 +188,50 @@ describe('MobileCore', () => {
     expect(mockAEPCore.trackState).toHaveBeenCalledWith(stateName, contextData);
   });
 
+  describe('track batching', () => {
+    afterEach(() => {
+      MobileCore.setTrackBatching(null);
+    });
+
+    it('buffers trackAction and trackState and sends them in order in one call', async () => {
+      MobileCore.setTrackBatching({ maxBatchSize: 3 });
+      MobileCore.trackAction('a1', { k: 'v' });
+      MobileCore.trackState('s1');
+      expect(mockAEPCore.trackAction).not.toHaveBeenCalled();
+      expect(mockAEPCore.trackBatch).not.toHaveBeenCalled();
+
+      MobileCore.trackAction('a2');
+      expect(mockAEPCore.trackBatch).toHaveBeenCalledTimes(1);
+      expect(mockAEPCore.trackBatch).toHaveBeenCalledWith([
+        { type: 'action', name: 'a1', contextData: { k: 'v' } },
+        { type: 'state', name: 's1', contextData: undefined },
+        { type: 'action', name: 'a2', contextData: undefined }
+      ]);
+    });
+
+    it('flushes when the app leaves the foreground', async () => {
+      const addListenerSpy = jest.spyOn(AppState, 'addEventListener');
+      MobileCore.setTrackBatching({});
+      MobileCore.trackAction('a1');
+
+      const onChange = addListenerSpy.mock.calls[0][1];
+      onChange('background');
+      expect(mockAEPCore.trackBatch).toHaveBeenCalledWith([
+        { type: 'action', name: 'a1', contextData: undefined }
+      ]);
+    });
+
+    it('flushes the buffer and tracks directly once disabled', async () => {
+      MobileCore.setTrackBatching({});
+      MobileCore.trackState('s1');
+      MobileCore.setTrackBatching(null);
+      expect(mockAEPCore.trackBatch).toHaveBeenCalledTimes(1);
+
+      MobileCore.trackState('s2');
+      expect(mockAEPCore.trackState).toHaveBeenCalledWith('s2', undefined);
+    });
+  });
+
   it('setAdvertisingIdentifier is called with correct parameters', async () => {
     let adId = 'testAdId';
     MobileCore.setAdvertisingIdentifier(adId);
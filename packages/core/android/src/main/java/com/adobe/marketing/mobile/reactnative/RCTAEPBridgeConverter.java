@@ -0,0 +1,307 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative;
+
+import androidx.annotation.VisibleForTesting;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * Converts between React Native bridge types and the Java collections used by the AEP SDK.
+ * <p>
+ * Shared by all AEP React Native packages. Incoming {@link ReadableMap} and {@link ReadableArray} values
+ * are read with a single {@link ReadableMap#toHashMap()} / {@link ReadableArray#toArrayList()} call
+ * instead of a {@code getType} plus typed getter per key, so a payload crosses JNI once regardless of
+ * its size. Numbers are returned as {@link Double} and nested arrays as {@link List}.
+ */
+public final class RCTAEPBridgeConverter {
+
+    /**
+     * Creates the writable containers returned to JS.
+     */
+    public interface WritableFactory {
+        WritableMap createMap();
+
+        WritableArray createArray();
+    }
+
+    private static final WritableFactory NATIVE_WRITABLE_FACTORY = new WritableFactory() {
+        @Override
+        public WritableMap createMap() {
+            return Arguments.createMap();
+        }
+
+        @Override
+        public WritableArray createArray() {
+            return Arguments.createArray();
+        }
+    };
+
+    private static volatile WritableFactory writableFactory = NATIVE_WRITABLE_FACTORY;
+
+    private RCTAEPBridgeConverter() {}
+
+    /**
+     * Replaces the factory used for writable containers, so conversions can run on a plain JVM
+     * with {@code JavaOnlyMap}/{@code JavaOnlyArray}. Pass null to restore the native factory.
+     *
+     * @param factory the {@link WritableFactory} to use, or null
+     */
+    @VisibleForTesting
+    public static void setWritableFactory(final WritableFactory factory) {
+        writableFactory = factory != null ? factory : NATIVE_WRITABLE_FACTORY;
+    }
+
+    /**
+     * @return a new, empty {@link WritableMap}
+     */
+    public static WritableMap createMap() {
+        return writableFactory.createMap();
+    }
+
+    /**
+     * @return a new, empty {@link WritableArray}
+     */
+    public static WritableArray createArray() {
+        return writableFactory.createArray();
+    }
+
+    /**
+     * Converts a {@link ReadableMap} into a {@link Map}, keeping {@code null} values.
+     *
+     * @param readableMap the map received from JS
+     * @return a mutable {@link Map}, or null if {@code readableMap} is null
+     */
+    public static Map<String, Object> toMap(final ReadableMap readableMap) {
+        if (readableMap == null) {
+            return null;
+        }
+
+        final Map<String, Object> map = readableMap.toHashMap();
+        normalizeMap(map);
+        return map;
+    }
+
+    /**
+     * Converts a {@link ReadableArray} into a {@link List}.
+     *
+     * @param readableArray the array received from JS
+     * @return a mutable {@link List}, or null if {@code readableArray} is null
+     */
+    public static List<Object> toList(final ReadableArray readableArray) {
+        if (readableArray == null) {
+            return null;
+        }
+
+        final List<Object> list = readableArray.toArrayList();
+        normalizeList(list);
+        return list;
+    }
+
+    /**
+     * Converts a {@link ReadableMap} into a {@link Map} of strings.
+     * Entries whose value is neither a string nor {@code null} are dropped.
+     *
+     * @param readableMap the map received from JS
+     * @return a mutable {@link Map}, or null if {@code readableMap} is null
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> toStringMap(final ReadableMap readableMap) {
+        if (readableMap == null) {
+            return null;
+        }
+
+        // Filter the converted map in place rather than copying into a second one.
+        final Map<String, Object> map = readableMap.toHashMap();
+        final Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Object value = iterator.next().getValue();
+            if (value != null && !(value instanceof String)) {
+                iterator.remove();
+            }
+        }
+
+        return (Map<String, String>) (Map<String, ?>) map;
+    }
+
+    /**
+     * Converts a {@link ReadableArray} into a {@link List} of strings.
+     * Elements that are not strings are dropped.
+     *
+     * @param readableArray the array received from JS
+     * @return a mutable {@link List}, or null if {@code readableArray} is null
+     */
+    public static List<String> toStringList(final ReadableArray readableArray) {
+        if (readableArray == null) {
+            return null;
+        }
+
+        final List<Object> values = readableArray.toArrayList();
+        final List<String> list = new ArrayList<>(values.size());
+        for (final Object value : values) {
+            if (value instanceof String) {
+                list.add((String) value);
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Converts a {@link Map} into a {@link WritableMap}. The source map is not modified.
+     *
+     * @param map the map to send to JS
+     * @return a {@link WritableMap}, or null if {@code map} is null
+     */
+    public static WritableMap toWritableMap(final Map<String, ?> map) {
+        if (map == null) {
+            return null;
+        }
+
+        final WritableMap writableMap = createMap();
+        for (final Map.Entry<String, ?> entry : map.entrySet()) {
+            putValue(writableMap, entry.getKey(), entry.getValue());
+        }
+
+        return writableMap;
+    }
+
+    /**
+     * Converts a {@link Collection} into a {@link WritableArray}.
+     *
+     * @param collection the values to send to JS
+     * @return a {@link WritableArray}, or null if {@code collection} is null
+     */
+    public static WritableArray toWritableArray(final Collection<?> collection) {
+        if (collection == null) {
+            return null;
+        }
+
+        final WritableArray writableArray = createArray();
+        for (final Object value : collection) {
+            pushValue(writableArray, value);
+        }
+
+        return writableArray;
+    }
+
+    /**
+     * Converts an {@code Object[]} into a {@link WritableArray}.
+     *
+     * @param array the values to send to JS
+     * @return a {@link WritableArray}, or null if {@code array} is null
+     */
+    public static WritableArray toWritableArray(final Object[] array) {
+        if (array == null) {
+            return null;
+        }
+
+        final WritableArray writableArray = createArray();
+        for (final Object value : array) {
+            pushValue(writableArray, value);
+        }
+
+        return writableArray;
+    }
+
+    // Helper methods
+
+    /**
+     * {@link ReadableMap#toHashMap()} on a native map converts nested values in the same call, but
+     * Java-backed maps only copy the top level, so any nested bridge types are converted here.
+     */
+    @SuppressWarnings("unchecked")
+    private static void normalizeMap(final Map<String, Object> map) {
+        for (final Map.Entry<String, Object> entry : map.entrySet()) {
+            final Object value = entry.getValue();
+            if (value instanceof ReadableMap) {
+                entry.setValue(toMap((ReadableMap) value));
+            } else if (value instanceof ReadableArray) {
+                entry.setValue(toList((ReadableArray) value));
+            } else if (value instanceof Map) {
+                normalizeMap((Map<String, Object>) value);
+            } else if (value instanceof List) {
+                normalizeList((List<Object>) value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void normalizeList(final List<Object> list) {
+        final ListIterator<Object> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            final Object value = iterator.next();
+            if (value instanceof ReadableMap) {
+                iterator.set(toMap((ReadableMap) value));
+            } else if (value instanceof ReadableArray) {
+                iterator.set(toList((ReadableArray) value));
+            } else if (value instanceof Map) {
+                normalizeMap((Map<String, Object>) value);
+            } else if (value instanceof List) {
+                normalizeList((List<Object>) value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void putValue(final WritableMap writableMap, final String key, final Object value) {
+        if (value == null) {
+            writableMap.putNull(key);
+        } else if (value instanceof String) {
+            writableMap.putString(key, (String) value);
+        } else if (value instanceof Boolean) {
+            writableMap.putBoolean(key, (Boolean) value);
+        } else if (value instanceof Integer) {
+            writableMap.putInt(key, (Integer) value);
+        } else if (value instanceof Number) {
+            writableMap.putDouble(key, ((Number) value).doubleValue());
+        } else if (value instanceof Map) {
+            writableMap.putMap(key, toWritableMap((Map<String, ?>) value));
+        } else if (value instanceof Collection) {
+            writableMap.putArray(key, toWritableArray((Collection<?>) value));
+        } else if (value instanceof Object[]) {
+            writableMap.putArray(key, toWritableArray((Object[]) value));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void pushValue(final WritableArray writableArray, final Object value) {
+        if (value == null) {
+            writableArray.pushNull();
+        } else if (value instanceof String) {
+            writableArray.pushString((String) value);
+        } else if (value instanceof Boolean) {
+            writableArray.pushBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            writableArray.pushInt((Integer) value);
+        } else if (value instanceof Number) {
+            writableArray.pushDouble(((Number) value).doubleValue());
+        } else if (value instanceof Map) {
+            writableArray.pushMap(toWritableMap((Map<String, ?>) value));
+        } else if (value instanceof Collection) {
+            writableArray.pushArray(toWritableArray((Collection<?>) value));
+        } else if (value instanceof Object[]) {
+            writableArray.pushArray(toWritableArray((Object[]) value));
+        }
+    }
+}
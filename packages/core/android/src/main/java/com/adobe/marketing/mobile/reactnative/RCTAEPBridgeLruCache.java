@@ -0,0 +1,199 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe LRU cache of the models kept by a module for later calls from JS, bounded by entry count and by
+ * entry age. It keeps hit, miss, eviction and expiration counts, and the estimated bytes held when created
+ * with a {@link Sizer}.
+ */
+public final class RCTAEPBridgeLruCache<V> {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+    public static final long DEFAULT_MAX_AGE_MS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Estimates the memory held by a cached value, for the cache statistics only.
+     */
+    public interface Sizer<V> {
+        long estimateBytes(V value);
+    }
+
+    @Nullable
+    private final Sizer<V> sizer;
+    // Access ordered, so the least recently used entry comes first.
+    private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private long maxAgeMs = DEFAULT_MAX_AGE_MS;
+    private long bytesEstimate;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public RCTAEPBridgeLruCache() {
+        this(null);
+    }
+
+    /**
+     * @param sizer estimates the bytes held by each value, or null to leave them out of the statistics
+     */
+    public RCTAEPBridgeLruCache(@Nullable final Sizer<V> sizer) {
+        this.sizer = sizer;
+    }
+
+    /**
+     * @param key the value key
+     * @return the value, or null if it is not cached or has expired
+     */
+    @Nullable
+    public synchronized V get(final String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && isExpired(entry, now())) {
+            removeEntry(key);
+            expirations++;
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    public synchronized void put(final String key, final V value) {
+        final long now = now();
+        final Entry<V> entry = new Entry<>(value, sizer != null ? sizer.estimateBytes(value) : 0, now);
+        final Entry<V> previous = entries.put(key, entry);
+        if (previous != null) {
+            bytesEstimate -= previous.bytesEstimate;
+        }
+        bytesEstimate += entry.bytesEstimate;
+        trim(now);
+    }
+
+    @Nullable
+    public synchronized V remove(final String key) {
+        final Entry<V> entry = removeEntry(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * @return a snapshot of the live values, least recently used first
+     */
+    public synchronized List<V> values() {
+        trim(now());
+        final List<V> values = new ArrayList<>(entries.size());
+        for (final Entry<V> entry : entries.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytesEstimate = 0;
+    }
+
+    /**
+     * @param maxEntries maximum number of entries, values below 1 are treated as 1
+     * @param maxAgeMs maximum time an entry is kept after it is put, 0 or less for no limit
+     */
+    public synchronized void setLimits(final int maxEntries, final long maxAgeMs) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxAgeMs = maxAgeMs;
+        trim(now());
+    }
+
+    /**
+     * @return size, limits, hits, misses, evictions (over the size limit), expirations (over the age limit) and,
+     * with a {@link Sizer}, an estimate of the bytes held by the cached values
+     */
+    public synchronized WritableMap getStats() {
+        trim(now());
+        final WritableMap stats = RCTAEPBridgeConverter.createMap();
+        stats.putInt("size", entries.size());
+        stats.putInt("maxEntries", maxEntries);
+        stats.putDouble("maxAgeMs", maxAgeMs);
+        stats.putDouble("hits", hits);
+        stats.putDouble("misses", misses);
+        stats.putDouble("evictions", evictions);
+        stats.putDouble("expirations", expirations);
+        if (sizer != null) {
+            stats.putDouble("bytesEstimate", bytesEstimate);
+        }
+        return stats;
+    }
+
+    // Helper methods
+
+    private void trim(final long now) {
+        if (maxAgeMs > 0) {
+            for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext();) {
+                final Entry<V> entry = it.next();
+                if (isExpired(entry, now)) {
+                    it.remove();
+                    bytesEstimate -= entry.bytesEstimate;
+                    expirations++;
+                }
+            }
+        }
+
+        final Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            bytesEstimate -= eldest.next().bytesEstimate;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    @Nullable
+    private Entry<V> removeEntry(final String key) {
+        final Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            bytesEstimate -= entry.bytesEstimate;
+        }
+        return entry;
+    }
+
+    private boolean isExpired(final Entry<V> entry, final long now) {
+        return maxAgeMs > 0 && now - entry.createdAtMs > maxAgeMs;
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long bytesEstimate;
+        final long createdAtMs;
+
+        Entry(final V value, final long bytesEstimate, final long createdAtMs) {
+            this.value = value;
+            this.bytesEstimate = bytesEstimate;
+            this.createdAtMs = createdAtMs;
+        }
+    }
+}
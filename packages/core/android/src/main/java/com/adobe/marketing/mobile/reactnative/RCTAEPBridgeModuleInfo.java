@@ -0,0 +1,33 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative;
+
+import com.facebook.react.module.model.ReactModuleInfo;
+
+/**
+ * Describes the native modules of the AEP packages to {@code BaseReactPackage}, which creates them on first
+ * access from JS.
+ */
+public final class RCTAEPBridgeModuleInfo {
+
+    private RCTAEPBridgeModuleInfo() {}
+
+    /**
+     * @param name          the module name JS looks it up by
+     * @param moduleClass   the module class
+     * @param isTurboModule true if the module implements a codegen spec and the new architecture is enabled
+     * @return the module info of a module that is created lazily, without constants to export eagerly
+     */
+    public static ReactModuleInfo create(final String name, final Class<?> moduleClass, final boolean isTurboModule) {
+        return new ReactModuleInfo(name, moduleClass.getName(), false, false, false, isTurboModule);
+    }
+}
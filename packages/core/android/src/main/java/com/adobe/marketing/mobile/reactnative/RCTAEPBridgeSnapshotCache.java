@@ -0,0 +1,100 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe LRU cache of the {@link WritableMap} a model was converted to, keyed by the model id.
+ * <p>
+ * Each snapshot is stored with the content it was converted from, such as the model event data, and is
+ * only reused for content that is {@link Object#equals equal}, so a model that changed under the same id
+ * is always converted again. A {@link WritableMap} is consumed when it is sent to JS, so
+ * the stored snapshot is never handed out: callers receive a {@link WritableMap#copy()}, which for
+ * native maps is a single JNI call instead of one call per field.
+ */
+public final class RCTAEPBridgeSnapshotCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 200;
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Snapshot> snapshots;
+
+    public RCTAEPBridgeSnapshotCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries maximum number of snapshots, the least recently used one is dropped first
+     */
+    public RCTAEPBridgeSnapshotCache(final int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+        // Access ordered, so the least recently used snapshot comes first.
+        this.snapshots = new LinkedHashMap<String, Snapshot>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Snapshot> eldest) {
+                return size() > RCTAEPBridgeSnapshotCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param id the model id
+     * @param content the model content
+     * @return a copy of the snapshot converted from equal content, or null if there is none
+     */
+    @Nullable
+    public synchronized WritableMap get(final String id, final Object content) {
+        final Snapshot snapshot = snapshots.get(id);
+        if (snapshot == null || !snapshot.content.equals(content)) {
+            return null;
+        }
+
+        return snapshot.map.copy();
+    }
+
+    /**
+     * Stores a converted model, replacing any snapshot of a previous version of it.
+     *
+     * @param id the model id
+     * @param content the content the model was converted from, which must not be modified afterwards
+     * @param map the converted model, which must not be sent to JS or modified afterwards
+     * @return a copy of {@code map} for the caller to send
+     */
+    public synchronized WritableMap put(final String id, final Object content, final WritableMap map) {
+        snapshots.put(id, new Snapshot(content, map));
+        return map.copy();
+    }
+
+    public synchronized void remove(final String id) {
+        snapshots.remove(id);
+    }
+
+    public synchronized void clear() {
+        snapshots.clear();
+    }
+
+    private static final class Snapshot {
+        final Object content;
+        final WritableMap map;
+
+        Snapshot(final Object content, final WritableMap map) {
+            this.content = content;
+            this.map = map;
+        }
+    }
+}
@@ -15,8 +15,18 @@ import com.adobe.marketing.mobile.Event;
 import com.adobe.marketing.mobile.LoggingMode;
 import com.adobe.marketing.mobile.MobilePrivacyStatus;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.WritableNativeMap;
 
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 final class RCTAEPCoreDataBridge {
 
     // @{link LoggingMode}
@@ -48,7 +58,7 @@ final class RCTAEPCoreDataBridge {
         }
 
         Event event = new Event.Builder(getNullableString(map, EVENT_NAME_KEY), getNullableString(map, EVENT_TYPE_KEY), getNullableString(map, EVENT_SOURCE_KEY))
-                .setEventData(RCTAEPMapUtil.toMap(map.getMap(EVENT_DATA_KEY)))
+                .setEventData(RCTAEPBridgeConverter.toMap(map.getMap(EVENT_DATA_KEY)))
                 .build();
         return event;
     }
@@ -62,10 +72,69 @@ final class RCTAEPCoreDataBridge {
         map.putString(EVENT_NAME_KEY, event.getName());
         map.putString(EVENT_TYPE_KEY, event.getType());
         map.putString(EVENT_SOURCE_KEY, event.getSource());
-        map.putMap(EVENT_DATA_KEY, RCTAEPMapUtil.toWritableMap(event.getEventData()));
+        map.putMap(EVENT_DATA_KEY, RCTAEPBridgeConverter.toWritableMap(event.getEventData()));
+        return map;
+    }
+
+    /**
+     * Converts an {@link Event} into a {@link WritableMap} holding only the requested event data.
+     *
+     * @param event the event to convert
+     * @param fieldPaths event data paths to keep, each split on '.', or null to keep all of the event data
+     * @return A {@link WritableMap} with the event name, type, source and the projected event data
+     */
+    static WritableMap writableMapFromEvent(final Event event, @Nullable final List<String[]> fieldPaths) {
+        final WritableMap map = RCTAEPBridgeConverter.createMap();
+        map.putString(EVENT_NAME_KEY, event.getName());
+        map.putString(EVENT_TYPE_KEY, event.getType());
+        map.putString(EVENT_SOURCE_KEY, event.getSource());
+        map.putMap(EVENT_DATA_KEY, RCTAEPBridgeConverter.toWritableMap(projectEventData(event.getEventData(), fieldPaths)));
         return map;
     }
 
+    /**
+     * Copies the values at the given paths of the event data into a new map with the same nesting.
+     * Paths that are missing from the event data are skipped.
+     *
+     * @param eventData the event data
+     * @param fieldPaths event data paths to keep, each split on '.', or null to keep all of the event data
+     * @return the projected event data
+     */
+    static Map<String, Object> projectEventData(final Map<String, Object> eventData, @Nullable final List<String[]> fieldPaths) {
+        if (eventData == null || fieldPaths == null) {
+            return eventData;
+        }
+
+        final Map<String, Object> projected = new HashMap<>();
+        // Maps created here, as opposed to event data values copied in whole, which must not be modified.
+        final Set<Object> createdMaps = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        createdMaps.add(projected);
+        for (final String[] path : fieldPaths) {
+            if (path.length == 0 || !containsPath(eventData, path)) {
+                continue;
+            }
+
+            Map<String, Object> target = projected;
+            for (int i = 0; i < path.length - 1 && target != null; i++) {
+                Object child = target.get(path[i]);
+                if (child == null) {
+                    child = new HashMap<String, Object>();
+                    createdMaps.add(child);
+                    target.put(path[i], child);
+                }
+                // A shorter path already copied this value in whole.
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> childMap = createdMaps.contains(child) ? (Map<String, Object>) child : null;
+                target = childMap;
+            }
+            if (target != null) {
+                target.put(path[path.length - 1], valueAtPath(eventData, path));
+            }
+        }
+
+        return projected;
+    }
+
     /**
      * Takes in a {@link String} and returns the associated enum {error, warning, debug, verbose}
      *
@@ -139,6 +208,27 @@ final class RCTAEPCoreDataBridge {
 
     // Helper methods
 
+    private static boolean containsPath(final Map<String, Object> map, final String[] path) {
+        Object value = map;
+        for (final String key : path) {
+            if (!(value instanceof Map) || !((Map<?, ?>) value).containsKey(key)) {
+                return false;
+            }
+            value = ((Map<?, ?>) value).get(key);
+        }
+
+        return true;
+    }
+
+    private static Object valueAtPath(final Map<String, Object> map, final String[] path) {
+        Object value = map;
+        for (final String key : path) {
+            value = ((Map<?, ?>) value).get(key);
+        }
+
+        return value;
+    }
+
     static String getNullableString(final ReadableMap data, final String key) {
         return data.hasKey(key) ? data.getString(key) : null;
     }
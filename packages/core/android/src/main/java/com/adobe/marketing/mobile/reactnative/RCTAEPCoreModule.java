@@ -21,22 +21,30 @@ import com.adobe.marketing.mobile.services.Log;
 import com.adobe.marketing.mobile.LoggingMode;
 import com.adobe.marketing.mobile.MobileCore;
 import com.adobe.marketing.mobile.MobilePrivacyStatus;
-import com.adobe.marketing.mobile.WrapperType;
 import com.facebook.react.bridge.Callback;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
 
 import android.app.Application;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-public class RCTAEPCoreModule extends ReactContextBaseJavaModule {
+public class RCTAEPCoreModule extends NativeAEPCoreSpec {
+    public static final String NAME = "AEPCore";
 
     private final static String TAG = "RCTAEPCoreModule";
 
@@ -48,17 +56,30 @@ public class RCTAEPCoreModule extends ReactContextBaseJavaModule {
     private final static String LIFECYCLE_ADDITIONAL_CONTEXT_DATA = "lifecycleAdditionalContextData";
     private final static String LIFECYCLE_AUTOMATIC_TACKING_ENABLED = "lifecycleAutomaticTrackingEnabled";
     private final static String ERROR_MESSAGE = "Error parsing lifecycleAdditionalContextData";
+    private final static String TRACK_TYPE_KEY = "type";
+    private final static String TRACK_NAME_KEY = "name";
+    private final static String TRACK_CONTEXT_DATA_KEY = "contextData";
+    private final static String TRACK_TYPE_ACTION = "action";
+    private final static String TRACK_TYPE_STATE = "state";
+    private final static String EVENT_LISTENER_EVENT = "onEvent";
+    private final static String EVENT_LISTENER_ID_KEY = "listenerId";
+    private final static String EVENT_LISTENER_EVENT_KEY = "event";
+    private final static String EVENT_LISTENER_KEY_SEPARATOR = "\u0000";
+
+    // JS event listeners by id, and the type and source pairs registered with MobileCore for them.
+    private final Map<String, EventListenerRegistration> eventListeners = new ConcurrentHashMap<>();
+    private final Set<String> registeredEventListenerKeys = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final AtomicInteger nextEventListenerId = new AtomicInteger();
 
     public RCTAEPCoreModule(ReactApplicationContext reactContext) {
         super(reactContext);
         this.reactContext = reactContext;
-        MobileCore.setWrapperType(WrapperType.REACT_NATIVE);
     }
 
     // Required for RN modules
     @Override
     public String getName() {
-        return "AEPCore";
+        return NAME;
     }
 
     @ReactMethod
@@ -153,7 +174,7 @@ public class RCTAEPCoreModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void updateConfiguration(final ReadableMap configMap) {
-        MobileCore.updateConfiguration(RCTAEPMapUtil.toMap(configMap));
+        MobileCore.updateConfiguration(RCTAEPBridgeConverter.toMap(configMap));
     }
 
     @ReactMethod
@@ -211,17 +232,42 @@ public class RCTAEPCoreModule extends ReactContextBaseJavaModule {
         }
 
         MobileCore.dispatchEvent(event);
+        promise.resolve(true);
+    }
+
+    /**
+     * Builds every event first and dispatches them in order only if all of them could be converted,
+     * resolving once for the whole batch.
+     */
+    @ReactMethod
+    public void dispatchEvents(final ReadableArray eventMaps, final Promise promise) {
+        final int size = eventMaps != null ? eventMaps.size() : 0;
+        final List<Event> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Event event = RCTAEPCoreDataBridge.eventFromReadableMap(eventMaps.getMap(i));
+            if (event == null) {
+                final String message = FAILED_TO_CONVERT_EVENT_MESSAGE + " at index " + i;
+                promise.reject(getName(), message, new Error(message));
+                return;
+            }
+            events.add(event);
+        }
+
+        for (final Event event : events) {
+            MobileCore.dispatchEvent(event);
+        }
+        promise.resolve(true);
     }
 
     @ReactMethod
-    public void dispatchEventWithResponseCallback(final ReadableMap eventMap, final int timeout, final Promise promise) {
+    public void dispatchEventWithResponseCallback(final ReadableMap eventMap, final double timeout, final Promise promise) {
         Event event = RCTAEPCoreDataBridge.eventFromReadableMap(eventMap);
         if (event == null) {
             promise.reject(getName(), FAILED_TO_CONVERT_EVENT_MESSAGE, new Error(FAILED_TO_CONVERT_EVENT_MESSAGE));
             return;
         }
 
-        MobileCore.dispatchEventWithResponseCallback(event, timeout, new AdobeCallbackWithError<Event>(){
+        MobileCore.dispatchEventWithResponseCallback(event, (long) timeout, new AdobeCallbackWithError<Event>(){
             @Override
             public void fail(AdobeError adobeError) {
                 handleError(promise, adobeError, "dispatchEventWithResponseCallback");
@@ -236,12 +282,44 @@ public class RCTAEPCoreModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void trackAction(final String action, final ReadableMap contextData) {
-        MobileCore.trackAction(action, RCTAEPMapUtil.toStringMap(contextData));
+        MobileCore.trackAction(action, RCTAEPBridgeConverter.toStringMap(contextData));
     }
 
     @ReactMethod
     public void trackState(final String state, final ReadableMap contextData) {
-        MobileCore.trackState(state, RCTAEPMapUtil.toStringMap(contextData));
+        MobileCore.trackState(state, RCTAEPBridgeConverter.toStringMap(contextData));
+    }
+
+    /**
+     * Tracks the actions and states buffered by the JS side, in order, in a single bridge call.
+     *
+     * @param entries array of {type: "action" | "state", name, contextData} maps
+     */
+    @ReactMethod
+    public void trackBatch(final ReadableArray entries) {
+        if (entries == null) {
+            return;
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            final ReadableMap entry = entries.getMap(i);
+            if (entry == null) {
+                continue;
+            }
+
+            final String type = entry.hasKey(TRACK_TYPE_KEY) ? entry.getString(TRACK_TYPE_KEY) : null;
+            final String name = entry.hasKey(TRACK_NAME_KEY) ? entry.getString(TRACK_NAME_KEY) : null;
+            final Map<String, String> contextData = entry.hasKey(TRACK_CONTEXT_DATA_KEY)
+                    ? RCTAEPBridgeConverter.toStringMap(entry.getMap(TRACK_CONTEXT_DATA_KEY))
+                    : null;
+            if (TRACK_TYPE_ACTION.equals(type)) {
+                MobileCore.trackAction(name, contextData);
+            } else if (TRACK_TYPE_STATE.equals(type)) {
+                MobileCore.trackState(name, contextData);
+            } else {
+                Log.debug(getName(), TAG, "trackBatch() skipped entry with unknown type: " + type);
+            }
+        }
     }
 
     @ReactMethod
@@ -256,17 +334,17 @@ public class RCTAEPCoreModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void collectPii(final ReadableMap data) {
-        MobileCore.collectPii(RCTAEPMapUtil.toStringMap(data));
+        MobileCore.collectPii(RCTAEPBridgeConverter.toStringMap(data));
     }
 
     @ReactMethod
-    public static void setSmallIconResourceID(final int resourceID) {
-      MobileCore.setSmallIconResourceID(resourceID);
+    public void setSmallIconResourceID(final double resourceID) {
+      MobileCore.setSmallIconResourceID((int) resourceID);
     }
 
     @ReactMethod
-    public static void setLargeIconResourceID(final int resourceID) {
-      MobileCore.setLargeIconResourceID(resourceID);
+    public void setLargeIconResourceID(final double resourceID) {
+      MobileCore.setLargeIconResourceID((int) resourceID);
     }
 
     @ReactMethod
@@ -284,6 +362,95 @@ public class RCTAEPCoreModule extends ReactContextBaseJavaModule {
         MobileCore.resetIdentities();
      }
 
+    /**
+     * Registers a listener for the events of the given type and source. Matching events are emitted to JS as
+     * {@link #EVENT_LISTENER_EVENT}, with only the requested event data paths.
+     *
+     * @param eventType the event type, or the wildcard type for any type
+     * @param eventSource the event source, or the wildcard source for any source
+     * @param fieldPaths dot separated event data paths to send to JS, or null for all of the event data
+     * @param promise resolves with the listener id to pass to {@link #unregisterEventListener(String)}
+     */
+    @ReactMethod
+    public void registerEventListener(final String eventType, final String eventSource,
+                                      final ReadableArray fieldPaths, final Promise promise) {
+        if (eventType == null || eventSource == null) {
+            promise.reject(getName(), "Event type and source are required", new Error("Event type and source are required"));
+            return;
+        }
+
+        List<String[]> paths = null;
+        if (fieldPaths != null) {
+            paths = new ArrayList<>(fieldPaths.size());
+            for (int i = 0; i < fieldPaths.size(); i++) {
+                final String path = fieldPaths.getString(i);
+                if (path != null && !path.isEmpty()) {
+                    paths.add(path.split("\\."));
+                }
+            }
+        }
+
+        final String listenerId = String.valueOf(nextEventListenerId.incrementAndGet());
+        final String key = eventType + EVENT_LISTENER_KEY_SEPARATOR + eventSource;
+        eventListeners.put(listenerId, new EventListenerRegistration(key, paths));
+        // MobileCore has no API to remove a listener, so each type and source pair is registered once
+        // and dispatches to the JS listeners registered for it at the time of the event.
+        if (registeredEventListenerKeys.add(key)) {
+            MobileCore.registerEventListener(eventType, eventSource, new AdobeCallback<Event>() {
+                @Override
+                public void call(final Event event) {
+                    emitEventToListeners(key, event);
+                }
+            });
+        }
+        promise.resolve(listenerId);
+    }
+
+    @ReactMethod
+    public void unregisterEventListener(final String listenerId) {
+        if (listenerId != null) {
+            eventListeners.remove(listenerId);
+        }
+    }
+
+    // Required for React Native built in EventEmitter Calls.
+    @ReactMethod
+    public void addListener(String eventName) {}
+
+    // Required for React Native built in EventEmitter Calls.
+    @ReactMethod
+    public void removeListeners(double count) {}
+
+    private void emitEventToListeners(final String key, final Event event) {
+        if (event == null || !reactContext.hasActiveReactInstance()) {
+            return;
+        }
+
+        for (final Map.Entry<String, EventListenerRegistration> entry : eventListeners.entrySet()) {
+            final EventListenerRegistration registration = entry.getValue();
+            if (!registration.key.equals(key)) {
+                continue;
+            }
+
+            final WritableMap body = RCTAEPBridgeConverter.createMap();
+            body.putString(EVENT_LISTENER_ID_KEY, entry.getKey());
+            body.putMap(EVENT_LISTENER_EVENT_KEY, RCTAEPCoreDataBridge.writableMapFromEvent(event, registration.fieldPaths));
+            reactContext
+                    .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                    .emit(EVENT_LISTENER_EVENT, body);
+        }
+    }
+
+    private static final class EventListenerRegistration {
+        final String key;
+        final List<String[]> fieldPaths;
+
+        EventListenerRegistration(final String key, final List<String[]> fieldPaths) {
+            this.key = key;
+            this.fieldPaths = fieldPaths;
+        }
+    }
+
     private void handleError(final Promise promise, final AdobeError error, final String errorLocation) {
         if (error == null || promise == null) {
             return;
@@ -11,33 +11,54 @@ governing permissions and limitations under the License.
 */
 package com.adobe.marketing.mobile.reactnative;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
-import com.facebook.react.ReactPackage;
+import com.adobe.marketing.mobile.MobileCore;
+import com.adobe.marketing.mobile.WrapperType;
+import com.facebook.react.BaseReactPackage;
 import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.uimanager.ViewManager;
-import com.facebook.react.bridge.JavaScriptModule;
+import com.facebook.react.module.model.ReactModuleInfo;
+import com.facebook.react.module.model.ReactModuleInfoProvider;
 
-public class RCTAEPCorePackage implements ReactPackage {
-    @Override
-    public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-        return Arrays.<NativeModule>asList(new RCTAEPCoreModule(reactContext),
-                new RCTAEPIdentityModule(reactContext),
-                new RCTAEPLifecycleModule(reactContext),
-                new RCTAEPSignalModule(reactContext));
-    }
+import java.util.HashMap;
+import java.util.Map;
 
-    // Deprecated from RN 0.47
-    public List<Class<? extends JavaScriptModule>> createJSModules() {
-        return Collections.emptyList();
+/**
+ * Provides the Core, Identity, Lifecycle and Signal modules.
+ * Modules are described by {@link ReactModuleInfo} and created on first access from JS,
+ * not when the React instance starts.
+ */
+public class RCTAEPCorePackage extends BaseReactPackage {
+
+    public RCTAEPCorePackage() {
+        // Set here as RCTAEPCoreModule is only created on first access from JS.
+        MobileCore.setWrapperType(WrapperType.REACT_NATIVE);
     }
 
     @Override
-    public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
-        return Collections.emptyList();
+    public NativeModule getModule(String name, ReactApplicationContext reactContext) {
+        switch (name) {
+            case RCTAEPCoreModule.NAME:
+                return new RCTAEPCoreModule(reactContext);
+            case RCTAEPIdentityModule.NAME:
+                return new RCTAEPIdentityModule(reactContext);
+            case RCTAEPLifecycleModule.NAME:
+                return new RCTAEPLifecycleModule(reactContext);
+            case RCTAEPSignalModule.NAME:
+                return new RCTAEPSignalModule(reactContext);
+            default:
+                return null;
+        }
     }
 
+    @Override
+    public ReactModuleInfoProvider getReactModuleInfoProvider() {
+        return () -> {
+            Map<String, ReactModuleInfo> moduleInfos = new HashMap<>();
+            moduleInfos.put(RCTAEPCoreModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPCoreModule.NAME, RCTAEPCoreModule.class, BuildConfig.IS_NEW_ARCHITECTURE_ENABLED));
+            moduleInfos.put(RCTAEPIdentityModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPIdentityModule.NAME, RCTAEPIdentityModule.class, false));
+            moduleInfos.put(RCTAEPLifecycleModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPLifecycleModule.NAME, RCTAEPLifecycleModule.class, false));
+            moduleInfos.put(RCTAEPSignalModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPSignalModule.NAME, RCTAEPSignalModule.class, false));
+            return moduleInfos;
+        };
+    }
 }
@@ -0,0 +1,247 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative;
+
+import android.view.Choreographer;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+import com.facebook.react.modules.core.ReactChoreographer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Sends the events of a native module to JS at most once per frame.
+ * <p>
+ * The first event queued after a send asks {@link ReactChoreographer} for the next frame. The frame callback
+ * then hands the pending events to a background thread, so they are converted off the UI thread.
+ * Events queued within a frame are sent together, in the order they were queued. An event queued with the
+ * same coalescing key as a pending one replaces it, so only the latest is sent. Event data is only created
+ * when the frame is sent, and an event is dropped while JS has no listener for it, which is counted per event
+ * from the addListener and removeListeners calls the module forwards to this emitter.
+ * <p>
+ * React Native only passes the number of removed listeners to removeListeners, so the JS side of the module
+ * reports removals with the event name through {@link #removeListeners(String, double)} instead.
+ */
+public final class RCTAEPEventEmitter {
+
+    /**
+     * Creates the data of a queued event when it is sent.
+     */
+    public interface Payload {
+        /**
+         * @return the event data, or null to skip the event
+         */
+        @Nullable
+        Object create();
+    }
+
+    // Prefix of the keys of events that are not coalesced, never the start of an event name.
+    private static final String UNIQUE_KEY_PREFIX = "\u0000";
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    // Shared by the emitters of all modules, so the frames are sent off the UI thread by one thread.
+    private static final Executor SENDER =
+            Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "AEPEventEmitter");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    private final ReactApplicationContext reactContext;
+    private final LinkedHashMap<String, PendingEvent> pendingEvents = new LinkedHashMap<>();
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+    private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(final long frameTimeNanos) {
+            SENDER.execute(flushTask);
+        }
+    };
+    // ReactChoreographer only accepts callbacks on the UI thread.
+    private final Runnable requestFrameTask = new Runnable() {
+        @Override
+        public void run() {
+            ReactChoreographer.getInstance().postFrameCallback(ReactChoreographer.CallbackType.TIMERS_EVENTS, frameCallback);
+        }
+    };
+    private final Map<String, Integer> listenerCounts = new HashMap<>();
+    private int listenerCount;
+    private long nextEventId;
+    private boolean flushScheduled;
+
+    public RCTAEPEventEmitter(final ReactApplicationContext reactContext) {
+        this.reactContext = reactContext;
+    }
+
+    /**
+     * To be called from the addListener method of the module.
+     *
+     * @param eventName name of the event JS listens to
+     */
+    public synchronized void addListener(final String eventName) {
+        listenerCount++;
+        listenerCounts.put(eventName, getListenerCount(eventName) + 1);
+    }
+
+    /**
+     * To be called from the removeListeners method of the module. As the event is not known, the counts per
+     * event are only reset once no listener is left.
+     *
+     * @param count number of JS listeners removed
+     */
+    public synchronized void removeListeners(final double count) {
+        listenerCount = Math.max(0, listenerCount - (int) count);
+        if (listenerCount == 0) {
+            listenerCounts.clear();
+            pendingEvents.clear();
+        }
+    }
+
+    /**
+     * To be called when JS removes listeners of a known event.
+     *
+     * @param eventName name of the event JS listened to
+     * @param count     number of JS listeners removed
+     */
+    public synchronized void removeListeners(final String eventName, final double count) {
+        final int eventListenerCount = getListenerCount(eventName);
+        final int removed = Math.min(eventListenerCount, (int) count);
+        listenerCount = Math.max(0, listenerCount - removed);
+        if (eventListenerCount > removed) {
+            listenerCounts.put(eventName, eventListenerCount - removed);
+            return;
+        }
+
+        listenerCounts.remove(eventName);
+        final Iterator<PendingEvent> iterator = pendingEvents.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().eventName.equals(eventName)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @param eventName name of the event
+     * @return true if JS has at least one listener for the event
+     */
+    public synchronized boolean hasListeners(final String eventName) {
+        return getListenerCount(eventName) > 0;
+    }
+
+    /**
+     * Queues an event to be sent with the next frame.
+     *
+     * @param eventName   name of the event
+     * @param coalesceKey key identifying the event among the pending events with the same name, or null to always
+     *                    send it
+     * @param payload     creates the event data when the event is sent
+     * @return false if the event was dropped because JS has no listener for it
+     */
+    public boolean emit(final String eventName, @Nullable final String coalesceKey, final Payload payload) {
+        synchronized (this) {
+            if (!hasListeners(eventName)) {
+                return false;
+            }
+
+            final String key = coalesceKey != null
+                    ? eventName + KEY_SEPARATOR + coalesceKey
+                    : UNIQUE_KEY_PREFIX + nextEventId++;
+            // Removed first, so the latest event also takes the latest position.
+            pendingEvents.remove(key);
+            pendingEvents.put(key, new PendingEvent(eventName, payload));
+            if (flushScheduled) {
+                return true;
+            }
+            flushScheduled = true;
+        }
+
+        UiThreadUtil.runOnUiThread(requestFrameTask);
+        return true;
+    }
+
+    /**
+     * Sends an event right away, ahead of the pending events. For requests a native thread waits on JS to answer,
+     * which must not wait for the next frame.
+     *
+     * @param eventName name of the event
+     * @param payload   creates the event data
+     * @return false if the event was dropped because JS has no listener for it
+     */
+    public boolean emitNow(final String eventName, final Payload payload) {
+        if (!hasListeners(eventName) || !reactContext.hasActiveReactInstance()) {
+            return false;
+        }
+
+        final Object data = payload.create();
+        if (data != null) {
+            reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class).emit(eventName, data);
+        }
+        return true;
+    }
+
+    private void flush() {
+        final List<PendingEvent> events;
+        synchronized (this) {
+            flushScheduled = false;
+            events = new ArrayList<>(pendingEvents.values());
+            pendingEvents.clear();
+        }
+
+        if (events.isEmpty() || !reactContext.hasActiveReactInstance()) {
+            return;
+        }
+
+        final DeviceEventManagerModule.RCTDeviceEventEmitter emitter =
+                reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
+        for (final PendingEvent event : events) {
+            final Object data = event.payload.create();
+            if (data != null) {
+                emitter.emit(event.eventName, data);
+            }
+        }
+    }
+
+    private int getListenerCount(final String eventName) {
+        final Integer count = listenerCounts.get(eventName);
+        return count != null ? count : 0;
+    }
+
+    private static final class PendingEvent {
+        final String eventName;
+        final Payload payload;
+
+        PendingEvent(final String eventName, final Payload payload) {
+            this.eventName = eventName;
+            this.payload = payload;
+        }
+    }
+}
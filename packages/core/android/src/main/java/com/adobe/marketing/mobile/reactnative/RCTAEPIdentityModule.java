@@ -26,6 +26,7 @@ import com.facebook.react.bridge.WritableNativeArray;
 import java.util.List;
 
 public class RCTAEPIdentityModule extends ReactContextBaseJavaModule {
+    public static final String NAME = "AEPIdentity";
 
     private final ReactApplicationContext reactContext;
 
@@ -37,7 +38,7 @@ public class RCTAEPIdentityModule extends ReactContextBaseJavaModule {
     // Required for RN modules
     @Override
     public String getName() {
-        return "AEPIdentity";
+        return NAME;
     }
 
     @ReactMethod
@@ -47,14 +48,14 @@ public class RCTAEPIdentityModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void syncIdentifiers(final ReadableMap identifiers) {
-        Identity.syncIdentifiers(RCTAEPMapUtil.toStringMap(identifiers));
+        Identity.syncIdentifiers(RCTAEPBridgeConverter.toStringMap(identifiers));
     }
 
     @ReactMethod
     public void syncIdentifiersWithAuthState(final ReadableMap identifiers,
                                 final String authenticationState) {
         VisitorID.AuthenticationState authState = RCTAEPIdentityDataBridge.authenticationStateFromString(authenticationState);
-        Identity.syncIdentifiers(RCTAEPMapUtil.toStringMap(identifiers), RCTAEPIdentityDataBridge.authenticationStateFromString(authenticationState));
+        Identity.syncIdentifiers(RCTAEPBridgeConverter.toStringMap(identifiers), RCTAEPIdentityDataBridge.authenticationStateFromString(authenticationState));
     }
 
     @ReactMethod
@@ -19,6 +19,7 @@ import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 
 public class RCTAEPLifecycleModule extends ReactContextBaseJavaModule {
+    public static final String NAME = "AEPLifecycle";
 
     private final ReactApplicationContext reactContext;
 
@@ -30,7 +31,7 @@ public class RCTAEPLifecycleModule extends ReactContextBaseJavaModule {
     // Required for RN modules
     @Override
     public String getName() {
-        return "AEPLifecycle";
+        return NAME;
     }
 
     @ReactMethod
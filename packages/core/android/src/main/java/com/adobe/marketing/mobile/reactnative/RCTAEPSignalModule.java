@@ -18,6 +18,7 @@ import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 
 public class RCTAEPSignalModule extends ReactContextBaseJavaModule {
+    public static final String NAME = "AEPSignal";
 
     private final ReactApplicationContext reactContext;
 
@@ -29,7 +30,7 @@ public class RCTAEPSignalModule extends ReactContextBaseJavaModule {
     // Required for RN modules
     @Override
     public String getName() {
-        return "AEPSignal";
+        return NAME;
     }
 
     @ReactMethod
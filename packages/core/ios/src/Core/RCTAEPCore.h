@@ -12,8 +12,9 @@ governing permissions and limitations under the License.
 
 
 #import <React/RCTBridgeModule.h>
+#import <React/RCTEventEmitter.h>
 #import <Foundation/Foundation.h>
 
-@interface RCTAEPCore : NSObject <RCTBridgeModule>
+@interface RCTAEPCore : RCTEventEmitter <RCTBridgeModule>
 
 @end
@@ -15,7 +15,12 @@ governing permissions and limitations under the License.
 @import AEPCore;
 #import "RCTAEPCoreDataBridge.h"
 
-@implementation RCTAEPCore
+@implementation RCTAEPCore {
+    // JS event listeners by id, and the type and source pairs registered with AEPMobileCore for them.
+    NSMutableDictionary<NSString *, NSDictionary *> *_eventListeners;
+    NSMutableSet<NSString *> *_registeredEventListenerKeys;
+    NSUInteger _nextEventListenerId;
+}
 
 RCT_EXPORT_MODULE(AEPCore);
 
@@ -27,6 +32,16 @@ static NSString* const APP_ID_KEY = @"appId";
 static NSString* const LIFECYCLE_AUTOMATIC_TRACKING_ENABLED_KEY = @"lifecycleAutomaticTrackingEnabled";
 static NSString* const LIFECYCLE_ADDITIONAL_CONTEXT_DATA_KEY = @"lifecycleAdditionalContextData";
 static NSString* const APP_GROUP_IOS_KEY = @"appGroupIOS";
+static NSString* const TRACK_TYPE_KEY = @"type";
+static NSString* const TRACK_NAME_KEY = @"name";
+static NSString* const TRACK_CONTEXT_DATA_KEY = @"contextData";
+static NSString* const TRACK_TYPE_ACTION = @"action";
+static NSString* const TRACK_TYPE_STATE = @"state";
+static NSString* const EVENT_LISTENER_EVENT = @"onEvent";
+static NSString* const EVENT_LISTENER_ID_KEY = @"listenerId";
+static NSString* const EVENT_LISTENER_EVENT_KEY = @"event";
+static NSString* const EVENT_LISTENER_KEY_KEY = @"key";
+static NSString* const EVENT_LISTENER_FIELD_PATHS_KEY = @"fieldPaths";
 
 - (dispatch_queue_t)methodQueue
 {
@@ -38,6 +53,22 @@ static NSString* const APP_GROUP_IOS_KEY = @"appGroupIOS";
     [AEPMobileCore setWrapperType:AEPWrapperTypeReactNative];
 }
 
+- (instancetype)init {
+    if (self = [super init]) {
+        _eventListeners = [NSMutableDictionary dictionary];
+        _registeredEventListenerKeys = [NSMutableSet set];
+    }
+    return self;
+}
+
+- (NSArray<NSString *> *)supportedEvents {
+    return @[EVENT_LISTENER_EVENT];
+}
+
++ (BOOL)requiresMainQueueSetup {
+    return NO;
+}
+
 - (NSData *)dataFromHexString:(NSString *)string {
     NSMutableData *result = [[NSMutableData alloc] init];
 
@@ -125,6 +156,25 @@ RCT_EXPORT_METHOD(trackState: (nullable NSString*) state data: (nullable NSDicti
     [AEPMobileCore trackState:state data:data];
 }
 
+RCT_EXPORT_METHOD(trackBatch: (nonnull NSArray*) entries) {
+    for (id entry in entries) {
+        if (![entry isKindOfClass:[NSDictionary class]]) {
+            continue;
+        }
+
+        NSString *type = [RCTConvert NSString:entry[TRACK_TYPE_KEY]];
+        NSString *name = [RCTConvert NSString:entry[TRACK_NAME_KEY]];
+        NSDictionary *data = [RCTConvert NSDictionary:entry[TRACK_CONTEXT_DATA_KEY]];
+        if ([TRACK_TYPE_ACTION isEqualToString:type]) {
+            [AEPMobileCore trackAction:name data:data];
+        } else if ([TRACK_TYPE_STATE isEqualToString:type]) {
+            [AEPMobileCore trackState:name data:data];
+        } else {
+            [AEPLog debugWithLabel:EXTENSION_NAME message:[NSString stringWithFormat:@"trackBatch skipped entry with unknown type: %@", type]];
+        }
+    }
+}
+
 RCT_EXPORT_METHOD(dispatchEvent: (nonnull NSDictionary*) eventDict resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
      AEPEvent *event = [RCTAEPCoreDataBridge eventFromDictionary:eventDict];
      if (!event) {
@@ -132,8 +182,28 @@ RCT_EXPORT_METHOD(dispatchEvent: (nonnull NSDictionary*) eventDict resolver:(RCT
          return;
      }
      [AEPMobileCore dispatch:event];
+     resolve(@(YES));
  }
 
+RCT_EXPORT_METHOD(dispatchEvents: (nonnull NSArray*) eventDicts resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    // Build every event first so nothing is dispatched when one of them cannot be converted.
+    NSMutableArray<AEPEvent *> *events = [NSMutableArray arrayWithCapacity:eventDicts.count];
+    for (NSUInteger i = 0; i < eventDicts.count; i++) {
+        NSDictionary *eventDict = [RCTConvert NSDictionary:eventDicts[i]];
+        AEPEvent *event = eventDict ? [RCTAEPCoreDataBridge eventFromDictionary:eventDict] : nil;
+        if (!event) {
+            reject(EXTENSION_NAME, [NSString stringWithFormat:@"%@ at index %lu", FAILED_TO_CONVERT_EVENT_MESSAGE, (unsigned long)i], nil);
+            return;
+        }
+        [events addObject:event];
+    }
+
+    for (AEPEvent *event in events) {
+        [AEPMobileCore dispatch:event];
+    }
+    resolve(@(YES));
+}
+
 RCT_EXPORT_METHOD(dispatchEventWithResponseCallback: (nonnull NSDictionary*) requestEventDict timeoutDuration:(nonnull NSNumber*) timeoutNumber resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
     
     AEPEvent *requestEvent = [RCTAEPCoreDataBridge eventFromDictionary:requestEventDict];
@@ -241,8 +311,44 @@ RCT_EXPORT_METHOD(initialize:(NSDictionary *)initOptionsDict
     }
 }
 
+RCT_EXPORT_METHOD(registerEventListener: (nonnull NSString*) eventType eventSource: (nonnull NSString*) eventSource fieldPaths: (nullable NSArray*) fieldPaths resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    NSString *listenerId = [NSString stringWithFormat:@"%lu", (unsigned long)++_nextEventListenerId];
+    NSString *key = [NSString stringWithFormat:@"%@\n%@", eventType, eventSource];
+    NSMutableDictionary *registration = [NSMutableDictionary dictionaryWithObject:key forKey:EVENT_LISTENER_KEY_KEY];
+    registration[EVENT_LISTENER_FIELD_PATHS_KEY] = fieldPaths;
+    _eventListeners[listenerId] = registration;
+
+    // AEPMobileCore has no API to remove a listener, so each type and source pair is registered once
+    // and dispatches to the JS listeners registered for it at the time of the event.
+    if (![_registeredEventListenerKeys containsObject:key]) {
+        [_registeredEventListenerKeys addObject:key];
+        __weak RCTAEPCore *weakSelf = self;
+        [AEPMobileCore registerEventListenerWithType:eventType source:eventSource listener:^(AEPEvent * _Nonnull event) {
+            dispatch_async(dispatch_get_main_queue(), ^{
+                [weakSelf emitEvent:event toListenersForKey:key];
+            });
+        }];
+    }
+    resolve(listenerId);
+}
+
+RCT_EXPORT_METHOD(unregisterEventListener: (nonnull NSString*) listenerId) {
+    [_eventListeners removeObjectForKey:listenerId];
+}
+
 #pragma mark - Helper methods
 
+- (void) emitEvent:(AEPEvent *) event toListenersForKey:(NSString *) key {
+    [_eventListeners enumerateKeysAndObjectsUsingBlock:^(NSString *listenerId, NSDictionary *registration, BOOL *stop) {
+        if (![registration[EVENT_LISTENER_KEY_KEY] isEqualToString:key]) {
+            return;
+        }
+
+        NSDictionary *eventDict = [RCTAEPCoreDataBridge dictionaryFromEvent:event fieldPaths:registration[EVENT_LISTENER_FIELD_PATHS_KEY]];
+        [self sendEventWithName:EVENT_LISTENER_EVENT body:@{EVENT_LISTENER_ID_KEY: listenerId, EVENT_LISTENER_EVENT_KEY: eventDict}];
+    }];
+}
+
 - (void) handleError:(NSError *) error rejecter:(RCTPromiseRejectBlock) reject {
     if (!error || !reject) {
         return;
@@ -30,4 +30,6 @@ governing permissions and limitations under the License.
 
 + (NSDictionary *_Nonnull)dictionaryFromEvent: (nonnull AEPEvent *) event;
 
++ (NSDictionary *_Nonnull)dictionaryFromEvent: (nonnull AEPEvent *) event fieldPaths: (nullable NSArray<NSString *> *) fieldPaths;
+
 @end
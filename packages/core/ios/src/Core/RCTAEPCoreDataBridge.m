@@ -53,6 +53,61 @@ static NSString* const EVENT_DATA_KEY = @"eventData";
     return eventDict;
 }
 
++ (NSDictionary *)dictionaryFromEvent: (nonnull AEPEvent *) event fieldPaths: (nullable NSArray<NSString *> *) fieldPaths {
+    NSMutableDictionary *eventDict = [NSMutableDictionary dictionary];
+    eventDict[EVENT_NAME_KEY] = event.name;
+    eventDict[EVENT_TYPE_KEY] = event.type;
+    eventDict[EVENT_SOURCE_KEY] = event.source;
+    eventDict[EVENT_DATA_KEY] = fieldPaths ? [self projectEventData:event.data fieldPaths:fieldPaths] : event.data;
+
+    return eventDict;
+}
+
+/// Copies the values at the given dot separated paths of the event data into a new dictionary with the same nesting.
+/// Paths that are missing from the event data are skipped.
++ (NSDictionary *)projectEventData: (nullable NSDictionary *) data fieldPaths: (nonnull NSArray<NSString *> *) fieldPaths {
+    NSMutableDictionary *projected = [NSMutableDictionary dictionary];
+    if (!data) {
+        return projected;
+    }
+
+    // Dictionaries created here, as opposed to event data values copied in whole, which must not be modified.
+    NSHashTable *createdDicts = [NSHashTable hashTableWithOptions:NSPointerFunctionsStrongMemory | NSPointerFunctionsObjectPointerPersonality];
+    [createdDicts addObject:projected];
+    for (NSString *fieldPath in fieldPaths) {
+        if (![fieldPath isKindOfClass:[NSString class]] || fieldPath.length == 0) {
+            continue;
+        }
+
+        NSArray<NSString *> *path = [fieldPath componentsSeparatedByString:@"."];
+        id value = data;
+        for (NSString *key in path) {
+            value = [value isKindOfClass:[NSDictionary class]] ? value[key] : nil;
+            if (!value) {
+                break;
+            }
+        }
+        if (!value) {
+            continue;
+        }
+
+        NSMutableDictionary *target = projected;
+        for (NSUInteger i = 0; i + 1 < path.count && target; i++) {
+            id child = target[path[i]];
+            if (!child) {
+                child = [NSMutableDictionary dictionary];
+                [createdDicts addObject:child];
+                target[path[i]] = child;
+            }
+            // A shorter path already copied this value in whole.
+            target = [createdDicts containsObject:child] ? child : nil;
+        }
+        target[path.lastObject] = value;
+    }
+
+    return projected;
+}
+
 + (AEPPrivacyStatus)privacyStatusFromString: (NSString *) statusString {
     if ([statusString isEqualToString:OPT_IN]) {
         return AEPPrivacyStatusOptedIn;
@@ -10,11 +10,20 @@ OF ANY KIND, either express or implied. See the License for the specific languag
 governing permissions and limitations under the License.
 */
 
-import { NativeModules } from 'react-native';
+import {
+  AppState,
+  AppStateStatus,
+  EmitterSubscription,
+  NativeEventEmitter,
+  NativeEventSubscription,
+  NativeModules
+} from 'react-native';
 import Event from './models/Event';
+import { EventListenerSubscription } from './models/EventListenerSubscription';
 import { LogLevel } from './models/LogLevel';
 import { PrivacyStatus } from './models/PrivacyStatus';
 import { InitOptions } from './models/InitOptions';
+import { TrackBatchOptions } from './models/TrackBatchOptions';
 
 interface IMobileCore {
   extensionVersion: () => Promise<string>;
@@ -26,6 +35,7 @@ interface IMobileCore {
   getPrivacyStatus: () => Promise<PrivacyStatus>;
   getSdkIdentities: () => Promise<string>;
   dispatchEvent: (event: Event) => Promise<boolean>;
+  dispatchEvents: (events: Event[]) => Promise<boolean>;
   dispatchEventWithResponseCallback: (event: Event, timeoutMS:Number) => Promise<Event>;
   trackAction: (action?: string, contextData?: Record<string, any>) => void;
   trackState: (state?: string, contextData?: Record<string, string>) => void;
@@ -39,9 +49,73 @@ interface IMobileCore {
   clearUpdatedConfiguration: () => void;
   initialize: (initOptions: InitOptions) => Promise<void>;
   initializeWithAppId: (appId: string) => Promise<void>;
+  setTrackBatching: (options: TrackBatchOptions | null) => void;
+  flushTrackBatch: () => void;
+  registerEventListener: (
+    eventType: string,
+    eventSource: string,
+    fieldPaths: string[] | null,
+    listener: (event: Event) => void
+  ) => Promise<EventListenerSubscription>;
 }
 
-const RCTAEPCore: IMobileCore = NativeModules.AEPCore;
+interface TrackBatchEntry {
+  type: 'action' | 'state';
+  name?: string;
+  contextData?: Record<string, any>;
+}
+
+interface NativeEventListenerEvent {
+  listenerId: string;
+  event: Event;
+}
+
+const RCTAEPCore: Omit<IMobileCore, 'registerEventListener'> & {
+  trackBatch: (entries: TrackBatchEntry[]) => void;
+  registerEventListener: (
+    eventType: string,
+    eventSource: string,
+    fieldPaths: string[] | null
+  ) => Promise<string>;
+  unregisterEventListener: (listenerId: string) => void;
+} = NativeModules.AEPCore;
+
+const DEFAULT_MAX_BATCH_SIZE = 20;
+const DEFAULT_FLUSH_INTERVAL_MS = 1000;
+
+let trackBatchOptions: Required<TrackBatchOptions> | null = null;
+let trackBuffer: TrackBatchEntry[] = [];
+let flushTimer: ReturnType<typeof setTimeout> | null = null;
+let appStateSubscription: NativeEventSubscription | null = null;
+
+function enqueueTrack(entry: TrackBatchEntry) {
+  trackBuffer.push(entry);
+  if (trackBuffer.length >= trackBatchOptions!.maxBatchSize) {
+    MobileCore.flushTrackBatch();
+  } else if (!flushTimer) {
+    flushTimer = setTimeout(
+      () => MobileCore.flushTrackBatch(),
+      trackBatchOptions!.flushIntervalMs
+    );
+  }
+}
+
+// Listeners registered with registerEventListener by native listener id, all fed by one subscription.
+const eventListeners = new Map<string, (event: Event) => void>();
+let eventSubscription: EmitterSubscription | null = null;
+
+function onNativeEvent({ listenerId, event }: NativeEventListenerEvent) {
+  eventListeners
+    .get(listenerId)
+    ?.(new Event(event.eventName, event.eventType, event.eventSource, event.eventData));
+}
+
+function onAppStateChange(state: AppStateStatus) {
+  // Flush before the app can be suspended or killed in the background.
+  if (state !== 'active') {
+    MobileCore.flushTrackBatch();
+  }
+}
 
 const MobileCore: IMobileCore = {
   /**
@@ -190,6 +264,20 @@ const MobileCore: IMobileCore = {
     return RCTAEPCore.dispatchEvent(event);
   },
 
+  /**
+   * Dispatches several events to the Adobe Mobile SDK in a single call, in order.
+   * No event is dispatched if any of them cannot be converted to a native event.
+   *
+   * @param events Required parameter with the {@link Event} instances to be dispatched.
+   * @return true once all the events have been dispatched, otherwise the promise will return an error.
+   */
+  dispatchEvents(events: Event[]): Promise<boolean> {
+    if (events.length === 0) {
+      return Promise.resolve(true);
+    }
+    return RCTAEPCore.dispatchEvents(events);
+  },
+
   /**
    * This method will be used when the provided {@code Event} is used as a trigger and a response event
    * is expected in return.
@@ -215,6 +303,10 @@ const MobileCore: IMobileCore = {
    * @param  {Record<string, string>} contextData containing context data to attach on this hit
    */
   trackAction(action?: string, contextData?: Record<string, string>) {
+    if (trackBatchOptions) {
+      enqueueTrack({ type: 'action', name: action, contextData });
+      return;
+    }
     RCTAEPCore.trackAction(action, contextData);
   },
 
@@ -229,9 +321,97 @@ const MobileCore: IMobileCore = {
    * @param  {Record<string, string>} contextData containing context data to attach on this hit
    */
   trackState(state?: string, contextData?: Record<string, string>) {
+    if (trackBatchOptions) {
+      enqueueTrack({ type: 'state', name: state, contextData });
+      return;
+    }
     RCTAEPCore.trackState(state, contextData);
   },
 
+  /**
+   * Buffers trackAction and trackState calls and sends them to the native SDK in batches, in order.
+   * The buffer is flushed when it holds `maxBatchSize` calls, `flushIntervalMs` after the first
+   * buffered call, and when the app leaves the foreground.
+   *
+   * @param  {TrackBatchOptions | null} options the batching options, or null to flush the buffer and
+   * send every following call immediately
+   */
+  setTrackBatching(options: TrackBatchOptions | null) {
+    if (!options) {
+      MobileCore.flushTrackBatch();
+      trackBatchOptions = null;
+      appStateSubscription?.remove();
+      appStateSubscription = null;
+      return;
+    }
+
+    trackBatchOptions = {
+      maxBatchSize: Math.max(1, options.maxBatchSize ?? DEFAULT_MAX_BATCH_SIZE),
+      flushIntervalMs: options.flushIntervalMs ?? DEFAULT_FLUSH_INTERVAL_MS
+    };
+    if (!appStateSubscription) {
+      appStateSubscription = AppState.addEventListener('change', onAppStateChange);
+    }
+  },
+
+  /**
+   * Sends the buffered trackAction and trackState calls to the native SDK in a single call.
+   */
+  flushTrackBatch() {
+    if (flushTimer) {
+      clearTimeout(flushTimer);
+      flushTimer = null;
+    }
+    if (trackBuffer.length === 0) {
+      return;
+    }
+
+    const entries = trackBuffer;
+    trackBuffer = [];
+    RCTAEPCore.trackBatch(entries);
+  },
+
+  /**
+   * Registers a listener for the SDK events of the given type and source. Events are filtered in native
+   * code, and only the requested event data paths are sent to JavaScript.
+   *
+   * @param eventType the event type, or `com.adobe.eventType._wildcard_` for any type
+   * @param eventSource the event source, or `com.adobe.eventSource._wildcard_` for any source
+   * @param fieldPaths dot separated event data paths to receive, such as `xdm.eventType`, or null for all of the event data
+   * @param listener called with each matching event
+   * @return Promise a promise that resolves with a subscription to remove the listener
+   */
+  async registerEventListener(
+    eventType: string,
+    eventSource: string,
+    fieldPaths: string[] | null,
+    listener: (event: Event) => void
+  ): Promise<EventListenerSubscription> {
+    const listenerId = await RCTAEPCore.registerEventListener(
+      eventType,
+      eventSource,
+      fieldPaths
+    );
+    eventListeners.set(listenerId, listener);
+    if (!eventSubscription) {
+      eventSubscription = new NativeEventEmitter(
+        NativeModules.AEPCore
+      ).addListener('onEvent', onNativeEvent);
+    }
+    return {
+      remove: () => {
+        if (!eventListeners.delete(listenerId)) {
+          return;
+        }
+        RCTAEPCore.unregisterEventListener(listenerId);
+        if (eventListeners.size === 0) {
+          eventSubscription?.remove();
+          eventSubscription = null;
+        }
+      }
+    };
+  },
+
   /**
    * Submits a generic event containing the provided IDFA with event type `generic.identity`.
    *
@@ -0,0 +1,37 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+
+import { NativeEventEmitter } from 'react-native';
+
+export interface EventEmitterModule {
+  addListener: (eventName: string) => void;
+  removeEventListeners: (eventName: string, count: number) => void;
+}
+
+/**
+ * Creates an event emitter for a single event of a native module that sends its events with the
+ * native RCTAEPEventEmitter. React Native only tells the native module how many listeners were removed,
+ * so the removal is reported with the event name instead, letting the module skip the events no
+ * listener is left for.
+ * @param {EventEmitterModule} nativeModule - the native module sending the event
+ * @param {string} eventName - the event listened to with the returned emitter
+ */
+export function createEventEmitter(
+  nativeModule: EventEmitterModule,
+  eventName: string
+): NativeEventEmitter {
+  return new NativeEventEmitter({
+    addListener: () => nativeModule.addListener(eventName),
+    removeListeners: (count: number) =>
+      nativeModule.removeEventListeners(eventName, count)
+  });
+}
@@ -14,22 +14,30 @@ import Identity from './Identity';
 import Lifecycle from './Lifecycle';
 import MobileCore from './MobileCore';
 import Signal from './Signal';
+import { createEventEmitter, EventEmitterModule } from './eventEmitter';
 import Event from './models/Event';
+import { EventListenerSubscription } from './models/EventListenerSubscription';
 import { LogLevel } from './models/LogLevel';
 import { MobileVisitorAuthenticationState } from './models/MobileVisitorAuthenticationState';
 import { PrivacyStatus } from './models/PrivacyStatus';
+import { TrackBatchOptions } from './models/TrackBatchOptions';
 import VisitorID from './models/VisitorID';
 
 export {
   // Native models
   Event,
+  EventListenerSubscription,
   LogLevel,
   MobileVisitorAuthenticationState,
   PrivacyStatus,
+  TrackBatchOptions,
   VisitorID,
   // Native modules
   Identity,
   Lifecycle,
   MobileCore,
-  Signal
+  Signal,
+  // Utilities for the other extension packages
+  createEventEmitter,
+  EventEmitterModule
 };
@@ -0,0 +1,58 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+
+import type { TurboModule } from 'react-native';
+import { TurboModuleRegistry } from 'react-native';
+
+/**
+ * Codegen spec of the AEPCore native module. With the New Architecture enabled,
+ * Android implements it as a TurboModule called over JSI.
+ */
+export interface Spec extends TurboModule {
+  extensionVersion(): Promise<string>;
+  configureWithAppId(appId: string | null): void;
+  initialize(initOptions: Object): Promise<void>;
+  clearUpdatedConfiguration(): void;
+  updateConfiguration(configMap: Object | null): void;
+  setLogLevel(mode: string): void;
+  getLogLevel(): Promise<string>;
+  setPrivacyStatus(privacyStatus: string): void;
+  getPrivacyStatus(): Promise<string>;
+  getSdkIdentities(): Promise<string>;
+  dispatchEvent(event: Object): Promise<boolean>;
+  dispatchEvents(events: Array<Object>): Promise<boolean>;
+  dispatchEventWithResponseCallback(
+    event: Object,
+    timeout: number
+  ): Promise<Object>;
+  trackAction(action: string | null, contextData: Object | null): void;
+  trackState(state: string | null, contextData: Object | null): void;
+  trackBatch(entries: Array<Object>): void;
+  setAdvertisingIdentifier(advertisingIdentifier: string | null): void;
+  setPushIdentifier(pushIdentifier: string | null): void;
+  collectPii(data: Object): void;
+  setSmallIconResourceID(resourceID: number): void;
+  setLargeIconResourceID(resourceID: number): void;
+  setAppGroup(appGroup: string | null): void;
+  downloadRules(): void;
+  resetIdentities(): void;
+  registerEventListener(
+    eventType: string,
+    eventSource: string,
+    fieldPaths: Array<string> | null
+  ): Promise<string>;
+  unregisterEventListener(listenerId: string): void;
+  addListener(eventName: string): void;
+  removeListeners(count: number): void;
+}
+
+export default TurboModuleRegistry.getEnforcing<Spec>('AEPCore');
@@ -214,6 +214,57 @@ describe('Edge', () => {
     expect(result[0].payload).toEqual({ sample: 'data' });
   });
 
+  it('sendEvent with fireAndForget does not wait for event handles', async () => {
+    const spy = jest.spyOn(NativeModules.AEPEdge, 'sendEventAndForget');
+    const sendEventSpy = jest.spyOn(NativeModules.AEPEdge, 'sendEvent');
+    sendEventSpy.mockClear();
+    let experienceEvent = new ExperienceEvent({ xdmData: { eventType: 'SampleXDMEvent' } });
+    let result = await Edge.sendEvent(experienceEvent, true);
+    expect(spy).toHaveBeenCalledWith(experienceEvent);
+    expect(sendEventSpy).not.toHaveBeenCalled();
+    expect(result).toEqual([]);
+  });
+
+  it('setFireAndForget applies to sendEvent and can be overridden per call', async () => {
+    const spy = jest.spyOn(NativeModules.AEPEdge, 'sendEventAndForget');
+    const sendEventSpy = jest.spyOn(NativeModules.AEPEdge, 'sendEvent');
+    spy.mockClear();
+    sendEventSpy.mockClear();
+    let experienceEvent = new ExperienceEvent({ xdmData: { eventType: 'SampleXDMEvent' } });
+    Edge.setFireAndForget(true);
+    try {
+      await Edge.sendEvent(experienceEvent);
+      expect(spy).toHaveBeenCalledTimes(1);
+      let result = await Edge.sendEvent(experienceEvent, false);
+      expect(sendEventSpy).toHaveBeenCalledWith(experienceEvent);
+      expect(result.length).toEqual(1);
+    } finally {
+      Edge.setFireAndForget(false);
+    }
+  });
+
+  it('sendEvents is called with all events in one call', async () => {
+    const spy = jest.spyOn(NativeModules.AEPEdge, 'sendEvents');
+    let first = new ExperienceEvent({ xdmData: { eventType: 'first' } });
+    let second = new ExperienceEvent({ xdmData: { eventType: 'second' } });
+    let result = await Edge.sendEvents([first, second]);
+    expect(spy).toHaveBeenCalledTimes(1);
+    expect(spy).toHaveBeenCalledWith([first, second], false);
+    expect(result.length).toEqual(2);
+    expect(result[1].length).toEqual(1);
+    expect(result[1][0].type).toEqual('example');
+    expect(result[1][0].payload).toEqual({ sample: 'data' });
+  });
+
+  it('sendEvents with fireAndForget resolves with empty handles', async () => {
+    const spy = jest.spyOn(NativeModules.AEPEdge, 'sendEvents');
+    let first = new ExperienceEvent({ xdmData: { eventType: 'first' } });
+    let second = new ExperienceEvent({ xdmData: { eventType: 'second' } });
+    let result = await Edge.sendEvents([first, second], true);
+    expect(spy).toHaveBeenCalledWith([first, second], true);
+    expect(result).toEqual([[], []]);
+  });
+
   it('setLocationHint is called with correct parameters', async () => {
     const spy = jest.spyOn(NativeModules.AEPEdge, 'setLocationHint');
     Edge.setLocationHint('or2');
@@ -15,11 +15,15 @@ import android.util.Log;
 
 import com.adobe.marketing.mobile.EdgeEventHandle;
 import com.adobe.marketing.mobile.ExperienceEvent;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
-import com.facebook.react.bridge.WritableNativeMap;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 final class RCTAEPEdgeDataBridge {
@@ -43,14 +47,14 @@ final class RCTAEPEdgeDataBridge {
             return null;
         }
 
-        Map<String, Object> xdmdata = RCTAEPEdgeMapUtil.toMap(getNullableMap(map, XDM_DATA_KEY));
+        Map<String, Object> xdmdata = RCTAEPBridgeConverter.toMap(getNullableMap(map, XDM_DATA_KEY));
         String datasetId = null;
         String datastreamIdOverride = null;
         
         if (xdmdata != null) {
 
-            Map<String, Object> data = RCTAEPEdgeMapUtil.toMap(getNullableMap(map, DATA_KEY));
-            Map<String, Object> datastreamConfigOverride = RCTAEPEdgeMapUtil.toMap(getNullableMap(map, DATASTREAM_CONFIG_OVERRIDE_KEY));
+            Map<String, Object> data = RCTAEPBridgeConverter.toMap(getNullableMap(map, DATA_KEY));
+            Map<String, Object> datastreamConfigOverride = RCTAEPBridgeConverter.toMap(getNullableMap(map, DATASTREAM_CONFIG_OVERRIDE_KEY));
 
             try {
                 datasetId = getNullableString(map, DATASET_IDENTIFIER_KEY);
@@ -72,6 +76,48 @@ final class RCTAEPEdgeDataBridge {
         return null;
     }
 
+    /**
+     * Converts a {@link ReadableArray} of experience event maps into {@link ExperienceEvent}s in one pass.
+     *
+     * @param array representing the experience events data
+     * @return the {@link ExperienceEvent}s in the same order, or null if any of them could not be converted
+     */
+    static List<ExperienceEvent> experienceEventsFromReadableArray(final ReadableArray array) {
+        if (array == null) {
+            return null;
+        }
+
+        final int size = array.size();
+        final List<ExperienceEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final ExperienceEvent event = array.getType(i) == ReadableType.Map ? experienceEventFromReadableMap(array.getMap(i)) : null;
+            if (event == null) {
+                Log.d(TAG, "experienceEventsFromReadableArray: invalid experience event at index " + i);
+                return null;
+            }
+            events.add(event);
+        }
+
+        return events;
+    }
+
+    /**
+     * Converts a list of {@link EdgeEventHandle}s into a {@link WritableArray}
+     * @param handles
+     * @return A {@link WritableArray} of event handle maps, empty if {@code handles} is null
+     */
+    static WritableArray arrayFromEdgeEventHandles(final List<EdgeEventHandle> handles) {
+        WritableArray arr = RCTAEPBridgeConverter.createArray();
+        if (handles == null) {
+            return arr;
+        }
+
+        for (EdgeEventHandle handle: handles) {
+            arr.pushMap(mapFromEdgeEventHandle(handle));
+        }
+        return arr;
+    }
+
     /**
      * Converts a {@link EdgeEventHandle} into a {@link WritableMap}
      * @param eventhandle
@@ -82,14 +128,12 @@ final class RCTAEPEdgeDataBridge {
             return null;
         }
 
-        WritableMap eventHandleMap = new WritableNativeMap();
+        WritableMap eventHandleMap = RCTAEPBridgeConverter.createMap();
         if (eventhandle.getType() != null) {
             eventHandleMap.putString(TYPE_KEY, eventhandle.getType());
         }
         if (eventhandle.getPayload() != null) {
-            Object[] handles = new Object[] {eventhandle.getPayload().size()};
-            handles = eventhandle.getPayload().toArray();
-            eventHandleMap.putArray(PAYLOAD_KEY, RCTAEPEdgeArrayUtil.toWritableArray(handles));
+            eventHandleMap.putArray(PAYLOAD_KEY, RCTAEPBridgeConverter.toWritableArray(eventhandle.getPayload()));
         }
         return eventHandleMap;
     }
@@ -10,25 +10,33 @@
  */
 package com.adobe.marketing.mobile.reactnative.edge;
 
+import android.util.Log;
+
 import com.adobe.marketing.mobile.Edge;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.adobe.marketing.mobile.EdgeCallback;
 import com.adobe.marketing.mobile.EdgeEventHandle;
 import com.adobe.marketing.mobile.ExperienceEvent;
 import com.adobe.marketing.mobile.AdobeCallbackWithError;
 import com.adobe.marketing.mobile.AdobeError;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
 import com.facebook.react.bridge.WritableArray;
-import com.facebook.react.bridge.WritableNativeArray;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class RCTAEPEdgeModule extends NativeAEPEdgeSpec {
+  public static final String NAME = "AEPEdge";
 
-public class RCTAEPEdgeModule extends ReactContextBaseJavaModule {
+  private static final String TAG = "RCTAEPEdgeModule";
   private final ReactApplicationContext reactContext;
   private static final String FAILED_TO_CONVERT_EXPERIENCE_EVENT = "Failed to convert map to Experience Event, Experience Event could be null.";
+  private static final String FAILED_TO_CONVERT_EXPERIENCE_EVENTS = "Failed to convert array to Experience Events, no events were sent.";
 
   public RCTAEPEdgeModule(ReactApplicationContext reactContext) {
     super(reactContext);
@@ -37,7 +45,7 @@ public class RCTAEPEdgeModule extends ReactContextBaseJavaModule {
 
   @Override
   public String getName() {
-    return "AEPEdge";
+    return NAME;
   }
 
   @ReactMethod
@@ -57,20 +65,72 @@ public class RCTAEPEdgeModule extends ReactContextBaseJavaModule {
       Edge.sendEvent(experienceEvent, new EdgeCallback() {
           @Override
           public void onComplete(final List<EdgeEventHandle> handles) {
-              WritableArray arr = new WritableNativeArray();
-              if (handles == null) {
-                  promise.resolve(arr);
-                  return;
-              }
-
-              for (EdgeEventHandle handle: handles) {
-                  arr.pushMap(RCTAEPEdgeDataBridge.mapFromEdgeEventHandle(handle));
-              }
-              promise.resolve(arr);
+              promise.resolve(RCTAEPEdgeDataBridge.arrayFromEdgeEventHandles(handles));
           }
       });
   }
 
+  /**
+   * Sends the event without a completion callback, so no {@link EdgeEventHandle} is ever converted.
+   */
+  @ReactMethod
+  public void sendEventAndForget(final ReadableMap experienceEventMap) {
+      ExperienceEvent experienceEvent = RCTAEPEdgeDataBridge.experienceEventFromReadableMap(experienceEventMap);
+      if (experienceEvent == null) {
+          Log.d(TAG, "sendEventAndForget: " + FAILED_TO_CONVERT_EXPERIENCE_EVENT);
+          return;
+      }
+
+      Edge.sendEvent(experienceEvent, null);
+  }
+
+  @ReactMethod
+  public void sendEvents(final ReadableArray experienceEventsArray,
+                         final boolean fireAndForget,
+                         final Promise promise) {
+      final List<ExperienceEvent> experienceEvents = RCTAEPEdgeDataBridge.experienceEventsFromReadableArray(experienceEventsArray);
+      if (experienceEvents == null) {
+          promise.reject(getName(), FAILED_TO_CONVERT_EXPERIENCE_EVENTS, new Error(FAILED_TO_CONVERT_EXPERIENCE_EVENTS));
+          return;
+      }
+
+      if (fireAndForget) {
+          for (ExperienceEvent experienceEvent : experienceEvents) {
+              Edge.sendEvent(experienceEvent, null);
+          }
+          promise.resolve(null);
+          return;
+      }
+
+      final int count = experienceEvents.size();
+      if (count == 0) {
+          promise.resolve(RCTAEPBridgeConverter.createArray());
+          return;
+      }
+
+      // Handles are kept per event and only converted once every event has completed.
+      final AtomicReferenceArray<List<EdgeEventHandle>> handlesByEvent = new AtomicReferenceArray<>(count);
+      final AtomicInteger pending = new AtomicInteger(count);
+      for (int i = 0; i < count; i++) {
+          final int index = i;
+          Edge.sendEvent(experienceEvents.get(i), new EdgeCallback() {
+              @Override
+              public void onComplete(final List<EdgeEventHandle> handles) {
+                  handlesByEvent.set(index, handles);
+                  if (pending.decrementAndGet() != 0) {
+                      return;
+                  }
+
+                  WritableArray result = RCTAEPBridgeConverter.createArray();
+                  for (int j = 0; j < count; j++) {
+                      result.pushArray(RCTAEPEdgeDataBridge.arrayFromEdgeEventHandles(handlesByEvent.get(j)));
+                  }
+                  promise.resolve(result);
+              }
+          });
+      }
+  }
+
   @ReactMethod
   public void setLocationHint(final String hint) {
       Edge.setLocationHint(hint);
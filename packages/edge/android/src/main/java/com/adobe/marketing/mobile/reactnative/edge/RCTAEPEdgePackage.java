@@ -10,29 +10,38 @@
  */
 package com.adobe.marketing.mobile.reactnative.edge;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
-import com.facebook.react.ReactPackage;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeModuleInfo;
+import com.facebook.react.BaseReactPackage;
 import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.uimanager.ViewManager;
-import com.facebook.react.bridge.JavaScriptModule;
+import com.facebook.react.module.model.ReactModuleInfo;
+import com.facebook.react.module.model.ReactModuleInfoProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the Edge module.
+ * Modules are described by {@link ReactModuleInfo} and created on first access from JS,
+ * not when the React instance starts.
+ */
+public class RCTAEPEdgePackage extends BaseReactPackage {
 
-public class RCTAEPEdgePackage implements ReactPackage {
     @Override
-    public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-      return Arrays.<NativeModule>asList(new RCTAEPEdgeModule(reactContext));
-    }
+    public NativeModule getModule(String name, ReactApplicationContext reactContext) {
+        if (RCTAEPEdgeModule.NAME.equals(name)) {
+            return new RCTAEPEdgeModule(reactContext);
+        }
 
-    // Deprecated from RN 0.47
-    public List<Class<? extends JavaScriptModule>> createJSModules() {
-      return Collections.emptyList();
+        return null;
     }
 
     @Override
-    public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
-      return Collections.emptyList();
+    public ReactModuleInfoProvider getReactModuleInfoProvider() {
+        return () -> {
+            Map<String, ReactModuleInfo> moduleInfos = new HashMap<>();
+            moduleInfos.put(RCTAEPEdgeModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPEdgeModule.NAME, RCTAEPEdgeModule.class, BuildConfig.IS_NEW_ARCHITECTURE_ENABLED));
+            return moduleInfos;
+        };
     }
 }
@@ -20,6 +20,7 @@ RCT_EXPORT_MODULE(AEPEdge);
 
 static NSString* const EXTENSION_NAME = @"AEPEdge";
 static NSString* const FAILED_TO_CONVERT_EXPERIENCE_EVENT = @"Failed to convert dictionary to Experience Event, Experience Event could be null.";
+static NSString* const FAILED_TO_CONVERT_EXPERIENCE_EVENTS = @"Failed to convert array to Experience Events, no events were sent.";
 
 - (dispatch_queue_t)methodQueue
 {
@@ -45,6 +46,58 @@ RCT_EXPORT_METHOD(sendEvent: (nonnull NSDictionary*) experienceEventDict resolve
     }];
 }
 
+RCT_EXPORT_METHOD(sendEventAndForget: (nonnull NSDictionary*) experienceEventDict) {
+
+    AEPExperienceEvent *experienceEvent = [RCTAEPExperienceEventDataBridge experienceEventFromDictionary:experienceEventDict];
+
+    if (!experienceEvent) {
+        [AEPLog debugWithLabel:EXTENSION_NAME message:FAILED_TO_CONVERT_EXPERIENCE_EVENT];
+        return;
+    }
+
+    [AEPMobileEdge sendExperienceEvent:experienceEvent completion:nil];
+}
+
+RCT_EXPORT_METHOD(sendEvents: (nonnull NSArray*) experienceEventArray fireAndForget:(BOOL) fireAndForget resolve:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+
+    NSArray<AEPExperienceEvent *> *experienceEvents = [RCTAEPExperienceEventDataBridge experienceEventsFromArray:experienceEventArray];
+
+    if (!experienceEvents) {
+        reject(EXTENSION_NAME, FAILED_TO_CONVERT_EXPERIENCE_EVENTS, nil);
+        return;
+    }
+
+    if (fireAndForget) {
+        for (AEPExperienceEvent *experienceEvent in experienceEvents) {
+            [AEPMobileEdge sendExperienceEvent:experienceEvent completion:nil];
+        }
+        resolve(nil);
+        return;
+    }
+
+    // Handles are kept per event and only converted once every event has completed.
+    NSMutableArray *handlesByEvent = [NSMutableArray arrayWithCapacity:experienceEvents.count];
+    dispatch_group_t group = dispatch_group_create();
+    for (NSUInteger i = 0; i < experienceEvents.count; i++) {
+        [handlesByEvent addObject:[NSNull null]];
+        dispatch_group_enter(group);
+        [AEPMobileEdge sendExperienceEvent:experienceEvents[i] completion:^(NSArray<AEPEdgeEventHandle *> * _Nonnull handles) {
+            @synchronized (handlesByEvent) {
+                handlesByEvent[i] = handles ?: @[];
+            }
+            dispatch_group_leave(group);
+        }];
+    }
+
+    dispatch_group_notify(group, dispatch_get_global_queue(QOS_CLASS_UTILITY, 0), ^{
+        NSMutableArray *result = [NSMutableArray arrayWithCapacity:handlesByEvent.count];
+        for (NSArray<AEPEdgeEventHandle *> *handles in handlesByEvent) {
+            [result addObject:[RCTAEPExperienceEventDataBridge dictionaryFromEdgeEventHandler:handles]];
+        }
+        resolve(result);
+    });
+}
+
 RCT_EXPORT_METHOD(getLocationHint: (RCTPromiseResolveBlock) resolve rejecter:(RCTPromiseRejectBlock)reject) {
     [AEPMobileEdge getLocationHint:^(NSString * _Nullable content, NSError * _Nullable error) {
         if (error) {
@@ -15,6 +15,8 @@
 
 + (AEPExperienceEvent *_Nullable)experienceEventFromDictionary: (nonnull NSDictionary *) dict;
 
++ (NSArray<AEPExperienceEvent *> *_Nullable)experienceEventsFromArray: (nonnull NSArray *) array;
+
 + (NSDictionary *_Nullable)dictionaryFromEdgeEventHandler: (NSArray<AEPEdgeEventHandle *> *_Nullable) experienceEvent;
 
 @end
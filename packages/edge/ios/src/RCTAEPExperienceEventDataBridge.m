@@ -41,6 +41,19 @@ static NSString* const PAYLOAD_KEY = @"payload";
         return [[AEPExperienceEvent alloc] initWithXdm:xdmdata data:data datasetIdentifier:datasetIdentifier];
     }
   }
+
++ (NSArray<AEPExperienceEvent *> *)experienceEventsFromArray: (nonnull NSArray *) array {
+    NSMutableArray<AEPExperienceEvent *> *experienceEvents = [NSMutableArray arrayWithCapacity:array.count];
+    for (id dict in array) {
+        AEPExperienceEvent *experienceEvent = [dict isKindOfClass:[NSDictionary class]] ? [self experienceEventFromDictionary:dict] : nil;
+        if (!experienceEvent) {
+            return nil;
+        }
+        [experienceEvents addObject:experienceEvent];
+    }
+
+    return experienceEvents;
+}
     
 + (NSArray *)dictionaryFromEdgeEventHandler: (NSArray<AEPEdgeEventHandle *> *) experienceEventHandle {
     NSMutableArray *experienceEventArr = [NSMutableArray array];
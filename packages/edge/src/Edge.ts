@@ -17,13 +17,33 @@ import EdgeEventHandle from './models/EdgeEventHandle';
 interface IEdge {
   extensionVersion: () => Promise<string>;
   sendEvent: (
-    experienceEvent: ExperienceEvent
+    experienceEvent: ExperienceEvent,
+    fireAndForget?: boolean
   ) => Promise<Array<EdgeEventHandle>>;
+  sendEvents: (
+    experienceEvents: Array<ExperienceEvent>,
+    fireAndForget?: boolean
+  ) => Promise<Array<Array<EdgeEventHandle>>>;
+  setFireAndForget: (fireAndForget: boolean) => void;
   setLocationHint: (hint?: string | null) => void;
   getLocationHint: () => Promise<string | null>;
 }
 
-const RCTAEPEdge: IEdge = NativeModules.AEPEdge;
+const RCTAEPEdge: Omit<
+  IEdge,
+  'sendEvent' | 'sendEvents' | 'setFireAndForget'
+> & {
+  sendEvent: (
+    experienceEvent: ExperienceEvent
+  ) => Promise<Array<EdgeEventHandle>>;
+  sendEventAndForget: (experienceEvent: ExperienceEvent) => void;
+  sendEvents: (
+    experienceEvents: Array<ExperienceEvent>,
+    fireAndForget: boolean
+  ) => Promise<Array<Array<EdgeEventHandle>> | null>;
+} = NativeModules.AEPEdge;
+
+let fireAndForgetByDefault = false;
 
 const Edge: IEdge = {
   /**
@@ -38,12 +58,23 @@ const Edge: IEdge = {
    * Send an Experience Event to Adobe Experience Edge
    *
    * @param experienceEvent Event to be sent to Adobe Experience Edge
+   * @param fireAndForget If true, the event is sent without waiting for its response, so no
+   * response handles are converted; defaults to the value set with setFireAndForget
    * @return Promise fulfilled when the request is complete, returning the associated
    * response handles received from the Adobe Experience Edge or rejected
    * if an unexpected error occured; it may return an empty array
-   * if no handles were returned for the given experienceEvent
+   * if no handles were returned for the given experienceEvent. If fireAndForget is true,
+   * it is fulfilled with an empty array as soon as the event is dispatched
    */
-  sendEvent(experienceEvent: ExperienceEvent): Promise<Array<EdgeEventHandle>> {
+  sendEvent(
+    experienceEvent: ExperienceEvent,
+    fireAndForget?: boolean
+  ): Promise<Array<EdgeEventHandle>> {
+    if (fireAndForget ?? fireAndForgetByDefault) {
+      RCTAEPEdge.sendEventAndForget(experienceEvent);
+      return Promise.resolve([]);
+    }
+
     const sentEventPromise = new Promise<Array<EdgeEventHandle>>(
       (resolve, reject) => {
         RCTAEPEdge.sendEvent(experienceEvent)
@@ -59,6 +90,45 @@ const Edge: IEdge = {
     return sentEventPromise;
   },
 
+  /**
+   * Send multiple Experience Events to Adobe Experience Edge in a single bridge call
+   *
+   * The events are dispatched in order. If any of them cannot be converted, none are sent.
+   *
+   * @param experienceEvents Events to be sent to Adobe Experience Edge
+   * @param fireAndForget If true, the events are sent without waiting for their responses,
+   * so no response handles are converted; the promise then resolves as soon as the events are dispatched.
+   * Defaults to the value set with setFireAndForget
+   * @return Promise fulfilled with the response handles of each event, in the order of
+   * experienceEvents, once all requests are complete; each entry is an empty array if
+   * fireAndForget is true or no handles were returned for that event
+   */
+  sendEvents(
+    experienceEvents: Array<ExperienceEvent>,
+    fireAndForget?: boolean
+  ): Promise<Array<Array<EdgeEventHandle>>> {
+    return RCTAEPEdge.sendEvents(
+      experienceEvents,
+      fireAndForget ?? fireAndForgetByDefault
+    ).then(
+      (eventHandles) =>
+        experienceEvents.map((_, index) =>
+          toEventHandle(eventHandles ? eventHandles[index] : [])
+        )
+    );
+  },
+
+  /**
+   * Sets whether sendEvent and sendEvents wait for the response handles of the events they send
+   * when no fireAndForget value is passed to them. Use it when the returned promises are not awaited,
+   * so the handles are never converted on the native side. Defaults to false.
+   *
+   * @param {boolean} fireAndForget true to send events without waiting for their response handles
+   */
+  setFireAndForget(fireAndForget: boolean) {
+    fireAndForgetByDefault = fireAndForget;
+  },
+
   /**
    * Set the Edge Network location hint used in requests to the Adobe Experience Platform Edge Network.
    * Sets the Edge Network location hint used in requests to the AEP Edge Network causing requests to "stick" to a specific server cluster.
@@ -17,6 +17,7 @@ import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 
 public class RCTAEPEdgeBridgeModule extends ReactContextBaseJavaModule {
+  public static final String NAME = "AEPEdgeBridge";
 
   private final ReactApplicationContext reactContext;
 
@@ -27,7 +28,7 @@ public class RCTAEPEdgeBridgeModule extends ReactContextBaseJavaModule {
 
   @Override
   public String getName() {
-    return "AEPEdgeBridge";
+    return NAME;
   }
 
   @ReactMethod
@@ -13,6 +13,7 @@ package com.adobe.marketing.mobile.reactnative.edgeconsent;
 import com.adobe.marketing.mobile.AdobeCallbackWithError;
 import com.adobe.marketing.mobile.AdobeError;
 import com.adobe.marketing.mobile.edge.consent.Consent;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
@@ -24,6 +25,8 @@ import com.facebook.react.bridge.WritableMap;
 import java.util.Map;
 
 public class RCTAEPEdgeConsentModule extends ReactContextBaseJavaModule {
+  public static final String NAME = "AEPEdgeConsent";
+
   private final ReactApplicationContext reactContext;
 
   public RCTAEPEdgeConsentModule(ReactApplicationContext reactContext) {
@@ -33,7 +36,7 @@ public class RCTAEPEdgeConsentModule extends ReactContextBaseJavaModule {
 
   @Override
   public String getName() {
-    return "AEPEdgeConsent";
+    return NAME;
   }
 
   @ReactMethod
@@ -43,7 +46,7 @@ public class RCTAEPEdgeConsentModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void update(final ReadableMap consents) {
-    Consent.update(RCTAEPEdgeConsentUtils.toMap(consents));
+    Consent.update(RCTAEPBridgeConverter.toMap(consents));
   }
 
   @ReactMethod
@@ -52,7 +55,7 @@ public class RCTAEPEdgeConsentModule extends ReactContextBaseJavaModule {
       @Override
       public void call(final Map<String, Object> consents) {
         // null is unexpected, handle as empty to resolve the promise
-        WritableMap consentsAsWritableMap = RCTAEPEdgeConsentUtils.toWritableMap(consents);
+        WritableMap consentsAsWritableMap = RCTAEPBridgeConverter.toWritableMap(consents);
         promise.resolve(consentsAsWritableMap != null ? consentsAsWritableMap : Arguments.createMap());
       }
 
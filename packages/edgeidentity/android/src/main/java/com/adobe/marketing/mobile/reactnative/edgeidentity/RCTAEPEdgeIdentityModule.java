@@ -25,6 +25,7 @@ import com.adobe.marketing.mobile.edge.identity.IdentityMap;
 import com.facebook.react.bridge.WritableMap;
 
 public class RCTAEPEdgeIdentityModule extends ReactContextBaseJavaModule {
+    public static final String NAME = "AEPEdgeIdentity";
 
     private final ReactApplicationContext reactContext;
 
@@ -35,7 +36,7 @@ public class RCTAEPEdgeIdentityModule extends ReactContextBaseJavaModule {
 
     @Override
     public String getName() {
-        return "AEPEdgeIdentity";
+        return NAME;
     }
 
     @ReactMethod
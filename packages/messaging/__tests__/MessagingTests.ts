@@ -11,7 +11,12 @@ governing permissions and limitations under the License.
 */
 
 import { NativeModules } from 'react-native';
-import { Messaging, Message, MessagingEdgeEventType } from '../src';
+import {
+  Messaging,
+  Message,
+  MessagingEdgeEventType,
+  MessagingProposition
+} from '../src';
 
 describe('Messaging', () => {
   it('extensionVersion is called', async () => {
@@ -40,6 +45,49 @@ describe('Messaging', () => {
     expect(spy).toHaveBeenCalled();
   });
 
+  it('setMessageSettings is called', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'setMessageSettings');
+    Messaging.setMessageSettings(true, false);
+    expect(spy).toHaveBeenCalledWith(true, false);
+  });
+
+  it('setMessageDecisionTimeout is called', async () => {
+    const spy = jest.spyOn(
+      NativeModules.AEPMessaging,
+      'setMessageDecisionTimeout'
+    );
+    Messaging.setMessageDecisionTimeout(500);
+    expect(spy).toHaveBeenCalledWith(500);
+  });
+
+  it('setMessageDisplayRules is called', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'setMessageDisplayRules');
+    const rules = [
+      { messageId: 'promo-*', screen: 'Checkout', shouldShowMessage: false },
+      { maxDisplays: 1, shouldShowMessage: true, shouldSaveMessage: true }
+    ];
+    Messaging.setMessageDisplayRules(rules);
+    expect(spy).toHaveBeenCalledWith(rules);
+  });
+
+  it('setCurrentScreen is called', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'setCurrentScreen');
+    Messaging.setCurrentScreen('Checkout');
+    expect(spy).toHaveBeenCalledWith('Checkout');
+  });
+
+  it('setMessageCacheLimits is called', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'setMessageCacheLimits');
+    Messaging.setMessageCacheLimits(50, 600000);
+    expect(spy).toHaveBeenCalledWith(50, 600000);
+  });
+
+  it('getMessageCacheStats is called', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'getMessageCacheStats');
+    await Messaging.getMessageCacheStats();
+    expect(spy).toHaveBeenCalled();
+  });
+
   it('setAutoTrack is called', async () => {
     const spy = jest.spyOn(NativeModules.AEPMessaging, 'setAutoTrack');
     let id = 'id';
@@ -118,6 +166,36 @@ describe('Messaging', () => {
     expect(spy).toHaveBeenCalledWith(['testSurface1', 'testSurface2']);
   });
 
+  it('should call getPropositionsForSurfacesPage', async () => {
+    const spy = jest
+      .spyOn(NativeModules.AEPMessaging, 'getPropositionsForSurfacesPage')
+      .mockResolvedValueOnce({
+        testSurface: {
+          total: 3,
+          offset: 1,
+          propositions: [{ id: 'p2', scope: 'testSurface', scopeDetails: {}, items: [] }]
+        }
+      });
+    const pages = await Messaging.getPropositionsForSurfacesPage(['testSurface'], 1, 1);
+    expect(spy).toHaveBeenCalledWith(['testSurface'], 1, 1, false);
+    expect(pages.testSurface.total).toBe(3);
+    expect(pages.testSurface.offset).toBe(1);
+    expect(pages.testSurface.propositions[0]).toBeInstanceOf(MessagingProposition);
+  });
+
+  it('should call getPropositionSummariesForSurfaces', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'getPropositionsForSurfacesPage');
+    await Messaging.getPropositionSummariesForSurfaces(['testSurface']);
+    expect(spy).toHaveBeenCalledWith(['testSurface'], 0, 0, true);
+  });
+
+  it('should call getPropositionById', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'getPropositionById');
+    const proposition = await Messaging.getPropositionById('p1');
+    expect(spy).toHaveBeenCalledWith('p1');
+    expect(proposition).toBeUndefined();
+  });
+
   it('should call getPropositionsForSurfaces', async () => {
     const spy = jest.spyOn(NativeModules.AEPMessaging, 'getPropositionsForSurfaces');
     await Messaging.getPropositionsForSurfaces([
@@ -127,6 +205,29 @@ describe('Messaging', () => {
     expect(spy).toHaveBeenCalledWith(['testSurface1', 'testSurface2']);
   });
 
+  it('should pass the page to getPropositionSummariesForSurfaces and return the summaries unconverted', async () => {
+    const summary = { id: 'p2', scope: 'testSurface', activityId: 'a2', rank: 1, items: [] };
+    const spy = jest
+      .spyOn(NativeModules.AEPMessaging, 'getPropositionsForSurfacesPage')
+      .mockResolvedValueOnce({
+        testSurface: { total: 3, offset: 1, propositions: [summary] }
+      });
+    const pages = await Messaging.getPropositionSummariesForSurfaces(['testSurface'], 1, 2);
+    expect(spy).toHaveBeenCalledWith(['testSurface'], 1, 2, true);
+    expect(pages.testSurface.total).toBe(3);
+    expect(pages.testSurface.propositions[0]).toBe(summary);
+    expect(pages.testSurface.propositions[0]).not.toBeInstanceOf(MessagingProposition);
+  });
+
+  it('should return the proposition found by getPropositionById', async () => {
+    jest
+      .spyOn(NativeModules.AEPMessaging, 'getPropositionById')
+      .mockResolvedValueOnce({ id: 'p1', scope: 'testSurface', scopeDetails: {}, items: [] });
+    const proposition = await Messaging.getPropositionById('p1');
+    expect(proposition).toBeInstanceOf(MessagingProposition);
+    expect(proposition?.id).toBe('p1');
+  });
+
   it('should call trackContentCardDisplay', async () => {
     const spy = jest.spyOn(
       NativeModules.AEPMessaging,
@@ -148,4 +249,52 @@ describe('Messaging', () => {
     await Messaging.trackContentCardInteraction(mockProposition, mockContentCard);
     expect(spy).toHaveBeenCalledWith(mockProposition, mockContentCard);
   });
+
+  it('should call trackContentCardDisplayById', async () => {
+    const spy = jest.spyOn(
+      NativeModules.AEPMessaging,
+      'trackContentCardDisplayById'
+    );
+    await Messaging.trackContentCardDisplayById('activity-1', 'card-1');
+    expect(spy).toHaveBeenCalledWith('activity-1', 'card-1');
+  });
+
+  it('should call trackContentCardInteractionById', async () => {
+    const spy = jest.spyOn(
+      NativeModules.AEPMessaging,
+      'trackContentCardInteractionById'
+    );
+    await Messaging.trackContentCardInteractionById('activity-1');
+    expect(spy).toHaveBeenCalledWith('activity-1', null);
+  });
+
+  it('should call trackPropositionItems', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'trackPropositionItems');
+    Messaging.trackPropositionItems(
+      [
+        { uuid: 'a1', eventType: MessagingEdgeEventType.DISPLAY },
+        {
+          uuid: 'a2',
+          interaction: 'click',
+          eventType: MessagingEdgeEventType.INTERACT,
+          tokens: ['t1']
+        }
+      ],
+      500
+    );
+    expect(spy).toHaveBeenCalledWith(
+      [
+        { uuid: 'a1', interaction: null, eventType: MessagingEdgeEventType.DISPLAY, tokens: null },
+        { uuid: 'a2', interaction: 'click', eventType: MessagingEdgeEventType.INTERACT, tokens: ['t1'] }
+      ],
+      500
+    );
+  });
+
+  it('should not call trackPropositionItems without events', async () => {
+    const spy = jest.spyOn(NativeModules.AEPMessaging, 'trackPropositionItems');
+    spy.mockClear();
+    Messaging.trackPropositionItems([]);
+    expect(spy).not.toHaveBeenCalled();
+  });
 });
@@ -0,0 +1,132 @@
+/*
+    Copyright 2026 Adobe. All rights reserved.
+    This file is licensed to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+    http://www.apache.org/licenses/LICENSE-2.0 Unless required by applicable law
+    or agreed to in writing, software distributed under the License is
+    distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS OF
+    ANY KIND, either express or implied. See the License for the specific
+    language governing permissions and limitations under the License.
+ */
+package com.adobe.marketing.mobile.reactnative.messaging;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Show/save rule registered from JS through setMessageDisplayRules and
+ * evaluated in canShow, so matching messages skip the JS delegate.
+ */
+class RCTAEPMessageDisplayRule {
+
+  @Nullable private final Pattern messageId;
+  @Nullable private final Pattern screen;
+  private final int maxDisplays;
+  private final boolean shouldShowMessage;
+  private final boolean shouldSaveMessage;
+
+  private RCTAEPMessageDisplayRule(@Nullable final Pattern messageId,
+                                   @Nullable final Pattern screen,
+                                   final int maxDisplays,
+                                   final boolean shouldShowMessage,
+                                   final boolean shouldSaveMessage) {
+    this.messageId = messageId;
+    this.screen = screen;
+    this.maxDisplays = maxDisplays;
+    this.shouldShowMessage = shouldShowMessage;
+    this.shouldSaveMessage = shouldSaveMessage;
+  }
+
+  /**
+   * @param rules the MessageDisplayRule array passed from JS
+   * @return the rules in evaluation order, skipping entries that are not maps
+   */
+  static List<RCTAEPMessageDisplayRule> fromReadableArray(final ReadableArray rules) {
+    List<RCTAEPMessageDisplayRule> result = new ArrayList<>();
+    if (rules == null) {
+      return result;
+    }
+
+    for (int i = 0; i < rules.size(); i++) {
+      if (rules.getType(i) == ReadableType.Map) {
+        result.add(fromReadableMap(rules.getMap(i)));
+      }
+    }
+    return result;
+  }
+
+  private static RCTAEPMessageDisplayRule fromReadableMap(final ReadableMap rule) {
+    return new RCTAEPMessageDisplayRule(
+        compileWildcard(getString(rule, "messageId")),
+        compileWildcard(getString(rule, "screen")),
+        rule.hasKey("maxDisplays") && !rule.isNull("maxDisplays")
+            ? (int) rule.getDouble("maxDisplays")
+            : 0,
+        getBoolean(rule, "shouldShowMessage", true),
+        getBoolean(rule, "shouldSaveMessage", false));
+  }
+
+  /**
+   * @param messageId id of the message about to be shown
+   * @param screen the screen last set from JS, or null
+   * @return true if this rule decides for the message
+   */
+  boolean matches(final String messageId, @Nullable final String screen) {
+    if (this.messageId != null &&
+        (messageId == null || !this.messageId.matcher(messageId).matches())) {
+      return false;
+    }
+    return this.screen == null ||
+        (screen != null && this.screen.matcher(screen).matches());
+  }
+
+  /**
+   * @param displayCount times the message has been shown this session
+   * @return whether the message should be shown, honoring maxDisplays
+   */
+  boolean shouldShowMessage(final int displayCount) {
+    return shouldShowMessage && (maxDisplays <= 0 || displayCount < maxDisplays);
+  }
+
+  boolean shouldSaveMessage() { return shouldSaveMessage; }
+
+  // Helper methods
+
+  @Nullable
+  private static Pattern compileWildcard(@Nullable final String wildcard) {
+    if (wildcard == null) {
+      return null;
+    }
+
+    String[] parts = wildcard.split("\\*", -1);
+    StringBuilder regex = new StringBuilder();
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        regex.append(".*");
+      }
+      regex.append(Pattern.quote(parts[i]));
+    }
+    return Pattern.compile(regex.toString());
+  }
+
+  @Nullable
+  private static String getString(final ReadableMap map, final String key) {
+    return map.hasKey(key) && map.getType(key) == ReadableType.String
+        ? map.getString(key)
+        : null;
+  }
+
+  private static boolean getBoolean(final ReadableMap map, final String key,
+                                    final boolean fallback) {
+    return map.hasKey(key) && map.getType(key) == ReadableType.Boolean
+        ? map.getBoolean(key)
+        : fallback;
+  }
+}
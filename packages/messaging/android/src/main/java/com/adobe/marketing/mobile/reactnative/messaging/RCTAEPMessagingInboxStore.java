@@ -0,0 +1,269 @@
+/*
+    Copyright 2026 Adobe. All rights reserved.
+    This file is licensed to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+    http://www.apache.org/licenses/LICENSE-2.0 Unless required by applicable law
+    or agreed to in writing, software distributed under the License is
+    distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS OF
+    ANY KIND, either express or implied. See the License for the specific
+    language governing permissions and limitations under the License.
+ */
+package com.adobe.marketing.mobile.reactnative.messaging;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQLite backed store of the persisted inbox state, one row per inbox activity id.
+ * <p>
+ * The state is kept as the JSON string written by the JS inbox, together with the number of
+ * dismissed and read (interacted) cards so counters can be queried without parsing the state.
+ * Reads and writes of many activity ids are done in a single query or transaction.
+ */
+final class RCTAEPMessagingInboxStore extends SQLiteOpenHelper {
+  private static final String TAG = "RCTAEPMessagingInboxStore";
+
+  private static final String DATABASE_NAME = "AEPMessagingInbox.db";
+  private static final int DATABASE_VERSION = 1;
+
+  private static final String TABLE = "inbox_state";
+  private static final String COLUMN_ACTIVITY_ID = "activity_id";
+  private static final String COLUMN_STATE = "state";
+  private static final String COLUMN_DISMISSED_COUNT = "dismissed_count";
+  private static final String COLUMN_READ_COUNT = "read_count";
+  private static final String COLUMN_UPDATED_AT = "updated_at";
+
+  // SharedPreferences file and key prefix used before this store, migrated on creation.
+  private static final String LEGACY_PREFS = "AEPMessagingInbox";
+  private static final String LEGACY_KEY_PREFIX = "aep_messaging_inbox_";
+
+  // Stays below SQLITE_MAX_VARIABLE_NUMBER, which is 999 on older Android versions.
+  private static final int MAX_QUERY_ARGS = 500;
+
+  private final Context context;
+
+  RCTAEPMessagingInboxStore(final Context context) {
+    super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    this.context = context;
+  }
+
+  @Override
+  public void onCreate(final SQLiteDatabase db) {
+    db.execSQL("CREATE TABLE " + TABLE + " ("
+        + COLUMN_ACTIVITY_ID + " TEXT PRIMARY KEY NOT NULL, "
+        + COLUMN_STATE + " TEXT NOT NULL, "
+        + COLUMN_DISMISSED_COUNT + " INTEGER NOT NULL DEFAULT 0, "
+        + COLUMN_READ_COUNT + " INTEGER NOT NULL DEFAULT 0, "
+        + COLUMN_UPDATED_AT + " INTEGER NOT NULL DEFAULT 0)");
+    migrateLegacyPreferences(db);
+  }
+
+  @Override
+  public void onUpgrade(final SQLiteDatabase db, final int oldVersion, final int newVersion) {
+    // Only one version so far.
+  }
+
+  /**
+   * @param activityId the inbox activity id
+   * @return the persisted state JSON, or null if none is stored
+   */
+  @Nullable
+  String getState(final String activityId) {
+    final List<String> activityIds = new ArrayList<>(1);
+    activityIds.add(activityId);
+    return getStates(activityIds).get(activityId);
+  }
+
+  /**
+   * @param activityIds the inbox activity ids
+   * @return activity id to persisted state JSON, for the ids that have a stored state
+   */
+  Map<String, String> getStates(final Collection<String> activityIds) {
+    final Map<String, String> states = new HashMap<>();
+    query(activityIds, new String[] {COLUMN_ACTIVITY_ID, COLUMN_STATE}, new RowReader() {
+      @Override
+      public void read(final Cursor cursor) {
+        states.put(cursor.getString(0), cursor.getString(1));
+      }
+    });
+    return states;
+  }
+
+  /**
+   * @param activityIds the inbox activity ids
+   * @return activity id to its counts, for the ids that have a stored state
+   */
+  Map<String, Counts> getCounts(final Collection<String> activityIds) {
+    final Map<String, Counts> counts = new HashMap<>();
+    query(activityIds, new String[] {COLUMN_ACTIVITY_ID, COLUMN_DISMISSED_COUNT, COLUMN_READ_COUNT},
+        new RowReader() {
+          @Override
+          public void read(final Cursor cursor) {
+            counts.put(cursor.getString(0), new Counts(cursor.getInt(1), cursor.getInt(2)));
+          }
+        });
+    return counts;
+  }
+
+  /**
+   * Writes the given states in a single transaction. A null state removes the stored one.
+   *
+   * @param states activity id to state JSON
+   */
+  void setStates(final Map<String, String> states) {
+    if (states.isEmpty()) {
+      return;
+    }
+
+    final SQLiteDatabase db = getWritableDatabase();
+    final long now = System.currentTimeMillis();
+    db.beginTransaction();
+    try {
+      for (final Map.Entry<String, String> entry : states.entrySet()) {
+        if (entry.getValue() == null) {
+          db.delete(TABLE, COLUMN_ACTIVITY_ID + " = ?", new String[] {entry.getKey()});
+        } else {
+          db.insertWithOnConflict(TABLE, null, toValues(entry.getKey(), entry.getValue(), now),
+              SQLiteDatabase.CONFLICT_REPLACE);
+        }
+      }
+      db.setTransactionSuccessful();
+    } finally {
+      db.endTransaction();
+    }
+  }
+
+  /**
+   * Removes the stored state of the given activity ids in a single transaction.
+   *
+   * @param activityIds the inbox activity ids
+   */
+  void clear(final Collection<String> activityIds) {
+    final Map<String, String> removals = new HashMap<>();
+    for (final String activityId : activityIds) {
+      removals.put(activityId, null);
+    }
+    setStates(removals);
+  }
+
+  /**
+   * Removes the stored state of every activity id.
+   */
+  void clearAll() {
+    getWritableDatabase().delete(TABLE, null, null);
+  }
+
+  /**
+   * Number of dismissed and read cards in a persisted inbox state.
+   */
+  static final class Counts {
+    final int dismissed;
+    final int read;
+
+    Counts(final int dismissed, final int read) {
+      this.dismissed = dismissed;
+      this.read = read;
+    }
+  }
+
+  // Helper methods
+
+  private interface RowReader {
+    void read(Cursor cursor);
+  }
+
+  private void query(final Collection<String> activityIds, final String[] columns,
+                     final RowReader reader) {
+    if (activityIds.isEmpty()) {
+      return;
+    }
+
+    final SQLiteDatabase db = getReadableDatabase();
+    final List<String> ids = new ArrayList<>(activityIds);
+    for (int start = 0; start < ids.size(); start += MAX_QUERY_ARGS) {
+      final List<String> chunk = ids.subList(start, Math.min(ids.size(), start + MAX_QUERY_ARGS));
+      final StringBuilder selection = new StringBuilder(COLUMN_ACTIVITY_ID).append(" IN (");
+      for (int i = 0; i < chunk.size(); i++) {
+        selection.append(i == 0 ? "?" : ",?");
+      }
+      selection.append(')');
+
+      final Cursor cursor = db.query(TABLE, columns, selection.toString(),
+          chunk.toArray(new String[0]), null, null, null);
+      try {
+        while (cursor.moveToNext()) {
+          reader.read(cursor);
+        }
+      } finally {
+        cursor.close();
+      }
+    }
+  }
+
+  private static ContentValues toValues(final String activityId, final String state,
+                                        final long updatedAt) {
+    final ContentValues values = new ContentValues();
+    values.put(COLUMN_ACTIVITY_ID, activityId);
+    values.put(COLUMN_STATE, state);
+    values.put(COLUMN_DISMISSED_COUNT, countEntries(state, "dismissed"));
+    values.put(COLUMN_READ_COUNT, countEntries(state, "interacted"));
+    values.put(COLUMN_UPDATED_AT, updatedAt);
+    return values;
+  }
+
+  private static int countEntries(final String state, final String key) {
+    try {
+      final JSONArray entries = new JSONObject(state).optJSONArray(key);
+      return entries != null ? entries.length() : 0;
+    } catch (JSONException e) {
+      return 0;
+    }
+  }
+
+  private void migrateLegacyPreferences(final SQLiteDatabase db) {
+    final SharedPreferences prefs = context.getSharedPreferences(LEGACY_PREFS, Context.MODE_PRIVATE);
+    final Map<String, ?> entries = prefs.getAll();
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    final long now = System.currentTimeMillis();
+    final SharedPreferences.Editor editor = prefs.edit();
+    int migrated = 0;
+    for (final Map.Entry<String, ?> entry : entries.entrySet()) {
+      if (entry.getKey().startsWith(LEGACY_KEY_PREFIX) && entry.getValue() instanceof String) {
+        final String activityId = entry.getKey().substring(LEGACY_KEY_PREFIX.length());
+        final long rowId = db.insertWithOnConflict(TABLE, null,
+            toValues(activityId, (String) entry.getValue(), now), SQLiteDatabase.CONFLICT_REPLACE);
+        // Keys that failed to insert are kept, so their state is not lost.
+        if (rowId != -1) {
+          editor.remove(entry.getKey());
+          migrated++;
+        }
+      }
+    }
+    if (migrated == 0) {
+      return;
+    }
+    editor.apply();
+    Log.d(TAG, "Migrated " + migrated + " inbox states from SharedPreferences");
+  }
+}
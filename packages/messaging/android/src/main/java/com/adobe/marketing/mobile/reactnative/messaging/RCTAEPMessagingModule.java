@@ -14,8 +14,6 @@ package com.adobe.marketing.mobile.reactnative.messaging;
 import static com.adobe.marketing.mobile.reactnative.messaging.RCTAEPMessagingUtil.convertMessageToMap;
 
 import android.app.Activity;
-import android.content.Context;
-import android.content.SharedPreferences;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -31,6 +29,10 @@ import com.adobe.marketing.mobile.messaging.MessagingUtils;
 import com.adobe.marketing.mobile.messaging.Proposition;
 import com.adobe.marketing.mobile.messaging.PropositionItem;
 import com.adobe.marketing.mobile.messaging.Surface;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeLruCache;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeSnapshotCache;
+import com.adobe.marketing.mobile.reactnative.RCTAEPEventEmitter;
 import com.adobe.marketing.mobile.services.ServiceProvider;
 import com.adobe.marketing.mobile.services.ui.InAppMessage;
 import com.adobe.marketing.mobile.services.ui.Presentable;
@@ -43,23 +45,37 @@ import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.bridge.WritableMap;
-import com.facebook.react.modules.core.DeviceEventManagerModule;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 
 public final class RCTAEPMessagingModule
     extends ReactContextBaseJavaModule implements PresentationDelegate {
+  public static final String NAME = "AEPMessaging";
+
   // We cache uuid -> Proposition (not PropositionItem) for iOS parity: storing items on iOS lost
   // weak parent references. Propositions currently contain a single item, so using the first item
   // for tracking is valid.
   private final Map<String, Proposition> propositionItemByUuid = new ConcurrentHashMap<>();
+  // Propositions last returned to JS by unique id, so the content of a proposition
+  // listed in summary mode can be fetched on its own.
+  private final Map<String, Proposition> propositionsById = new ConcurrentHashMap<>();
+  // Last time a display was tracked by uuid, used to coalesce repeated displays
+  // sent to trackPropositionItems. Entries outside the coalescing window of the
+  // latest call are dropped.
+  private final Map<String, Long> displayTrackedAtMs = new ConcurrentHashMap<>();
 
   /**
    * Parses the given Proposition and extracts the activity ID.
@@ -96,30 +112,61 @@ public final class RCTAEPMessagingModule
     }
   }
   private static final String TAG = "RCTAEPMessagingModule";
-  private final Map<String, Message> messageCache = new HashMap<>();
+  // How long canShow waits for the JS delegate before falling back to the default decision.
+  private static final long DEFAULT_DECISION_TIMEOUT_MS = 1000;
+  private final RCTAEPBridgeLruCache<Message> messageCache =
+      new RCTAEPBridgeLruCache<>();
   private final ReactApplicationContext reactContext;
-  private boolean shouldSaveMessage = false;
-  private boolean shouldShowMessage = false;
-  private CountDownLatch latch = new CountDownLatch(1);
+  // Default decision, used when JS does not answer shouldShowMessage in time.
+  private volatile boolean shouldSaveMessage = false;
+  private volatile boolean shouldShowMessage = true;
+  private volatile long decisionTimeoutMs = DEFAULT_DECISION_TIMEOUT_MS;
+  // Decisions awaited by canShow, keyed by message id.
+  private final ConcurrentHashMap<String, MessageDecision> pendingDecisions =
+      new ConcurrentHashMap<>();
+  // Rules evaluated in canShow before asking JS, with per-session display counts by message id.
+  private volatile List<RCTAEPMessageDisplayRule> displayRules = Collections.emptyList();
+  private final ConcurrentHashMap<String, AtomicInteger> displayCounts =
+      new ConcurrentHashMap<>();
+  private volatile String currentScreen = null;
   private Message latestMessage = null;
-  private final Map<String, Presentable<?>> presentableCache = new HashMap<>();
+  private final RCTAEPBridgeLruCache<Presentable<?>> presentableCache =
+      new RCTAEPBridgeLruCache<>();
+  // Converted propositions, so unchanged propositions are not converted again
+  // on every getPropositionsForSurfaces call.
+  private final RCTAEPBridgeSnapshotCache propositionSnapshots =
+      new RCTAEPBridgeSnapshotCache();
+  private final RCTAEPMessagingInboxStore inboxStore;
+  private final RCTAEPEventEmitter eventEmitter;
 
   public RCTAEPMessagingModule(ReactApplicationContext reactContext) {
     super(reactContext);
     this.reactContext = reactContext;
+    this.inboxStore = new RCTAEPMessagingInboxStore(reactContext);
+    this.eventEmitter = new RCTAEPEventEmitter(reactContext);
   }
 
   @Override
   public String getName() {
-    return "AEPMessaging";
+    return NAME;
   }
 
   // Required for rn built in EventEmitter Calls.
   @ReactMethod
-  public void addListener(String eventName) {}
+  public void addListener(String eventName) {
+    eventEmitter.addListener(eventName);
+  }
 
   @ReactMethod
-  public void removeListeners(Integer count) {}
+  public void removeListeners(Integer count) {
+    eventEmitter.removeListeners(count);
+  }
+
+  // See RCTAEPEventEmitter#removeListeners(String, double).
+  @ReactMethod
+  public void removeEventListeners(String eventName, Integer count) {
+    eventEmitter.removeListeners(eventName, count);
+  }
 
   @ReactMethod
   public void extensionVersion(final Promise promise) {
@@ -158,28 +205,76 @@ public final class RCTAEPMessagingModule
               @Override
               public void call(
                       Map<Surface, List<Proposition>> propositionsMap) {
-                // Build UUID->Proposition map keyed by scopeDetails.activity.id
-                try {
-                  for (Map.Entry<Surface, List<Proposition>> entry : propositionsMap.entrySet()) {
-                    List<Proposition> propositions = entry.getValue();
-                    if (propositions == null) continue;
-                    for (Proposition proposition : propositions) {
-                      try {
-                        String key = extractActivityId(proposition);
-                        if (key != null) {
-                          propositionItemByUuid.put(key, proposition);
-                        }
-                      } catch (Throwable ignore) {}
-                    }
-                  }
-                } catch (Throwable ignore) {}
-
+                cachePropositions(propositionsMap);
                 promise.resolve(RCTAEPMessagingUtil.convertSurfacePropositions(
-                        propositionsMap, bundleId));
+                        propositionsMap, bundleId, propositionSnapshots));
+              }
+            });
+  }
+
+  @ReactMethod
+  public void getPropositionsForSurfacesPage(ReadableArray surfaces,
+                                             final double offset,
+                                             final double limit,
+                                             final boolean summaryOnly,
+                                             final Promise promise) {
+    String bundleId = this.reactContext.getPackageName();
+    Messaging.getPropositionsForSurfaces(
+            RCTAEPMessagingUtil.convertSurfaces(surfaces),
+            new AdobeCallbackWithError<Map<Surface, List<Proposition>>>() {
+              @Override
+              public void fail(final AdobeError adobeError) {
+                promise.reject(adobeError.getErrorName(),
+                        "Unable to get Propositions");
+              }
+
+              @Override
+              public void call(
+                      Map<Surface, List<Proposition>> propositionsMap) {
+                cachePropositions(propositionsMap);
+                promise.resolve(RCTAEPMessagingUtil.convertSurfacePropositionsPage(
+                        propositionsMap, bundleId, (int) offset, (int) limit,
+                        summaryOnly, propositionSnapshots));
               }
             });
   }
 
+  @ReactMethod
+  public void getPropositionById(final String propositionId,
+                                 final Promise promise) {
+    Proposition proposition =
+        propositionId != null ? propositionsById.get(propositionId) : null;
+    if (proposition == null) {
+      Log.d(TAG, "getPropositionById: no proposition returned with id " + propositionId);
+      promise.resolve(null);
+      return;
+    }
+    promise.resolve(
+        RCTAEPMessagingUtil.convertProposition(proposition, propositionSnapshots));
+  }
+
+  private void cachePropositions(
+      final Map<Surface, List<Proposition>> propositionsMap) {
+    // Build UUID->Proposition map keyed by scopeDetails.activity.id
+    try {
+      for (Map.Entry<Surface, List<Proposition>> entry : propositionsMap.entrySet()) {
+        List<Proposition> propositions = entry.getValue();
+        if (propositions == null) continue;
+        for (Proposition proposition : propositions) {
+          try {
+            String key = extractActivityId(proposition);
+            if (key != null) {
+              propositionItemByUuid.put(key, proposition);
+            }
+            if (proposition.getUniqueId() != null) {
+              propositionsById.put(proposition.getUniqueId(), proposition);
+            }
+          } catch (Throwable ignore) {}
+        }
+      }
+    } catch (Throwable ignore) {}
+  }
+
   @ReactMethod
   public void refreshInAppMessages() {
     Messaging.refreshInAppMessages();
@@ -195,6 +290,9 @@ public final class RCTAEPMessagingModule
      Messaging.updatePropositionsForSurfaces(
         RCTAEPMessagingUtil.convertSurfaces(surfaces));
         propositionItemByUuid.clear();
+        propositionsById.clear();
+        propositionSnapshots.clear();
+        displayTrackedAtMs.clear();
   }
 
   // Message Methods
@@ -209,37 +307,61 @@ public final class RCTAEPMessagingModule
 
   @ReactMethod
   public void dismiss(final String messageId) {
-    if (messageId != null && messageCache.get(messageId) != null) {
-      messageCache.get(messageId).dismiss();
+    Message message = getCachedMessage(messageId);
+    if (message != null) {
+      message.dismiss();
     }
   }
 
   @ReactMethod
   public void setAutoTrack(final String messageId, final boolean autoTrack) {
-    if (messageId != null && messageCache.get(messageId) != null) {
-      messageCache.get(messageId).setAutoTrack(autoTrack);
+    Message message = getCachedMessage(messageId);
+    if (message != null) {
+      message.setAutoTrack(autoTrack);
     }
   }
 
   @ReactMethod
   public void show(final String messageId) {
-    if (messageId != null && messageCache.get(messageId) != null) {
-      messageCache.get(messageId).show();
+    Message message = getCachedMessage(messageId);
+    if (message != null) {
+      message.show();
     }
   }
 
   @ReactMethod
   public void track(final String messageId, final String interaction,
                     final int eventType) {
-    if (messageId != null && messageCache.get(messageId) != null) {
+    Message message = getCachedMessage(messageId);
+    if (message != null) {
       MessagingEdgeEventType edgeEventType =
           RCTAEPMessagingUtil.getEventType(eventType);
       if (edgeEventType != null) {
-        messageCache.get(messageId).track(interaction, edgeEventType);
+        message.track(interaction, edgeEventType);
       }
     }
   }
 
+  @ReactMethod
+  public void setMessageCacheLimits(final double maxEntries,
+                                    final double maxAgeMs) {
+    messageCache.setLimits((int) maxEntries, (long) maxAgeMs);
+    presentableCache.setLimits((int) maxEntries, (long) maxAgeMs);
+  }
+
+  @ReactMethod
+  public void getMessageCacheStats(final Promise promise) {
+    WritableMap stats = RCTAEPBridgeConverter.createMap();
+    stats.putMap("messageCache", messageCache.getStats());
+    stats.putMap("presentableCache", presentableCache.getStats());
+    promise.resolve(stats);
+  }
+
+  @Nullable
+  private Message getCachedMessage(@Nullable final String messageId) {
+    return messageId != null ? messageCache.get(messageId) : null;
+  }
+
   @ReactMethod
   public void handleJavascriptMessage(final String messageId,
                                       final String handlerName) {
@@ -289,11 +411,13 @@ public final class RCTAEPMessagingModule
       return;
     Message message = MessagingUtils.getMessageForPresentable(
         (Presentable<InAppMessage>)presentable);
-    presentableCache.put(message.getId(), presentable);
 
     if (message != null) {
-      Map<String, String> data = convertMessageToMap(message);
-      emitEvent("onShow", data);
+      presentableCache.put(message.getId(), presentable);
+      displayCounts.putIfAbsent(message.getId(), new AtomicInteger());
+      displayCounts.get(message.getId()).incrementAndGet();
+
+      emitMessageEvent("onShow", message);
     }
   }
 
@@ -303,23 +427,22 @@ public final class RCTAEPMessagingModule
       return;
     Message message = MessagingUtils.getMessageForPresentable(
         (Presentable<InAppMessage>)presentable);
-    presentableCache.remove(message.getId());
-    
+
     if (message != null) {
-      Map<String, String> data = convertMessageToMap(message);
-      emitEvent("onDismiss", data);
+      presentableCache.remove(message.getId());
+      emitMessageEvent("onDismiss", message);
     }
   }
 
   @Override
   public void onHide(final Presentable<?> presentable) {
-    if (!(presentable.getPresentation() instanceof InAppMessage))
+    if (!(presentable.getPresentation() instanceof InAppMessage) ||
+        !eventEmitter.hasListeners("onHide"))
       return;
     Message message = MessagingUtils.getMessageForPresentable(
         (Presentable<InAppMessage>)presentable);
     if (message != null) {
-      Map<String, String> data = convertMessageToMap(message);
-      emitEvent("onHide", data);
+      emitMessageEvent("onHide", message);
     }
   }
 
@@ -329,37 +452,95 @@ public final class RCTAEPMessagingModule
       return false;
     Message message = MessagingUtils.getMessageForPresentable(
         (Presentable<InAppMessage>)presentable);
-    if (message != null) {
-      Map<String, String> data = convertMessageToMap(message);
-      emitEvent("shouldShowMessage", data);
-      // Latch stops the thread until the shouldShowMessage value is received
-      // from the JS side on thread dedicated to run JS code. The function
-      // called from JS that resumes the thread is "shouldShowMessage".
-      try {
-        latch.await();
-      } catch (final InterruptedException e) {
-      }
+    if (message == null) {
+      return false;
+    }
+
+    boolean show;
+    boolean save;
+    RCTAEPMessageDisplayRule rule = findDisplayRule(message.getId());
+    if (rule != null) {
+      AtomicInteger count = displayCounts.get(message.getId());
+      show = rule.shouldShowMessage(count != null ? count.get() : 0);
+      save = rule.shouldSaveMessage();
+    } else {
+      MessageDecision decision = requestMessageDecision(message);
+      show = decision != null ? decision.shouldShow : shouldShowMessage;
+      save = decision != null ? decision.shouldSave : shouldSaveMessage;
     }
 
-    if (shouldShowMessage) {
+    if (show) {
       this.latestMessage = message;
     }
 
-    if (shouldSaveMessage) {
+    if (save) {
       messageCache.put(message.getId(), message);
     }
-    return shouldShowMessage;
+    return show;
+  }
+
+  /**
+   * @param messageId id of the message about to be shown
+   * @return the first registered rule matching the message and current screen, or null
+   */
+  @Nullable
+  private RCTAEPMessageDisplayRule findDisplayRule(final String messageId) {
+    final String screen = currentScreen;
+    for (final RCTAEPMessageDisplayRule rule : displayRules) {
+      if (rule.matches(messageId, screen)) {
+        return rule;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Emits shouldShowMessage right away, outside the per-frame event queue, and
+   * waits at most decisionTimeoutMs for JS to answer through
+   * setMessageSettingsForMessage. Concurrent requests for the same message
+   * share one decision.
+   *
+   * @param message the message about to be shown
+   * @return the decision made in JS, or null if JS did not answer in time
+   */
+  @Nullable
+  private MessageDecision requestMessageDecision(final Message message) {
+    final String messageId = message.getId();
+    final MessageDecision pending = new MessageDecision();
+    final MessageDecision existing =
+        pendingDecisions.putIfAbsent(messageId, pending);
+    final MessageDecision decision = existing != null ? existing : pending;
+    if (existing == null &&
+        !eventEmitter.emitNow("shouldShowMessage",
+                              () -> toWritableMap(convertMessageToMap(message)))) {
+      // Nothing in JS can answer, so the default is used without waiting.
+      pendingDecisions.remove(messageId, decision);
+      return null;
+    }
+
+    try {
+      if (decision.latch.await(decisionTimeoutMs, TimeUnit.MILLISECONDS)) {
+        return decision;
+      }
+      Log.w(TAG, "No shouldShowMessage decision for message " + messageId +
+                     " within " + decisionTimeoutMs + "ms, using the default");
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      pendingDecisions.remove(messageId, decision);
+    }
+    return null;
   }
 
   public void onContentLoaded(final Presentable<?> presentable,
                               PresentationContent presentationContent) {
-    if (!(presentable.getPresentation() instanceof InAppMessage))
+    if (!(presentable.getPresentation() instanceof InAppMessage) ||
+        !eventEmitter.hasListeners("onContentLoaded"))
       return;
     Message message = MessagingUtils.getMessageForPresentable(
         (Presentable<InAppMessage>)presentable);
     if (message != null) {
-      Map<String, String> data = convertMessageToMap(message);
-      emitEvent("onContentLoaded", data);
+      emitMessageEvent("onContentLoaded", message);
     }
   }
 
@@ -369,31 +550,81 @@ public final class RCTAEPMessagingModule
                                  final boolean shouldSaveMessage) {
     this.shouldShowMessage = shouldShowMessage;
     this.shouldSaveMessage = shouldSaveMessage;
-    latch.countDown();
+    // Apps that answer shouldShowMessage through the global settings still
+    // release any message waiting for a decision.
+    for (final MessageDecision decision : pendingDecisions.values()) {
+      decision.complete(shouldShowMessage, shouldSaveMessage);
+    }
     return true;
   }
 
+  @ReactMethod
+  public void setMessageSettingsForMessage(final String messageId,
+                                           final boolean shouldShowMessage,
+                                           final boolean shouldSaveMessage) {
+    MessageDecision decision =
+        messageId != null ? pendingDecisions.get(messageId) : null;
+    if (decision == null) {
+      Log.d(TAG, "setMessageSettingsForMessage: No pending decision for messageId: " + messageId);
+      return;
+    }
+    decision.complete(shouldShowMessage, shouldSaveMessage);
+  }
+
+  @ReactMethod
+  public void setMessageDisplayRules(final ReadableArray rules) {
+    this.displayRules = Collections.unmodifiableList(
+        RCTAEPMessageDisplayRule.fromReadableArray(rules));
+  }
+
+  @ReactMethod
+  public void setCurrentScreen(@Nullable final String screen) {
+    this.currentScreen = screen;
+  }
+
+  @ReactMethod
+  public void setMessageDecisionTimeout(final double timeoutMs) {
+    this.decisionTimeoutMs = Math.max(0, (long) timeoutMs);
+  }
+
   /**
-   * Emits an event along with data to be handled by the Javascript
+   * Emits an event along with data to be handled by the Javascript with the
+   * next frame.
    *
    * @param name event name
    * @param data data sent along with event
    */
   private void emitEvent(final String name, final Map<String, String> data) {
+    eventEmitter.emit(name, null, () -> toWritableMap(data));
+  }
+
+  /**
+   * Emits an event with the data of a message with the next frame. A pending
+   * event with the same name for the same message is replaced, and the message
+   * is only converted if a JS listener is registered for the event.
+   *
+   * @param name event name
+   * @param message the message sent along with the event
+   * @return false if the event was dropped because no JS listener is registered
+   */
+  private boolean emitMessageEvent(final String name, final Message message) {
+    return eventEmitter.emit(name, message.getId(),
+                             () -> toWritableMap(convertMessageToMap(message)));
+  }
+
+  private static WritableMap toWritableMap(final Map<String, String> data) {
     WritableMap eventData = Arguments.createMap();
     for (final Map.Entry<String, String> entry : data.entrySet()) {
       eventData.putString(entry.getKey(), entry.getValue());
     }
-    reactContext
-        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-        .emit(name, eventData);
+    return eventData;
   }
 
   @ReactMethod
   public void trackContentCardDisplay(ReadableMap propositionMap,
                                       ReadableMap contentCardMap) {
     final Map<String, Object> eventData =
-        RCTAEPMessagingUtil.convertReadableMapToMap(propositionMap);
+        RCTAEPBridgeConverter.toMap(propositionMap);
     final Proposition proposition = Proposition.fromEventData(eventData);
     for (PropositionItem item : proposition.getItems()) {
       if (item.getItemId().equals(contentCardMap.getString("id"))) {
@@ -407,7 +638,7 @@ public final class RCTAEPMessagingModule
   public void trackContentCardInteraction(ReadableMap propositionMap,
                                           ReadableMap contentCardMap) {
     final Map<String, Object> eventData =
-        RCTAEPMessagingUtil.convertReadableMapToMap(propositionMap);
+        RCTAEPBridgeConverter.toMap(propositionMap);
     final Proposition proposition = Proposition.fromEventData(eventData);
     for (PropositionItem item : proposition.getItems()) {
       if (item.getItemId().equals(contentCardMap.getString("id"))) {
@@ -417,6 +648,59 @@ public final class RCTAEPMessagingModule
     }
   }
 
+  /**
+   * Tracks the display of a content card of a cached proposition, so the
+   * proposition does not have to be sent back from JS.
+   *
+   * @param uuid the scopeDetails.activity.id of the proposition
+   * @param itemId the content card id, or null for the first item
+   */
+  @ReactMethod
+  public void trackContentCardDisplayById(String uuid, @Nullable String itemId) {
+    final PropositionItem item = getCachedPropositionItem(uuid, itemId);
+    if (item != null) {
+      item.track(MessagingEdgeEventType.DISPLAY);
+    }
+  }
+
+  /**
+   * Tracks a click on a content card of a cached proposition, so the
+   * proposition does not have to be sent back from JS.
+   *
+   * @param uuid the scopeDetails.activity.id of the proposition
+   * @param itemId the content card id, or null for the first item
+   */
+  @ReactMethod
+  public void trackContentCardInteractionById(String uuid, @Nullable String itemId) {
+    final PropositionItem item = getCachedPropositionItem(uuid, itemId);
+    if (item != null) {
+      item.track("click", MessagingEdgeEventType.INTERACT, null);
+    }
+  }
+
+  @Nullable
+  private PropositionItem getCachedPropositionItem(String uuid, @Nullable String itemId) {
+    final Proposition proposition = uuid != null ? propositionItemByUuid.get(uuid) : null;
+    if (proposition == null) {
+      Log.d(TAG, "[MessagingBridge] No cached proposition for uuid=" + uuid);
+      return null;
+    }
+    final List<PropositionItem> items = proposition.getItems();
+    if (items == null || items.isEmpty()) {
+      return null;
+    }
+    if (itemId == null) {
+      return items.get(0);
+    }
+    for (PropositionItem item : items) {
+      if (itemId.equals(item.getItemId())) {
+        return item;
+      }
+    }
+    Log.d(TAG, "[MessagingBridge] No item " + itemId + " in cached proposition for uuid=" + uuid);
+    return null;
+  }
+
   /**
    * Tracks interactions with a PropositionItem using the provided interaction and event type.
    * This method is used by the React Native PropositionItem.track() method.
@@ -433,39 +717,88 @@ public final class RCTAEPMessagingModule
       if (edgeEventType == null) {
         return;
       }
-      // Resolve PropositionItem by UUID
-      if (uuid == null) {
-        Log.d(TAG, "[MessagingBridge] Null uuid provided");
-        return;
-      }
-      final Proposition proposition = propositionItemByUuid.get(uuid);
-      if (proposition == null) {
-        Log.d(TAG, "[MessagingBridge] No cached proposition for uuid=" + uuid);
-        return;
-      }
-      final List<PropositionItem> items = proposition.getItems();
-      if (items == null || items.isEmpty()) {
-        return;
-      }
-      final PropositionItem propositionItem = items.get(0);
+      trackCachedPropositionItem(uuid, interaction, edgeEventType, tokens);
+    } catch (Exception e) {
+      Log.d(TAG, "Error tracking PropositionItem for uuid: " + uuid + ", error: " + e.getMessage(), e);
+    }
+  }
 
-      // Convert ReadableArray tokens -> List<String> (empty list if none)
-      List<String> tokenList = new ArrayList<>();
-      if (tokens != null) {
-        for (int i = 0; i < tokens.size(); i++) {
-          tokenList.add(tokens.getString(i));
+  /**
+   * Tracks several PropositionItems in a single bridge call, in order.
+   * Displays of a uuid already tracked within the coalescing window, including
+   * earlier in the same batch, are dropped. Only displays that were actually
+   * tracked start a window.
+   *
+   * @param entries Array of {uuid, interaction, eventType, tokens} maps
+   * @param coalesceWindowMs Window in which repeated displays of a uuid are dropped, 0 to track all of them
+   */
+  @ReactMethod
+  public void trackPropositionItems(ReadableArray entries, double coalesceWindowMs) {
+    if (entries == null) {
+      return;
+    }
+    final long nowMs = System.currentTimeMillis();
+    forgetDisplaysTrackedBefore(nowMs - (long) coalesceWindowMs);
+    for (int i = 0; i < entries.size(); i++) {
+      final ReadableMap entry = entries.getMap(i);
+      final String uuid = entry != null && entry.hasKey("uuid") ? entry.getString("uuid") : null;
+      try {
+        if (uuid == null) {
+          continue;
+        }
+        final MessagingEdgeEventType edgeEventType = RCTAEPMessagingUtil.getEventType(
+            entry.hasKey("eventType") ? entry.getInt("eventType") : -1);
+        if (edgeEventType == null) {
+          continue;
+        }
+        final boolean coalesce =
+            edgeEventType == MessagingEdgeEventType.DISPLAY && coalesceWindowMs > 0;
+        if (coalesce && displayTrackedAtMs.containsKey(uuid)) {
+          continue;
+        }
+        final boolean tracked = trackCachedPropositionItem(uuid,
+            entry.hasKey("interaction") && !entry.isNull("interaction") ? entry.getString("interaction") : null,
+            edgeEventType,
+            entry.hasKey("tokens") && !entry.isNull("tokens") ? entry.getArray("tokens") : null);
+        if (coalesce && tracked) {
+          displayTrackedAtMs.put(uuid, nowMs);
         }
+      } catch (Exception e) {
+        Log.d(TAG, "Error tracking PropositionItem for uuid: " + uuid + ", error: " + e.getMessage(), e);
       }
-      Log.d(TAG, "[MessagingBridge] Tracking (direct) uuid=" + uuid + ", interaction=" + interaction + ", tokens=" + tokenList + ", eventType=" + edgeEventType.name());
-      propositionItem.track(interaction, edgeEventType, tokenList);
+    }
+  }
 
-    } catch (Exception e) {
-      Log.d(TAG, "Error tracking PropositionItem for uuid: " + uuid + ", error: " + e.getMessage(), e);
+  /**
+   * @return true if the item was found in the cache and tracked
+   */
+  private boolean trackCachedPropositionItem(String uuid, @Nullable String interaction,
+                                             MessagingEdgeEventType edgeEventType,
+                                             @Nullable ReadableArray tokens) {
+    final PropositionItem propositionItem = getCachedPropositionItem(uuid, null);
+    if (propositionItem == null) {
+      return false;
     }
+
+    // Convert ReadableArray tokens -> List<String> (empty list if none)
+    final int tokenCount = tokens != null ? tokens.size() : 0;
+    List<String> tokenList = new ArrayList<>(tokenCount);
+    for (int i = 0; i < tokenCount; i++) {
+      tokenList.add(tokens.getString(i));
+    }
+    Log.d(TAG, "[MessagingBridge] Tracking (direct) uuid=" + uuid + ", interaction=" + interaction + ", tokens=" + tokenList + ", eventType=" + edgeEventType.name());
+    propositionItem.track(interaction, edgeEventType, tokenList);
+    return true;
   }
 
-  private static final String INBOX_PREFS = "AEPMessagingInbox";
-  private static final String INBOX_KEY_PREFIX = "aep_messaging_inbox_";
+  private void forgetDisplaysTrackedBefore(final long cutoffMs) {
+    final Iterator<Long> trackedAtMs = displayTrackedAtMs.values().iterator();
+    while (trackedAtMs.hasNext()) {
+      if (trackedAtMs.next() <= cutoffMs) {
+        trackedAtMs.remove();
+      }
+    }
+  }
 
   @ReactMethod
   public void getInboxState(String activityId, final Promise promise) {
@@ -474,9 +807,7 @@ public final class RCTAEPMessagingModule
         promise.resolve(null);
         return;
       }
-      SharedPreferences prefs = reactContext.getSharedPreferences(INBOX_PREFS, Context.MODE_PRIVATE);
-      String value = prefs.getString(INBOX_KEY_PREFIX + activityId, null);
-      promise.resolve(value);
+      promise.resolve(inboxStore.getState(activityId));
     } catch (Exception e) {
       Log.e(TAG, "[MessagingBridge] getInboxState error: " + e.getMessage(), e);
       promise.resolve(null);
@@ -490,8 +821,9 @@ public final class RCTAEPMessagingModule
         promise.resolve(null);
         return;
       }
-      SharedPreferences prefs = reactContext.getSharedPreferences(INBOX_PREFS, Context.MODE_PRIVATE);
-      prefs.edit().putString(INBOX_KEY_PREFIX + activityId, stateJson).apply();
+      Map<String, String> states = new HashMap<>();
+      states.put(activityId, stateJson);
+      inboxStore.setStates(states);
       promise.resolve(null);
     } catch (Exception e) {
       Log.e(TAG, "[MessagingBridge] setInboxState error: " + e.getMessage(), e);
@@ -499,4 +831,125 @@ public final class RCTAEPMessagingModule
     }
   }
 
+  /**
+   * Resolves with the persisted state JSON of each of the given inbox activity
+   * ids that has one, read in a single query.
+   */
+  @ReactMethod
+  public void getInboxStates(ReadableArray activityIds, final Promise promise) {
+    try {
+      Map<String, String> states = inboxStore.getStates(toActivityIds(activityIds));
+      WritableMap result = Arguments.createMap();
+      for (Map.Entry<String, String> entry : states.entrySet()) {
+        result.putString(entry.getKey(), entry.getValue());
+      }
+      promise.resolve(result);
+    } catch (Exception e) {
+      Log.e(TAG, "[MessagingBridge] getInboxStates error: " + e.getMessage(), e);
+      promise.resolve(Arguments.createMap());
+    }
+  }
+
+  /**
+   * Writes the state JSON of several inbox activity ids in a single
+   * transaction. A null state removes the persisted state of that id.
+   */
+  @ReactMethod
+  public void setInboxStates(ReadableMap states, final Promise promise) {
+    try {
+      Map<String, String> updates = new HashMap<>();
+      if (states != null) {
+        ReadableMapKeySetIterator iterator = states.keySetIterator();
+        while (iterator.hasNextKey()) {
+          String activityId = iterator.nextKey();
+          if (activityId.isEmpty()) {
+            continue;
+          }
+          updates.put(activityId,
+              states.getType(activityId) == ReadableType.String ? states.getString(activityId) : null);
+        }
+      }
+      inboxStore.setStates(updates);
+      promise.resolve(null);
+    } catch (Exception e) {
+      Log.e(TAG, "[MessagingBridge] setInboxStates error: " + e.getMessage(), e);
+      promise.reject("setInboxStates", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Resolves with the number of dismissed and read cards of each of the given
+   * inbox activity ids that has a persisted state, read in a single query.
+   */
+  @ReactMethod
+  public void getInboxCounts(ReadableArray activityIds, final Promise promise) {
+    try {
+      Map<String, RCTAEPMessagingInboxStore.Counts> counts =
+          inboxStore.getCounts(toActivityIds(activityIds));
+      WritableMap result = Arguments.createMap();
+      for (Map.Entry<String, RCTAEPMessagingInboxStore.Counts> entry : counts.entrySet()) {
+        WritableMap count = Arguments.createMap();
+        count.putInt("dismissed", entry.getValue().dismissed);
+        count.putInt("read", entry.getValue().read);
+        result.putMap(entry.getKey(), count);
+      }
+      promise.resolve(result);
+    } catch (Exception e) {
+      Log.e(TAG, "[MessagingBridge] getInboxCounts error: " + e.getMessage(), e);
+      promise.reject("getInboxCounts", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Removes the persisted state of the given inbox activity ids, or of every
+   * inbox when activityIds is null.
+   */
+  @ReactMethod
+  public void clearInboxStates(@Nullable ReadableArray activityIds, final Promise promise) {
+    try {
+      if (activityIds == null) {
+        inboxStore.clearAll();
+      } else {
+        inboxStore.clear(toActivityIds(activityIds));
+      }
+      promise.resolve(null);
+    } catch (Exception e) {
+      Log.e(TAG, "[MessagingBridge] clearInboxStates error: " + e.getMessage(), e);
+      promise.reject("clearInboxStates", e.getMessage(), e);
+    }
+  }
+
+  private static List<String> toActivityIds(ReadableArray activityIds) {
+    List<String> ids = new ArrayList<>();
+    if (activityIds == null) {
+      return ids;
+    }
+    for (int i = 0; i < activityIds.size(); i++) {
+      String activityId = activityIds.getString(i);
+      if (activityId != null && !activityId.isEmpty()) {
+        ids.add(activityId);
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Show and save decision for a single message, completed from JS while
+   * canShow waits on the latch.
+   */
+  private static final class MessageDecision {
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile boolean shouldShow;
+    private volatile boolean shouldSave;
+
+    synchronized void complete(final boolean shouldShow,
+                               final boolean shouldSave) {
+      if (latch.getCount() == 0) {
+        return;
+      }
+      this.shouldShow = shouldShow;
+      this.shouldSave = shouldSave;
+      latch.countDown();
+    }
+  }
 }
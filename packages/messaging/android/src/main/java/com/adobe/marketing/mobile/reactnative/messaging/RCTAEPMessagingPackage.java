@@ -11,30 +11,38 @@
  */
 package com.adobe.marketing.mobile.reactnative.messaging;
 
-import com.facebook.react.ReactPackage;
-import com.facebook.react.bridge.JavaScriptModule;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeModuleInfo;
+import com.facebook.react.BaseReactPackage;
 import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.uimanager.ViewManager;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-public class RCTAEPMessagingPackage implements ReactPackage {
+import com.facebook.react.module.model.ReactModuleInfo;
+import com.facebook.react.module.model.ReactModuleInfoProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the Messaging module.
+ * Modules are described by {@link ReactModuleInfo} and created on first access from JS,
+ * not when the React instance starts.
+ */
+public class RCTAEPMessagingPackage extends BaseReactPackage {
 
   @Override
-  public List<NativeModule>
-  createNativeModules(ReactApplicationContext reactContext) {
-    return Arrays.<NativeModule>asList(new RCTAEPMessagingModule(reactContext));
-  }
+  public NativeModule getModule(String name, ReactApplicationContext reactContext) {
+    if (RCTAEPMessagingModule.NAME.equals(name)) {
+      return new RCTAEPMessagingModule(reactContext);
+    }
 
-  // Deprecated from RN 0.47
-  public List<Class<? extends JavaScriptModule>> createJSModules() {
-    return Collections.emptyList();
+    return null;
   }
 
   @Override
-  public List<ViewManager>
-  createViewManagers(ReactApplicationContext reactContext) {
-    return Collections.emptyList();
+  public ReactModuleInfoProvider getReactModuleInfoProvider() {
+    return () -> {
+      Map<String, ReactModuleInfo> moduleInfos = new HashMap<>();
+      moduleInfos.put(RCTAEPMessagingModule.NAME, RCTAEPBridgeModuleInfo.create(RCTAEPMessagingModule.NAME, RCTAEPMessagingModule.class, false));
+      return moduleInfos;
+    };
   }
 }
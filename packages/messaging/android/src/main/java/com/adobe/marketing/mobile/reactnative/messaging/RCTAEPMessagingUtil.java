@@ -16,15 +16,12 @@
  import com.adobe.marketing.mobile.MessagingEdgeEventType;
  import com.adobe.marketing.mobile.messaging.Proposition;
  import com.adobe.marketing.mobile.messaging.Surface;
- import com.facebook.react.bridge.Arguments;
+ import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
+ import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeSnapshotCache;
  import com.facebook.react.bridge.ReadableArray;
  import com.facebook.react.bridge.ReadableMap;
- import com.facebook.react.bridge.ReadableMapKeySetIterator;
- import com.facebook.react.bridge.ReadableType;
  import com.facebook.react.bridge.WritableArray;
  import com.facebook.react.bridge.WritableMap;
- import com.facebook.react.bridge.WritableNativeArray;
- import com.facebook.react.bridge.WritableNativeMap;
  import java.util.ArrayList;
  import java.util.Collection;
  import java.util.HashMap;
@@ -74,103 +71,6 @@
    }
  
    // To React Native
-   static WritableMap toWritableMap(Map<String, Object> map) {
-     if (map == null) {
-       return null;
-     }
- 
-     WritableMap writableMap = Arguments.createMap();
-     Iterator iterator = map.entrySet().iterator();
- 
-     while (iterator.hasNext()) {
-       Map.Entry pair = (Map.Entry)iterator.next();
-       Object value = pair.getValue();
- 
-       if (value == null) {
-         writableMap.putNull((String)pair.getKey());
-       } else if (value instanceof Boolean) {
-         writableMap.putBoolean((String)pair.getKey(), (Boolean)value);
-       } else if (value instanceof Double) {
-         writableMap.putDouble((String)pair.getKey(), (Double)value);
-       } else if (value instanceof Integer) {
-         writableMap.putInt((String)pair.getKey(), (Integer)value);
-       } else if (value instanceof String) {
-         writableMap.putString((String)pair.getKey(), (String)value);
-       } else if (value instanceof Map) {
-         writableMap.putMap((String)pair.getKey(),
-                            toWritableMap((Map<String, Object>)value));
-       } else if (value instanceof List) {
-         writableMap.putArray((String)pair.getKey(),
-                              toWritableArray((List)value));
-       } else if (value.getClass() != null && value.getClass().isArray()) {
-         writableMap.putArray((String)pair.getKey(),
-                              toWritableArray((Object[])value));
-       }
-     }
- 
-     return writableMap;
-   }
- 
-   static WritableArray toWritableArray(Object[] array) {
-     if (array == null) {
-       return null;
-     }
-     WritableArray writableArr = Arguments.createArray();
- 
-     for (int i = 0; i < array.length; i++) {
-       Object value = array[i];
- 
-       if (value == null) {
-         writableArr.pushNull();
-       } else if (value instanceof Boolean) {
-         writableArr.pushBoolean((Boolean)value);
-       } else if (value instanceof Double) {
-         writableArr.pushDouble((Double)value);
-       } else if (value instanceof Integer) {
-         writableArr.pushInt((Integer)value);
-       } else if (value instanceof String) {
-         writableArr.pushString((String)value);
-       } else if (value instanceof Map) {
-         writableArr.pushMap(toWritableMap((Map<String, Object>)value));
-       } else if (value instanceof List) {
-         writableArr.pushArray(toWritableArray((List)value));
-       } else if (value.getClass().isArray()) {
-         writableArr.pushArray(toWritableArray((Object[])value));
-       }
-     }
- 
-     return writableArr;
-   }
- 
-   static WritableArray toWritableArray(List array) {
-     if (array == null) {
-       return null;
-     }
-     WritableArray writableArr = Arguments.createArray();
- 
-     for (Object value : array) {
-       if (value == null) {
-         writableArr.pushNull();
-       } else if (value instanceof Boolean) {
-         writableArr.pushBoolean((Boolean)value);
-       } else if (value instanceof Double) {
-         writableArr.pushDouble((Double)value);
-       } else if (value instanceof Integer) {
-         writableArr.pushInt((Integer)value);
-       } else if (value instanceof String) {
-         writableArr.pushString((String)value);
-       } else if (value instanceof Map) {
-         writableArr.pushMap(toWritableMap((Map<String, Object>)value));
-       } else if (value instanceof List) {
-         writableArr.pushArray(toWritableArray((List)value));
-       } else if (value.getClass().isArray()) {
-         writableArr.pushArray(toWritableArray((Object[])value));
-       }
-     }
- 
-     return writableArr;
-   }
- 
    static Map<String, String> convertMessageToMap(final Message message) {
      Map<String, String> data = new HashMap<>();
      data.put("id", message.getId());
@@ -179,7 +79,7 @@
    }
  
    static ReadableArray convertMessagesToJS(final Collection<Message> messages) {
-     WritableArray result = new WritableNativeArray();
+     WritableArray result = RCTAEPBridgeConverter.createArray();
  
        for (Message message : messages) {
            result.pushMap(convertToReadableMap(convertMessageToMap(message)));
@@ -188,20 +88,25 @@
      return result;
    }
  
+   /**
+    * Converts the propositions of each surface, reusing the snapshot of a
+    * proposition converted before if its content has not changed.
+    */
    static WritableMap convertSurfacePropositions(
        final Map<Surface, List<Proposition>> propositionMap,
-       String packageName) {
-     WritableMap data = new WritableNativeMap();
+       String packageName,
+       final RCTAEPBridgeSnapshotCache snapshots) {
+     WritableMap data = RCTAEPBridgeConverter.createMap();
  
      for (Map.Entry<Surface, List<Proposition>> entry :
           propositionMap.entrySet()) {
        String key = entry.getKey().getUri().replace(
            "mobileapp://" + packageName + "/", "");
-       WritableArray propositions = new WritableNativeArray();
+       WritableArray propositions = RCTAEPBridgeConverter.createArray();
  
        for (Iterator<Proposition> iterator = entry.getValue().iterator();
             iterator.hasNext();) {
-         propositions.pushMap(toWritableMap(iterator.next().toEventData()));
+         propositions.pushMap(convertProposition(iterator.next(), snapshots));
        }
  
        data.putArray(key, propositions);
@@ -210,8 +115,121 @@
      return data;
    }
  
+   /**
+    * Converts one page of the propositions of each surface. Each surface maps to
+    * its total proposition count, the page offset and the propositions of the
+    * page, either in full or as summaries without item content.
+    */
+   static WritableMap convertSurfacePropositionsPage(
+       final Map<Surface, List<Proposition>> propositionMap,
+       String packageName, final int offset, final int limit,
+       final boolean summaryOnly, final RCTAEPBridgeSnapshotCache snapshots) {
+     WritableMap data = RCTAEPBridgeConverter.createMap();
+
+     for (Map.Entry<Surface, List<Proposition>> entry :
+          propositionMap.entrySet()) {
+       String key = entry.getKey().getUri().replace(
+           "mobileapp://" + packageName + "/", "");
+       List<Proposition> surfacePropositions = entry.getValue();
+       int total = surfacePropositions != null ? surfacePropositions.size() : 0;
+       int start = Math.min(Math.max(0, offset), total);
+       int end = limit > 0 ? Math.min(total, start + limit) : total;
+
+       WritableArray propositions = RCTAEPBridgeConverter.createArray();
+       for (int i = start; i < end; i++) {
+         Proposition proposition = surfacePropositions.get(i);
+         propositions.pushMap(summaryOnly
+                                  ? convertPropositionSummary(proposition)
+                                  : convertProposition(proposition, snapshots));
+       }
+
+       WritableMap page = RCTAEPBridgeConverter.createMap();
+       page.putInt("total", total);
+       page.putInt("offset", start);
+       page.putArray("propositions", propositions);
+       data.putMap(key, page);
+     }
+
+     return data;
+   }
+
+   /**
+    * Converts the id, scope, activity id and rank of a proposition and the id,
+    * schema and meta of its items, leaving out the item content.
+    */
+   @SuppressWarnings("unchecked")
+   static WritableMap convertPropositionSummary(final Proposition proposition) {
+     WritableMap summary = RCTAEPBridgeConverter.createMap();
+     summary.putString("id", proposition.getUniqueId());
+     summary.putString("scope", proposition.getScope());
+
+     Map<String, Object> eventData = proposition.toEventData();
+     if (eventData == null) {
+       summary.putArray("items", RCTAEPBridgeConverter.createArray());
+       return summary;
+     }
+
+     Object scopeDetails = eventData.get("scopeDetails");
+     if (scopeDetails instanceof Map) {
+       Object activity = ((Map<String, Object>) scopeDetails).get("activity");
+       Object activityId = activity instanceof Map
+                               ? ((Map<String, Object>) activity).get("id")
+                               : null;
+       if (activityId instanceof String) {
+         summary.putString("activityId", (String) activityId);
+       }
+       Object rank = ((Map<String, Object>) scopeDetails).get("rank");
+       if (rank instanceof Number) {
+         summary.putDouble("rank", ((Number) rank).doubleValue());
+       }
+     }
+
+     WritableArray items = RCTAEPBridgeConverter.createArray();
+     Object rawItems = eventData.get("items");
+     if (rawItems instanceof List) {
+       for (Object rawItem : (List<Object>) rawItems) {
+         if (!(rawItem instanceof Map)) continue;
+         Map<String, Object> itemData = (Map<String, Object>) rawItem;
+         Object itemId = itemData.get("id");
+         Object schema = itemData.get("schema");
+         Object content = itemData.get("data");
+         Object meta = content instanceof Map
+                           ? ((Map<String, Object>) content).get("meta")
+                           : null;
+
+         WritableMap item = RCTAEPBridgeConverter.createMap();
+         item.putString("id", itemId instanceof String ? (String) itemId : null);
+         item.putString("schema",
+                        schema instanceof String ? (String) schema : null);
+         if (meta instanceof Map) {
+           item.putMap("meta", RCTAEPBridgeConverter.toWritableMap(
+                                   (Map<String, Object>) meta));
+         }
+         items.pushMap(item);
+       }
+     }
+     summary.putArray("items", items);
+     return summary;
+   }
+
+   static WritableMap convertProposition(final Proposition proposition,
+                                         final RCTAEPBridgeSnapshotCache snapshots) {
+     final Map<String, Object> eventData = proposition.toEventData();
+     final String id = proposition.getUniqueId();
+     if (id == null || eventData == null) {
+       return RCTAEPBridgeConverter.toWritableMap(eventData);
+     }
+
+     final WritableMap snapshot = snapshots.get(id, eventData);
+     if (snapshot != null) {
+       return snapshot;
+     }
+     return snapshots.put(id, eventData,
+                          RCTAEPBridgeConverter.toWritableMap(eventData));
+   }
+
    static ReadableMap convertToReadableMap(Map<String, String> map) {
-     WritableMap writableMap = Arguments.createMap();
+     WritableMap writableMap = RCTAEPBridgeConverter.createMap();
  
      for (Map.Entry<String, String> entry : map.entrySet()) {
        writableMap.putString(entry.getKey(), entry.getValue());
@@ -219,65 +237,4 @@
      return writableMap;
    }
 
-   /**
-     * Converts {@link ReadableMap} Map to {@link Map}
-     *
-     * @param readableMap instance of {@code ReadableMap}
-     * @return instance of {@code Map}
-     */
-    static Map<String, Object> convertReadableMapToMap(final ReadableMap readableMap) {
-        ReadableMapKeySetIterator iterator = readableMap.keySetIterator();
-        Map<String, Object> map = new HashMap<>();
-        while (iterator.hasNextKey()) {
-            String key = iterator.nextKey();
-            ReadableType type = readableMap.getType(key);
-            switch (type) {
-                case Boolean:
-                    map.put(key, readableMap.getBoolean(key));
-                    break;
-                case Number:
-                    map.put(key, readableMap.getDouble(key));
-                    break;
-                case String:
-                    map.put(key, readableMap.getString(key));
-                    break;
-                case Map:
-                    map.put(key, convertReadableMapToMap(readableMap.getMap(key)));
-                    break;
-                case Array:
-                    map.put(key, convertReadableArrayToList(readableMap.getArray(key)));
-                    break;
-                default:
-                    break;
-            }
-        }
-        return map;
-    }
-
-    static List<Object> convertReadableArrayToList(final ReadableArray readableArray) {
-        final List<Object> list = new ArrayList<>(readableArray.size());
-        for (int i = 0; i < readableArray.size(); i++) {
-            ReadableType indexType = readableArray.getType(i);
-            switch(indexType) {
-                case Boolean:
-                    list.add(i, readableArray.getBoolean(i));
-                    break;
-                case Number:
-                    list.add(i, readableArray.getDouble(i));
-                    break;
-                case String:
-                    list.add(i, readableArray.getString(i));
-                    break;
-                case Map:
-                    list.add(i, convertReadableMapToMap(readableArray.getMap(i)));
-                    break;
-                case Array:
-                    list.add(i, convertReadableArrayToList(readableArray.getArray(i)));
-                    break;
-                default:
-                    break;
-            }
-        }
-        return list;
-    }
  }
\ No newline at end of file
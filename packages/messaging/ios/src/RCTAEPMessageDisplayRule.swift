@@ -0,0 +1,62 @@
+/*
+    Copyright 2026 Adobe. All rights reserved.
+    This file is licensed to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+    http://www.apache.org/licenses/LICENSE-2.0 Unless required by applicable law
+    or agreed to in writing, software distributed under the License is
+    distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS OF
+    ANY KIND, either express or implied. See the License for the specific
+    language governing permissions and limitations under the License.
+*/
+
+import Foundation
+
+/// Show/save rule registered from JS through setMessageDisplayRules and
+/// evaluated in shouldShowMessage, so matching messages skip the JS delegate.
+struct RCTAEPMessageDisplayRule {
+    let messageId: NSRegularExpression?
+    let screen: NSRegularExpression?
+    let maxDisplays: Int
+    let shouldShowMessage: Bool
+    let shouldSaveMessage: Bool
+
+    init(_ rule: [String: Any]) {
+        messageId = RCTAEPMessageDisplayRule.compileWildcard(rule["messageId"] as? String)
+        screen = RCTAEPMessageDisplayRule.compileWildcard(rule["screen"] as? String)
+        maxDisplays = (rule["maxDisplays"] as? NSNumber)?.intValue ?? 0
+        shouldShowMessage = rule["shouldShowMessage"] as? Bool ?? true
+        shouldSaveMessage = rule["shouldSaveMessage"] as? Bool ?? false
+    }
+
+    /// Returns true if this rule decides for the message on the given screen
+    func matches(messageId: String, screen: String?) -> Bool {
+        if let pattern = self.messageId, !RCTAEPMessageDisplayRule.matches(pattern, messageId) {
+            return false
+        }
+        guard let pattern = self.screen else {
+            return true
+        }
+        return screen.map { RCTAEPMessageDisplayRule.matches(pattern, $0) } ?? false
+    }
+
+    /// Whether the message should be shown, honoring maxDisplays
+    func shouldShowMessage(displayCount: Int) -> Bool {
+        return shouldShowMessage && (maxDisplays <= 0 || displayCount < maxDisplays)
+    }
+
+    private static func compileWildcard(_ wildcard: String?) -> NSRegularExpression? {
+        guard let wildcard = wildcard else {
+            return nil
+        }
+        let pattern = wildcard
+            .components(separatedBy: "*")
+            .map { NSRegularExpression.escapedPattern(for: $0) }
+            .joined(separator: ".*")
+        return try? NSRegularExpression(pattern: "^" + pattern + "$", options: [.dotMatchesLineSeparators])
+    }
+
+    private static func matches(_ pattern: NSRegularExpression, _ value: String) -> Bool {
+        return pattern.firstMatch(in: value, range: NSRange(value.startIndex..., in: value)) != nil
+    }
+}
@@ -17,6 +17,10 @@
 
 RCT_EXTERN_METHOD(supportedEvents)
 
+RCT_EXTERN_METHOD(removeEventListeners
+                  : (NSString *)eventName count
+                  : (double)count);
+
 RCT_EXTERN_METHOD(extensionVersion
                   : (RCTPromiseResolveBlock)resolve rejecter
                   : (RCTPromiseRejectBlock)reject);
@@ -34,14 +38,49 @@ RCT_EXTERN_METHOD(getPropositionsForSurfaces
                   : (RCTPromiseResolveBlock)resolve withRejecter
                   : (RCTPromiseRejectBlock)reject);
 
+RCT_EXTERN_METHOD(getPropositionsForSurfacesPage
+                  : (NSArray<NSString *> *)surfaces offset
+                  : (double)offset limit
+                  : (double)limit summaryOnly
+                  : (BOOL)summaryOnly withResolver
+                  : (RCTPromiseResolveBlock)resolve withRejecter
+                  : (RCTPromiseRejectBlock)reject);
+
+RCT_EXTERN_METHOD(getPropositionById
+                  : (NSString *)propositionId withResolver
+                  : (RCTPromiseResolveBlock)resolve withRejecter
+                  : (RCTPromiseRejectBlock)reject);
+
 RCT_EXTERN_METHOD(refreshInAppMessages);
 
 RCT_EXTERN_METHOD(setMessagingDelegate);
 
+RCT_EXTERN_METHOD(setMessageCacheLimits
+                  : (double)maxEntries maxAgeMs
+                  : (double)maxAgeMs);
+
+RCT_EXTERN_METHOD(getMessageCacheStats
+                  : (RCTPromiseResolveBlock)resolve withRejecter
+                  : (RCTPromiseRejectBlock)reject);
+
 RCT_EXTERN_METHOD(setMessageSettings
                   : (BOOL) shouldShowMessage withShouldSaveMessage
                   : (BOOL)shouldSaveMessage);
 
+RCT_EXTERN_METHOD(setMessageSettingsForMessage
+                  : (NSString *)messageId shouldShowMessage
+                  : (BOOL)shouldShowMessage shouldSaveMessage
+                  : (BOOL)shouldSaveMessage);
+
+RCT_EXTERN_METHOD(setMessageDisplayRules
+                  : (NSArray<NSDictionary *> *)rules);
+
+RCT_EXTERN_METHOD(setCurrentScreen
+                  : (NSString * _Nullable)screen);
+
+RCT_EXTERN_METHOD(setMessageDecisionTimeout
+                  : (double)timeoutMs);
+
 RCT_EXTERN_METHOD(updatePropositionsForSurfaces
                   : (NSArray<NSString *> *)surfaces withResolver
                   : (RCTPromiseResolveBlock)resolve withRejecter
@@ -55,6 +94,14 @@ RCT_EXTERN_METHOD(trackContentCardInteraction
                   : (NSDictionary *)propositionMap contentCardMap
                   : (NSDictionary *)contentCardMap);
 
+RCT_EXTERN_METHOD(trackContentCardDisplayById
+                  : (NSString *)uuid itemId
+                  : (NSString * _Nullable)itemId);
+
+RCT_EXTERN_METHOD(trackContentCardInteractionById
+                  : (NSString *)uuid itemId
+                  : (NSString * _Nullable)itemId);
+
 
 RCT_EXTERN_METHOD(handleJavascriptMessage
                   : (NSString *)messageId handlerName
@@ -72,6 +119,10 @@ RCT_EXTERN_METHOD(trackPropositionItem
                   : (RCTPromiseResolveBlock)resolve withRejecter
                   : (RCTPromiseRejectBlock)reject);
 
+RCT_EXTERN_METHOD(trackPropositionItems
+                  : (NSArray<NSDictionary *> *)entries coalesceWindowMs
+                  : (double)coalesceWindowMs);
+
 RCT_EXTERN_METHOD(getInboxState
                   : (NSString *)activityId withResolver
                   : (RCTPromiseResolveBlock)resolve withRejecter
@@ -83,6 +134,26 @@ RCT_EXTERN_METHOD(setInboxState
                   : (RCTPromiseResolveBlock)resolve withRejecter
                   : (RCTPromiseRejectBlock)reject);
 
+RCT_EXTERN_METHOD(getInboxStates
+                  : (NSArray<NSString *> *)activityIds withResolver
+                  : (RCTPromiseResolveBlock)resolve withRejecter
+                  : (RCTPromiseRejectBlock)reject);
+
+RCT_EXTERN_METHOD(setInboxStates
+                  : (NSDictionary *)states withResolver
+                  : (RCTPromiseResolveBlock)resolve withRejecter
+                  : (RCTPromiseRejectBlock)reject);
+
+RCT_EXTERN_METHOD(getInboxCounts
+                  : (NSArray<NSString *> *)activityIds withResolver
+                  : (RCTPromiseResolveBlock)resolve withRejecter
+                  : (RCTPromiseRejectBlock)reject);
+
+RCT_EXTERN_METHOD(clearInboxStates
+                  : (NSArray<NSString *> * _Nullable)activityIds withResolver
+                  : (RCTPromiseResolveBlock)resolve withRejecter
+                  : (RCTPromiseRejectBlock)reject);
+
 RCT_EXTERN_METHOD(setAutoTrack
                   : (NSString *)messageId autoTrack
                   : (BOOL)autoTrack);
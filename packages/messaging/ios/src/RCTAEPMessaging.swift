@@ -20,12 +20,20 @@ import WebKit
 
 @objc(RCTAEPMessaging)
 public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
-    private var messageCache = [String: Message]()
-    private var jsHandlerMessageCache = [String: Message]()
+    private let messageCache = RCTAEPMessagingCache<Message>()
+    private let jsHandlerMessageCache = RCTAEPMessagingCache<Message>()
     private var latestMessage: Message? = nil
-    private let semaphore = DispatchSemaphore(value: 0)
+    // Default decision, used when JS does not answer shouldShowMessage in time
     private var shouldSaveMessage = false
     private var shouldShowMessage = true
+    private var decisionTimeoutMs = Constants.DEFAULT_DECISION_TIMEOUT_MS
+    // Decisions awaited by shouldShowMessage, keyed by message id
+    private var pendingDecisions = [String: MessageDecision]()
+    private let decisionLock = NSLock()
+    // Rules evaluated before asking JS, with per-session display counts by message id
+    private var displayRules = [RCTAEPMessageDisplayRule]()
+    private var displayCounts = [String: Int]()
+    private var currentScreen: String? = nil
     public static var emitter: RCTEventEmitter!
 
     override init() {
@@ -41,6 +49,12 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
         return Constants.SUPPORTED_EVENTS
     }
 
+    // The JS side of the module sends the event name too; RCTEventEmitter only keeps a total count.
+    @objc
+    func removeEventListeners(_ eventName: String, count: Double) {
+        removeListeners(count)
+    }
+
     @objc
     func extensionVersion(_ resolve: RCTPromiseResolveBlock, rejecter reject: RCTPromiseRejectBlock)
     {
@@ -84,19 +98,54 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
                 return
             }
 
-            // Populate uuid->Proposition map using scopeDetails.activity.id
-            for (_, list) in propositions {
-                for proposition in list {
-                    if let pMap = proposition.asDictionary() {
-                        if let key = RCTAEPMessagingDataBridge.extractActivityId(from: pMap) {
-                            self.propositionByUuid[key] = proposition
-                        }
-                    }
-                }
+            self.cachePropositions(propositions)
+            resolve(RCTAEPMessagingDataBridge.transformPropositionDict(dict: propositions))
+        }
+    }
+
+    @objc
+    func getPropositionsForSurfacesPage(
+        _ surfaces: [String],
+        offset: Double,
+        limit: Double,
+        summaryOnly: Bool,
+        withResolver resolve: @escaping RCTPromiseResolveBlock,
+        withRejecter reject: @escaping RCTPromiseRejectBlock
+    ) {
+        let surfacePaths = surfaces.map { $0.isEmpty ? Surface() : Surface(path: $0) }
+        Messaging.getPropositionsForSurfaces(surfacePaths) { [weak self] propositions, error in
+            guard let self = self else { return }
+            guard error == nil else {
+                reject("Unable to Retrieve Propositions", nil, nil)
+                return
+            }
+            guard let propositions = propositions, !propositions.isEmpty else {
+                resolve([String: Any]())
+                return
             }
 
-            resolve(RCTAEPMessagingDataBridge.transformPropositionDict(dict: propositions))
+            self.cachePropositions(propositions)
+            resolve(RCTAEPMessagingDataBridge.transformPropositionPage(
+                dict: propositions,
+                offset: Int(offset),
+                limit: Int(limit),
+                summaryOnly: summaryOnly
+            ))
+        }
+    }
+
+    @objc
+    func getPropositionById(
+        _ propositionId: String,
+        withResolver resolve: @escaping RCTPromiseResolveBlock,
+        withRejecter reject: @escaping RCTPromiseRejectBlock
+    ) {
+        guard let proposition = propositionsById[propositionId] else {
+            print("getPropositionById: no proposition returned with id \(propositionId)")
+            resolve(nil)
+            return
         }
+        resolve(proposition.asDictionary())
     }
 
     @objc
@@ -109,9 +158,68 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
         _ shouldShowMessage: Bool,
         withShouldSaveMessage shouldSaveMessage: Bool
     ) {
+        decisionLock.lock()
         self.shouldShowMessage = shouldShowMessage
         self.shouldSaveMessage = shouldSaveMessage
-        semaphore.signal()
+        // Apps that answer shouldShowMessage through the global settings still
+        // release any message waiting for a decision.
+        pendingDecisions.values.forEach {
+            $0.complete(shouldShowMessage: shouldShowMessage, shouldSaveMessage: shouldSaveMessage)
+        }
+        decisionLock.unlock()
+    }
+
+    @objc
+    func setMessageSettingsForMessage(
+        _ messageId: String,
+        shouldShowMessage: Bool,
+        shouldSaveMessage: Bool
+    ) {
+        decisionLock.lock()
+        defer { decisionLock.unlock() }
+        guard let decision = pendingDecisions[messageId] else {
+            print("setMessageSettingsForMessage: no pending decision for \(messageId)")
+            return
+        }
+        decision.complete(shouldShowMessage: shouldShowMessage, shouldSaveMessage: shouldSaveMessage)
+    }
+
+    @objc
+    func setMessageDisplayRules(_ rules: [[String: Any]]) {
+        decisionLock.lock()
+        displayRules = rules.map { RCTAEPMessageDisplayRule($0) }
+        decisionLock.unlock()
+    }
+
+    @objc
+    func setCurrentScreen(_ screen: String?) {
+        decisionLock.lock()
+        currentScreen = screen
+        decisionLock.unlock()
+    }
+
+    @objc
+    func setMessageDecisionTimeout(_ timeoutMs: Double) {
+        decisionLock.lock()
+        decisionTimeoutMs = max(0, Int(timeoutMs))
+        decisionLock.unlock()
+    }
+
+    @objc
+    func setMessageCacheLimits(_ maxEntries: Double, maxAgeMs: Double) {
+        messageCache.setLimits(maxEntries: Int(maxEntries), maxAge: maxAgeMs / 1000)
+        jsHandlerMessageCache.setLimits(maxEntries: Int(maxEntries), maxAge: maxAgeMs / 1000)
+    }
+
+    @objc
+    func getMessageCacheStats(
+        _ resolve: RCTPromiseResolveBlock,
+        withRejecter reject: RCTPromiseRejectBlock
+    ) {
+        resolve([
+            "messageCache": messageCache.stats(),
+            "presentableCache": jsHandlerMessageCache.stats(),
+        ])
     }
 
     @objc
@@ -129,6 +237,8 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
         Messaging.updatePropositionsForSurfaces(mapped) { success in
             if success {
                 self.propositionByUuid.removeAll()
+                self.propositionsById.removeAll()
+                self.displayTrackedAt.removeAll()
                 resolve(nil)
             } else {
                 reject("Unable to update propositions for surfaces", nil, nil)
@@ -257,6 +367,32 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
         }
     }
 
+    @objc
+    func trackContentCardDisplayById(_ uuid: String, itemId: String?) {
+        cachedPropositionItem(uuid, itemId: itemId)?.track(withEdgeEventType: MessagingEdgeEventType.display)
+    }
+
+    @objc
+    func trackContentCardInteractionById(_ uuid: String, itemId: String?) {
+        cachedPropositionItem(uuid, itemId: itemId)?.track("click", withEdgeEventType: MessagingEdgeEventType.interact)
+    }
+
+    /// Item of a cached proposition by its scopeDetails.activity.id, or its first item when itemId is nil
+    private func cachedPropositionItem(_ uuid: String, itemId: String?) -> PropositionItem? {
+        guard let proposition = propositionByUuid[uuid] else {
+            NSLog("[MessagingBridge] No cached proposition for uuid=\(uuid); no-op.")
+            return nil
+        }
+        guard let itemId = itemId else {
+            return proposition.items.first
+        }
+        guard let item = proposition.items.first(where: { $0.itemId == itemId }) else {
+            NSLog("[MessagingBridge] No item \(itemId) in cached proposition for uuid=\(uuid); no-op.")
+            return nil
+        }
+        return item
+    }
+
     @objc
     func handleJavascriptMessage(
         _ messageId: String,
@@ -334,28 +470,57 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
     ) {
         NSLog("[MessagingBridge] trackPropositionItem called with eventType=\(eventType), uuid=\(uuid), interaction=\(String(describing: interaction)), tokens=\(String(describing: tokens))")
 
-        guard !uuid.isEmpty else {
-            NSLog("[MessagingBridge] Empty uuid provided; no-op.")
-            resolve(nil)
-            return
-        }
+        // Event type mapping (Android parity)
+        let edgeEventType = mapEdgeEventType(eventType) ?? .display
+        trackCachedPropositionItem(uuid, interaction: interaction, edgeEventType: edgeEventType, tokens: tokens)
+        resolve(nil)
+    }
 
-        guard let proposition = propositionByUuid[uuid] else {
-            NSLog("[MessagingBridge] No cached proposition for uuid=\(uuid); no-op.")
-            resolve(nil)
-            return
+    /**
+     * Tracks several PropositionItems in a single bridge call, in order.
+     * Displays of a uuid already tracked within the coalescing window, including
+     * earlier in the same batch, are dropped. Only displays that were actually
+     * tracked start a window.
+     *
+     * - Parameters:
+     *   - entries: Array of {uuid, interaction, eventType, tokens} dictionaries
+     *   - coalesceWindowMs: Window in which repeated displays of a uuid are dropped, 0 to track all of them
+     */
+    @objc
+    func trackPropositionItems(_ entries: [[String: Any]], coalesceWindowMs: Double) {
+        let now = ProcessInfo.processInfo.systemUptime
+        // Displays outside the window of this call can no longer be coalesced
+        displayTrackedAt = displayTrackedAt.filter { (now - $0.value) * 1000 < coalesceWindowMs }
+        for entry in entries {
+            guard let uuid = entry["uuid"] as? String else { continue }
+            let edgeEventType = mapEdgeEventType(entry["eventType"] as? Int ?? -1) ?? .display
+            let coalesce = edgeEventType == .display && coalesceWindowMs > 0
+            if coalesce && displayTrackedAt[uuid] != nil {
+                continue
+            }
+            let tracked = trackCachedPropositionItem(
+                uuid,
+                interaction: entry["interaction"] as? String,
+                edgeEventType: edgeEventType,
+                tokens: entry["tokens"] as? [String]
+            )
+            if coalesce && tracked {
+                displayTrackedAt[uuid] = now
+            }
         }
+    }
 
-        NSLog("[MessagingBridge] Found proposition for uuid=\(uuid). scope=\(proposition.scope), items=\(proposition.items.count)")
-
-        // Event type mapping (Android parity)
-        let edgeEventType = mapEdgeEventType(eventType) ?? .display
+    /// - Returns: true if the item was found in the cache and tracked
+    @discardableResult
+    private func trackCachedPropositionItem(_ uuid: String, interaction: String?, edgeEventType: MessagingEdgeEventType, tokens: [String]?) -> Bool {
+        guard !uuid.isEmpty else {
+            NSLog("[MessagingBridge] Empty uuid provided; no-op.")
+            return false
+        }
 
         // Track on the first item under this proposition
-        guard let item = proposition.items.first else {
-            NSLog("[MessagingBridge] Proposition for uuid=\(uuid) has no items; no-op.")
-            resolve(nil)
-            return
+        guard let item = cachedPropositionItem(uuid, itemId: nil) else {
+            return false
         }
 
         // Direct call without normalization (expecting valid inputs)
@@ -363,10 +528,10 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
         item.track(interaction, withEdgeEventType: edgeEventType, forTokens: tokens)
 
         NSLog("[MessagingBridge] Tracking complete for uuid=\(uuid)")
-        resolve(nil)
+        return true
     }
 
-    private static let inboxKeyPrefix = "aep_messaging_inbox_"
+    private let inboxStore = RCTAEPMessagingInboxStore()
 
     @objc
     func getInboxState(_ activityId: String, withResolver resolve: @escaping RCTPromiseResolveBlock, withRejecter reject: @escaping RCTPromiseRejectBlock) {
@@ -374,9 +539,7 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
             resolve(nil)
             return
         }
-        let key = RCTAEPMessaging.inboxKeyPrefix + activityId
-        let value = UserDefaults.standard.string(forKey: key)
-        resolve(value)
+        resolve(inboxStore.getStates([activityId])[activityId])
     }
 
     @objc
@@ -385,13 +548,64 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
             resolve(nil)
             return
         }
-        let key = RCTAEPMessaging.inboxKeyPrefix + activityId
-        UserDefaults.standard.set(stateJson, forKey: key)
+        inboxStore.setStates([activityId: stateJson])
+        resolve(nil)
+    }
+
+    @objc
+    func getInboxStates(_ activityIds: [String], withResolver resolve: @escaping RCTPromiseResolveBlock, withRejecter reject: @escaping RCTPromiseRejectBlock) {
+        resolve(inboxStore.getStates(activityIds.filter { !$0.isEmpty }))
+    }
+
+    @objc
+    func setInboxStates(_ states: [String: Any], withResolver resolve: @escaping RCTPromiseResolveBlock, withRejecter reject: @escaping RCTPromiseRejectBlock) {
+        var updates = [String: String?]()
+        for (activityId, state) in states where !activityId.isEmpty {
+            updates[activityId] = .some(state as? String)
+        }
+        inboxStore.setStates(updates)
+        resolve(nil)
+    }
+
+    @objc
+    func getInboxCounts(_ activityIds: [String], withResolver resolve: @escaping RCTPromiseResolveBlock, withRejecter reject: @escaping RCTPromiseRejectBlock) {
+        let counts = inboxStore.getCounts(activityIds.filter { !$0.isEmpty })
+        resolve(counts.mapValues { ["dismissed": $0.dismissed, "read": $0.read] })
+    }
+
+    @objc
+    func clearInboxStates(_ activityIds: [String]?, withResolver resolve: @escaping RCTPromiseResolveBlock, withRejecter reject: @escaping RCTPromiseRejectBlock) {
+        if let activityIds = activityIds {
+            inboxStore.clear(activityIds.filter { !$0.isEmpty })
+        } else {
+            inboxStore.clearAll()
+        }
         resolve(nil)
     }
 
     // Map uuid (scopeDetails.activity.id) -> parent Proposition
     private var propositionByUuid = [String: Proposition]()
+    // Propositions last returned to JS by unique id, so the content of a proposition
+    // listed in summary mode can be fetched on its own
+    private var propositionsById = [String: Proposition]()
+    // Last time a display was tracked by uuid, used to coalesce repeated displays
+    // sent to trackPropositionItems. Entries outside the coalescing window of the
+    // latest call are dropped
+    private var displayTrackedAt = [String: TimeInterval]()
+
+    private func cachePropositions(_ propositions: [Surface: [Proposition]]) {
+        // Populate uuid->Proposition map using scopeDetails.activity.id
+        for (_, list) in propositions {
+            for proposition in list {
+                if let pMap = proposition.asDictionary() {
+                    if let key = RCTAEPMessagingDataBridge.extractActivityId(from: pMap) {
+                        propositionByUuid[key] = proposition
+                    }
+                }
+                propositionsById[proposition.uniqueId] = proposition
+            }
+        }
+    }
    
     // Messaging Delegate Methods
     public func onDismiss(message: Showable) {
@@ -413,6 +627,9 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
             let message = fullscreenMessage.parent
         {
             jsHandlerMessageCache[message.id] = message
+            decisionLock.lock()
+            displayCounts[message.id, default: 0] += 1
+            decisionLock.unlock()
             emitNativeEvent(
                 name: Constants.ON_SHOW_EVENT,
                 body: RCTAEPMessagingDataBridge.transformToMessage(message: message)
@@ -423,35 +640,72 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
     public func shouldShowMessage(message: Showable) -> Bool {
         let fullscreenMessage = message as? FullscreenMessage
         let parentMessage = fullscreenMessage?.parent
-        
-        // If parent message exists, emit it
-        if let parentMessage = parentMessage {
-            emitNativeEvent(
-                name: Constants.SHOULD_SHOW_MESSAGE_EVENT,
-                body: RCTAEPMessagingDataBridge.transformToMessage(message: parentMessage)
-            )
-        } else if let fullscreenMessage = fullscreenMessage {
-            // Parent is nil but fullscreen message exists - emit empty body for now
-            emitNativeEvent(
-                name: Constants.SHOULD_SHOW_MESSAGE_EVENT,
-                body: [:]
-            )
-        } else {
-            // Both are nil, don't emit anything and return false
+
+        // Both are nil, don't emit anything and return false
+        guard fullscreenMessage != nil else {
             return false
         }
-        
-        semaphore.wait()
+
+        // Parent is nil but fullscreen message exists - emit empty body for now,
+        // which JS answers with an empty message id
+        let decision = decisionFromDisplayRules(messageId: parentMessage?.id)
+            ?? requestMessageDecision(
+                messageId: parentMessage?.id ?? "",
+                body: parentMessage.map { RCTAEPMessagingDataBridge.transformToMessage(message: $0) } ?? [:]
+            )
+
         if let message = parentMessage {
-            if self.shouldSaveMessage {
+            if decision.shouldSaveMessage {
                 self.messageCache[message.id] = message
             }
 
-            if self.shouldShowMessage {
+            if decision.shouldShowMessage {
                 latestMessage = message
             }
         }
-        return self.shouldShowMessage
+        return decision.shouldShowMessage
+    }
+
+    /// Returns the decision of the first registered rule matching the message and current screen
+    private func decisionFromDisplayRules(messageId: String?) -> (shouldShowMessage: Bool, shouldSaveMessage: Bool)? {
+        guard let messageId = messageId else {
+            return nil
+        }
+        decisionLock.lock()
+        defer { decisionLock.unlock() }
+        guard let rule = displayRules.first(where: { $0.matches(messageId: messageId, screen: currentScreen) }) else {
+            return nil
+        }
+        return (rule.shouldShowMessage(displayCount: displayCounts[messageId] ?? 0), rule.shouldSaveMessage)
+    }
+
+    /// Emits shouldShowMessage and waits at most decisionTimeoutMs for JS to answer through
+    /// setMessageSettingsForMessage, falling back to the default decision.
+    /// Concurrent requests for the same message id share one decision.
+    private func requestMessageDecision(messageId: String, body: Any) -> (shouldShowMessage: Bool, shouldSaveMessage: Bool) {
+        decisionLock.lock()
+        let existing = pendingDecisions[messageId]
+        let decision = existing ?? MessageDecision()
+        pendingDecisions[messageId] = decision
+        let timeoutMs = decisionTimeoutMs
+        decisionLock.unlock()
+
+        if existing == nil {
+            emitNativeEvent(name: Constants.SHOULD_SHOW_MESSAGE_EVENT, body: body)
+        }
+
+        let answered = decision.wait(timeoutMs: timeoutMs)
+
+        decisionLock.lock()
+        defer { decisionLock.unlock() }
+        if pendingDecisions[messageId] === decision {
+            pendingDecisions.removeValue(forKey: messageId)
+        }
+        if answered {
+            return (decision.shouldShowMessage, decision.shouldSaveMessage)
+        }
+        print("shouldShowMessage: no decision for \(messageId) within \(timeoutMs)ms, using the default")
+        return (self.shouldShowMessage, self.shouldSaveMessage)
     }
 
     public func urlLoaded(_ url: URL, byMessage message: Showable) {
@@ -475,6 +729,32 @@ public class RCTAEPMessaging: RCTEventEmitter, MessagingDelegate {
     }
 }
 
+/// Show and save decision for a single message, completed from JS while
+/// shouldShowMessage waits on the semaphore. Mutated under decisionLock.
+private final class MessageDecision {
+    private let semaphore = DispatchSemaphore(value: 0)
+    private var isComplete = false
+    private(set) var shouldShowMessage = true
+    private(set) var shouldSaveMessage = false
+
+    func complete(shouldShowMessage: Bool, shouldSaveMessage: Bool) {
+        guard !isComplete else { return }
+        isComplete = true
+        self.shouldShowMessage = shouldShowMessage
+        self.shouldSaveMessage = shouldSaveMessage
+        semaphore.signal()
+    }
+
+    func wait(timeoutMs: Int) -> Bool {
+        guard semaphore.wait(timeout: .now() + .milliseconds(timeoutMs)) == .success else {
+            return false
+        }
+        // Wake the next waiter sharing this decision
+        semaphore.signal()
+        return true
+    }
+}
+
 // MARK: - Private helpers
 private extension RCTAEPMessaging {
     /// Maps JS MessagingEdgeEventType integer values to AEPMessaging.MessagingEdgeEventType cases
@@ -0,0 +1,144 @@
+/*
+    Copyright 2026 Adobe. All rights reserved.
+    This file is licensed to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+    http://www.apache.org/licenses/LICENSE-2.0 Unless required by applicable law
+    or agreed to in writing, software distributed under the License is
+    distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS OF
+    ANY KIND, either express or implied. See the License for the specific
+    language governing permissions and limitations under the License.
+*/
+
+import Foundation
+
+/// Thread-safe LRU cache keyed by message id, bounded by entry count and by entry age.
+/// It is accessed from both the messaging delegate callbacks and the React Native method queue.
+final class RCTAEPMessagingCache<Value> {
+    static var defaultMaxEntries: Int { 100 }
+    static var defaultMaxAge: TimeInterval { 60 * 60 }
+
+    private struct Entry {
+        let value: Value
+        let createdAt: TimeInterval
+    }
+
+    private let lock = NSLock()
+    private var entries = [String: Entry]()
+    // Keys from least to most recently used
+    private var order = [String]()
+    private var maxEntries = RCTAEPMessagingCache.defaultMaxEntries
+    private var maxAge = RCTAEPMessagingCache.defaultMaxAge
+    private var hits = 0
+    private var misses = 0
+    private var evictions = 0
+    private var expirations = 0
+
+    subscript(key: String) -> Value? {
+        get {
+            lock.lock()
+            defer { lock.unlock() }
+            if let entry = entries[key], isExpired(entry, now: now()) {
+                remove(key)
+                expirations += 1
+            }
+            guard let entry = entries[key] else {
+                misses += 1
+                return nil
+            }
+            hits += 1
+            touch(key)
+            return entry.value
+        }
+        set {
+            lock.lock()
+            defer { lock.unlock() }
+            guard let value = newValue else {
+                remove(key)
+                return
+            }
+            let timestamp = now()
+            entries[key] = Entry(value: value, createdAt: timestamp)
+            touch(key)
+            trim(now: timestamp)
+        }
+    }
+
+    @discardableResult
+    func removeValue(forKey key: String) -> Value? {
+        lock.lock()
+        defer { lock.unlock() }
+        return remove(key)
+    }
+
+    /// A snapshot of the live values, least recently used first
+    var values: [Value] {
+        lock.lock()
+        defer { lock.unlock() }
+        trim(now: now())
+        return order.compactMap { entries[$0]?.value }
+    }
+
+    /// - Parameters:
+    ///   - maxEntries: maximum number of entries, values below 1 are treated as 1
+    ///   - maxAge: maximum time an entry is kept after it is set, 0 or less for no limit
+    func setLimits(maxEntries: Int, maxAge: TimeInterval) {
+        lock.lock()
+        defer { lock.unlock() }
+        self.maxEntries = max(1, maxEntries)
+        self.maxAge = maxAge
+        trim(now: now())
+    }
+
+    /// Size, hits, misses, evictions (over the size limit) and expirations (over the age limit)
+    func stats() -> [String: Any] {
+        lock.lock()
+        defer { lock.unlock() }
+        return [
+            "size": entries.count,
+            "maxEntries": maxEntries,
+            "maxAgeMs": maxAge * 1000,
+            "hits": hits,
+            "misses": misses,
+            "evictions": evictions,
+            "expirations": expirations,
+        ]
+    }
+
+    // MARK: - Private helpers, called with the lock held
+
+    @discardableResult
+    private func remove(_ key: String) -> Value? {
+        guard let entry = entries.removeValue(forKey: key) else {
+            return nil
+        }
+        order.removeAll { $0 == key }
+        return entry.value
+    }
+
+    private func touch(_ key: String) {
+        order.removeAll { $0 == key }
+        order.append(key)
+    }
+
+    private func trim(now: TimeInterval) {
+        if maxAge > 0 {
+            for (key, entry) in entries where isExpired(entry, now: now) {
+                remove(key)
+                expirations += 1
+            }
+        }
+        while entries.count > maxEntries, let eldest = order.first {
+            remove(eldest)
+            evictions += 1
+        }
+    }
+
+    private func isExpired(_ entry: Entry, now: TimeInterval) -> Bool {
+        return maxAge > 0 && now - entry.createdAt > maxAge
+    }
+
+    private func now() -> TimeInterval {
+        return ProcessInfo.processInfo.systemUptime
+    }
+}
@@ -11,6 +11,7 @@
 */
 
 class Constants {
+    static let DEFAULT_DECISION_TIMEOUT_MS = 1000
     static let CACHE_MISS = "No message found in cache. Please ensure you have cached the message"
     static let ON_DISMISS_EVENT = "onDismiss"
     static let ON_SHOW_EVENT = "onShow"
@@ -28,6 +28,57 @@ public class RCTAEPMessagingDataBridge: NSObject {
         }
     }
 
+    /// Transforms one page of the propositions of each surface into its total proposition count,
+    /// the page offset and the propositions of the page, either in full or as summaries.
+    static func transformPropositionPage(
+        dict: [Surface: [Proposition]],
+        offset: Int,
+        limit: Int,
+        summaryOnly: Bool
+    ) -> [String: Any] {
+        let bundleID = "mobileapp://" + Bundle.main.bundleIdentifier! + "/"
+        return dict.reduce(into: [:]) { result, element in
+            let total = element.value.count
+            let start = min(max(0, offset), total)
+            let end = limit > 0 ? min(total, start + limit) : total
+            let propositions: [Any?] = element.value[start..<end].map {
+                summaryOnly ? transformPropositionSummary(proposition: $0) : $0.asDictionary()
+            }
+            result[element.key.uri.replacingOccurrences(of: bundleID, with: "")] = [
+                "total": total, "offset": start, "propositions": propositions
+            ]
+        }
+    }
+
+    /// Transforms the id, scope, activity id and rank of a proposition and the id, schema and meta
+    /// of its items, leaving out the item content.
+    static func transformPropositionSummary(proposition: Proposition) -> [String: Any] {
+        var summary: [String: Any] = ["id": proposition.uniqueId, "scope": proposition.scope]
+        let propositionDict = proposition.asDictionary() ?? [:]
+        if let scopeDetails = propositionDict["scopeDetails"] as? [String: Any] {
+            if let activity = scopeDetails["activity"] as? [String: Any],
+               let activityId = activity["id"] as? String {
+                summary["activityId"] = activityId
+            }
+            if let rank = scopeDetails["rank"] as? NSNumber {
+                summary["rank"] = rank
+            }
+        }
+
+        let items = propositionDict["items"] as? [[String: Any]] ?? []
+        summary["items"] = items.map { item -> [String: Any] in
+            var itemSummary: [String: Any] = [:]
+            itemSummary["id"] = item["id"] as? String
+            itemSummary["schema"] = item["schema"] as? String
+            if let data = item["data"] as? [String: Any],
+               let meta = data["meta"] as? [String: Any] {
+                itemSummary["meta"] = meta
+            }
+            return itemSummary
+        }
+        return summary
+    }
+
     /// Extracts the activity identifier from a proposition dictionary at scopeDetails.activity.id
     static func extractActivityId(from propositionDict: [String: Any]) -> String? {
         guard let scopeDetails = propositionDict["scopeDetails"] as? [String: Any] else {
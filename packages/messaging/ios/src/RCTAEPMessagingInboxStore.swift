@@ -0,0 +1,170 @@
+/*
+    Copyright 2026 Adobe. All rights reserved.
+    This file is licensed to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+    http://www.apache.org/licenses/LICENSE-2.0 Unless required by applicable law
+    or agreed to in writing, software distributed under the License is
+    distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS OF
+    ANY KIND, either express or implied. See the License for the specific
+    language governing permissions and limitations under the License.
+*/
+
+import Foundation
+
+/// File backed store of the persisted inbox state, one record per inbox activity id.
+/// The state is kept as the JSON string written by the JS inbox, together with the number of
+/// dismissed and read (interacted) cards so counters can be queried without parsing the state.
+/// Records are indexed in memory and the file is rewritten atomically off the calling thread.
+final class RCTAEPMessagingInboxStore {
+    struct Counts {
+        let dismissed: Int
+        let read: Int
+    }
+
+    private struct Record: Codable {
+        let state: String
+        let dismissed: Int
+        let read: Int
+        let updatedAt: TimeInterval
+    }
+
+    // UserDefaults key prefix used before this store, migrated on first load
+    private static let legacyKeyPrefix = "aep_messaging_inbox_"
+    private static let fileName = "AEPMessagingInbox.json"
+
+    private let lock = NSLock()
+    private let writeQueue = DispatchQueue(label: "com.adobe.marketing.mobile.reactnative.messaging.inbox")
+    private let fileURL: URL?
+    private var records: [String: Record]?
+
+    init() {
+        let directory = FileManager.default.urls(for: .applicationSupportDirectory, in: .userDomainMask).first
+        fileURL = directory?.appendingPathComponent(RCTAEPMessagingInboxStore.fileName)
+    }
+
+    /// - Returns: activity id to persisted state JSON, for the ids that have a stored state
+    func getStates(_ activityIds: [String]) -> [String: String] {
+        lock.lock()
+        defer { lock.unlock() }
+        let loaded = loadRecords()
+        var states = [String: String]()
+        for activityId in activityIds {
+            if let record = loaded[activityId] {
+                states[activityId] = record.state
+            }
+        }
+        return states
+    }
+
+    /// - Returns: activity id to its counts, for the ids that have a stored state
+    func getCounts(_ activityIds: [String]) -> [String: Counts] {
+        lock.lock()
+        defer { lock.unlock() }
+        let loaded = loadRecords()
+        var counts = [String: Counts]()
+        for activityId in activityIds {
+            if let record = loaded[activityId] {
+                counts[activityId] = Counts(dismissed: record.dismissed, read: record.read)
+            }
+        }
+        return counts
+    }
+
+    /// Writes the given states with a single file write. A nil state removes the stored one.
+    func setStates(_ states: [String: String?]) {
+        guard !states.isEmpty else { return }
+        lock.lock()
+        defer { lock.unlock() }
+        var updated = loadRecords()
+        let now = Date().timeIntervalSince1970
+        for (activityId, state) in states {
+            if let state = state {
+                updated[activityId] = RCTAEPMessagingInboxStore.record(state: state, updatedAt: now)
+            } else {
+                updated.removeValue(forKey: activityId)
+            }
+        }
+        records = updated
+        persist(updated)
+    }
+
+    /// Removes the stored state of the given activity ids with a single file write
+    func clear(_ activityIds: [String]) {
+        var removals = [String: String?]()
+        for activityId in activityIds {
+            removals[activityId] = .some(nil)
+        }
+        setStates(removals)
+    }
+
+    /// Removes the stored state of every activity id
+    func clearAll() {
+        lock.lock()
+        defer { lock.unlock() }
+        records = [:]
+        persist([:])
+    }
+
+    // MARK: - Private helpers, called with the lock held
+
+    private func loadRecords() -> [String: Record] {
+        if let records = records {
+            return records
+        }
+        var loaded = [String: Record]()
+        if let fileURL = fileURL, let data = try? Data(contentsOf: fileURL),
+           let decoded = try? JSONDecoder().decode([String: Record].self, from: data)
+        {
+            loaded = decoded
+        } else if migrateLegacyDefaults(into: &loaded) {
+            persist(loaded)
+        }
+        records = loaded
+        return loaded
+    }
+
+    private func migrateLegacyDefaults(into records: inout [String: Record]) -> Bool {
+        let defaults = UserDefaults.standard
+        let prefix = RCTAEPMessagingInboxStore.legacyKeyPrefix
+        let now = Date().timeIntervalSince1970
+        var migrated = false
+        for (key, value) in defaults.dictionaryRepresentation() where key.hasPrefix(prefix) {
+            if let state = value as? String {
+                records[String(key.dropFirst(prefix.count))] = RCTAEPMessagingInboxStore.record(state: state, updatedAt: now)
+                migrated = true
+            }
+            defaults.removeObject(forKey: key)
+        }
+        if migrated {
+            NSLog("[MessagingBridge] Migrated \(records.count) inbox states from UserDefaults")
+        }
+        return migrated
+    }
+
+    private func persist(_ snapshot: [String: Record]) {
+        guard let fileURL = fileURL else { return }
+        writeQueue.async {
+            do {
+                try FileManager.default.createDirectory(
+                    at: fileURL.deletingLastPathComponent(), withIntermediateDirectories: true)
+                let data = try JSONEncoder().encode(snapshot)
+                try data.write(to: fileURL, options: .atomic)
+            } catch {
+                NSLog("[MessagingBridge] Failed to write inbox state: \(error.localizedDescription)")
+            }
+        }
+    }
+
+    private static func record(state: String, updatedAt: TimeInterval) -> Record {
+        var dismissed = 0
+        var read = 0
+        if let data = state.data(using: .utf8),
+           let parsed = try? JSONSerialization.jsonObject(with: data) as? [String: Any]
+        {
+            dismissed = (parsed["dismissed"] as? [Any])?.count ?? 0
+            read = (parsed["interacted"] as? [Any])?.count ?? 0
+        }
+        return Record(state: state, dismissed: dismissed, read: read, updatedAt: updatedAt)
+    }
+}
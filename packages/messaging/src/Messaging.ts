@@ -16,11 +16,16 @@ import {
   NativeModule,
   Platform,
 } from "react-native";
+import { createEventEmitter } from "@adobe/react-native-aepcore";
 import Message from "./models/Message";
+import { MessageCacheStats } from "./models/MessageCacheStats";
+import { MessageDisplayRule } from "./models/MessageDisplayRule";
 import { MessagingDelegate } from "./models/MessagingDelegate";
 import { MessagingProposition } from "./models/MessagingProposition";
 import { ContentCard } from "./models/ContentCard";
 import { PersonalizationSchema } from "./models/PersonalizationSchema";
+import { PropositionItemTrackingEvent } from "./models/PropositionItem";
+import { PropositionSummary, PropositionsPage } from "./models/PropositionsPage";
 import { ContentTemplate } from "./ui/types/Templates";
 import {
   InboxSettings,
@@ -34,12 +39,29 @@ export interface NativeMessagingModule {
   getPropositionsForSurfaces: (
     surfaces: string[]
   ) => Record<string, MessagingProposition[]>;
+  getPropositionsForSurfacesPage: (
+    surfaces: string[],
+    offset: number,
+    limit: number,
+    summaryOnly: boolean
+  ) => Promise<Record<string, PropositionsPage<any>>>;
+  getPropositionById: (propositionId: string) => Promise<any>;
   refreshInAppMessages: () => void;
   setMessagingDelegate: (delegate?: MessagingDelegate) => void;
   setMessageSettings: (
     shouldShowMessage: boolean,
     shouldSaveMessage: boolean
   ) => void;
+  setMessageSettingsForMessage: (
+    messageId: string,
+    shouldShowMessage: boolean,
+    shouldSaveMessage: boolean
+  ) => void;
+  setMessageDecisionTimeout: (timeoutMs: number) => void;
+  setMessageDisplayRules: (rules: MessageDisplayRule[]) => void;
+  setCurrentScreen: (screen: string | null) => void;
+  setMessageCacheLimits: (maxEntries: number, maxAgeMs: number) => void;
+  getMessageCacheStats: () => Promise<MessageCacheStats>;
   updatePropositionsForSurfaces: (surfaces: string[]) => void;
   trackContentCardDisplay: (
     proposition: MessagingProposition,
@@ -49,12 +71,22 @@ export interface NativeMessagingModule {
     proposition: MessagingProposition,
     contentCard: ContentCard
   ) => void;
+  trackContentCardDisplayById: (uuid: string, itemId: string | null) => void;
+  trackContentCardInteractionById: (
+    uuid: string,
+    itemId: string | null
+  ) => void;
   trackPropositionItem: (
     itemId: string,
     interaction: string | null,
     eventType: number,
     tokens: string[] | null
   ) => void;
+  trackPropositionItems: (
+    events: PropositionItemTrackingEvent[],
+    coalesceWindowMs: number
+  ) => void;
+  removeEventListeners: (eventName: string, count: number) => void;
 }
 
 const RCTAEPMessaging: NativeModule & NativeMessagingModule =
@@ -218,6 +250,24 @@ class Messaging {
     return messages.map((msg) => new Message(msg));
   }
 
+  /**
+   * Sets the bounds of the native message caches. When a cache is full, the least recently used
+   * message is evicted; messages older than `maxAgeMs` are dropped. Defaults to 100 messages and one hour.
+   * @param maxEntries The maximum number of messages kept in each cache
+   * @param maxAgeMs The maximum time a message is kept after it is cached, in milliseconds. 0 for no limit
+   */
+  static setMessageCacheLimits(maxEntries: number, maxAgeMs: number) {
+    RCTAEPMessaging.setMessageCacheLimits(maxEntries, maxAgeMs);
+  }
+
+  /**
+   * Retrieves size, hit, miss and eviction counts of the native message caches
+   * @returns The statistics of the saved message cache and the displayed message cache
+   */
+  static getMessageCacheStats(): Promise<MessageCacheStats> {
+    return RCTAEPMessaging.getMessageCacheStats();
+  }
+
   /**
    * Retrieves the last message that has been shown in the UI
    * @returns The latest message to have been displayed
@@ -248,6 +298,75 @@ class Messaging {
 
     return messagingPropositionsForSurfaces;
   }
+
+  /**
+   * Retrieves one page of the previously fetched (and cached) propositions of each of the provided surfaces,
+   * so that large inboxes do not have to be sent to JavaScript at once.
+   * @param surfaces A list of surfaces to fetch
+   * @param offset Index of the first proposition of the page, in each surface
+   * @param limit Maximum number of propositions of the page, 0 for all remaining propositions
+   * @returns A record of surface names with their page of propositions and total proposition count
+   */
+  static async getPropositionsForSurfacesPage(
+    surfaces: string[],
+    offset: number,
+    limit: number
+  ): Promise<Record<string, PropositionsPage<MessagingProposition>>> {
+    const pages = await RCTAEPMessaging.getPropositionsForSurfacesPage(
+      surfaces,
+      offset,
+      limit,
+      false
+    );
+    const messagingPropositionsForSurfaces: Record<string, PropositionsPage<MessagingProposition>> = {};
+
+    for (const [surface, page] of Object.entries(pages)) {
+      messagingPropositionsForSurfaces[surface] = {
+        total: page.total,
+        offset: page.offset,
+        propositions: page.propositions.map(
+          (proposition: any) => new MessagingProposition(proposition)
+        )
+      };
+    }
+
+    return messagingPropositionsForSurfaces;
+  }
+
+  /**
+   * Retrieves the ids, activity ids, ranks and item metadata of the previously fetched (and cached) propositions
+   * of each of the provided surfaces, without the item content. Use getPropositionById to load a proposition
+   * when its content is needed.
+   * @param surfaces A list of surfaces to fetch
+   * @param offset Index of the first proposition of the page, in each surface. Defaults to 0
+   * @param limit Maximum number of propositions of the page, 0 for all remaining propositions. Defaults to 0
+   * @returns A record of surface names with their page of proposition summaries and total proposition count
+   */
+  static async getPropositionSummariesForSurfaces(
+    surfaces: string[],
+    offset: number = 0,
+    limit: number = 0
+  ): Promise<Record<string, PropositionsPage<PropositionSummary>>> {
+    return await RCTAEPMessaging.getPropositionsForSurfacesPage(
+      surfaces,
+      offset,
+      limit,
+      true
+    );
+  }
+
+  /**
+   * Retrieves a proposition previously returned by getPropositionsForSurfaces, getPropositionsForSurfacesPage
+   * or getPropositionSummariesForSurfaces, with the content of its items.
+   * @param propositionId The id of the proposition
+   * @returns The proposition, or undefined if no proposition with this id was returned since the last update
+   */
+  static async getPropositionById(
+    propositionId: string
+  ): Promise<MessagingProposition | undefined> {
+    const proposition = await RCTAEPMessaging.getPropositionById(propositionId);
+    return proposition ? new MessagingProposition(proposition) : undefined;
+  }
   
   /**
    * @deprecated Use PropositionItem.track(...) instead.
@@ -269,6 +388,37 @@ class Messaging {
     RCTAEPMessaging.trackContentCardInteraction(proposition, contentCard);
   }
 
+  /**
+   * Tracks the display of a content card of a proposition previously returned by
+   * getPropositionsForSurfaces, without sending the proposition back to native code.
+   *
+   * @param {string} activityId - The scopeDetails.activity.id of the proposition
+   * @param {string} contentCardId - The id of the content card, defaults to the first item of the proposition
+   */
+  static trackContentCardDisplayById(
+    activityId: string,
+    contentCardId?: string
+  ): void {
+    RCTAEPMessaging.trackContentCardDisplayById(activityId, contentCardId ?? null);
+  }
+
+  /**
+   * Tracks a click on a content card of a proposition previously returned by
+   * getPropositionsForSurfaces, without sending the proposition back to native code.
+   *
+   * @param {string} activityId - The scopeDetails.activity.id of the proposition
+   * @param {string} contentCardId - The id of the content card, defaults to the first item of the proposition
+   */
+  static trackContentCardInteractionById(
+    activityId: string,
+    contentCardId?: string
+  ): void {
+    RCTAEPMessaging.trackContentCardInteractionById(
+      activityId,
+      contentCardId ?? null
+    );
+  }
+
   /**
    * Tracks interactions with a PropositionItem using the provided interaction and event type.
    * This method is used internally by the PropositionItem.track() method.
@@ -292,6 +442,29 @@ class Messaging {
     );
   }
 
+  /**
+   * Tracks several PropositionItems in a single native call, in order.
+   *
+   * @param {PropositionItemTrackingEvent[]} events - The tracking calls, keyed by PropositionItem activityID
+   * @param {number} coalesceWindowMs - Displays of a PropositionItem already tracked within this window,
+   * including earlier in the same batch, are not tracked again. Defaults to 0, which tracks every display.
+   */
+  static trackPropositionItems(
+    events: PropositionItemTrackingEvent[],
+    coalesceWindowMs: number = 0
+  ): void {
+    if (events.length === 0) return;
+    RCTAEPMessaging.trackPropositionItems(
+      events.map((event) => ({
+        uuid: event.uuid,
+        interaction: event.interaction ?? null,
+        eventType: event.eventType,
+        tokens: event.tokens ?? null,
+      })),
+      coalesceWindowMs
+    );
+  }
+
   /**
    * Function to set the UI Message delegate to listen the Message lifecycle events.
    * @returns A function to unsubscribe from all event listeners
@@ -299,30 +472,39 @@ class Messaging {
   static setMessagingDelegate(delegate: MessagingDelegate): () => void {
     messagingDelegate = delegate;
 
-    const eventEmitter = new NativeEventEmitter(RCTAEPMessaging);
+    // One emitter per event, so the native module knows which events are still listened to.
+    const eventEmitters: Record<string, NativeEventEmitter> = {};
+    const addListener = (eventName: string, listener: (event: any) => void) => {
+      eventEmitters[eventName] = createEventEmitter(RCTAEPMessaging, eventName);
+      eventEmitters[eventName].addListener(eventName, listener);
+    };
 
-    eventEmitter.addListener("onShow", (message: Message) =>
+    addListener("onShow", (message: Message) =>
       messagingDelegate?.onShow?.(new Message(message))
     );
 
-    eventEmitter.addListener("onDismiss", (message: Message) => {
+    addListener("onDismiss", (message: Message) => {
       const messageInstance = new Message(message);
       messageInstance._clearJavascriptMessageHandlers();
       messageInstance._clearJavascriptResultHandlers();
       messagingDelegate?.onDismiss?.(messageInstance);
     });
 
-    eventEmitter.addListener("shouldShowMessage", (message: Message) => {
+    addListener("shouldShowMessage", (message: Message) => {
       const messageInstance = new Message(message);
       const shouldShowMessage =
         messagingDelegate?.shouldShowMessage?.(messageInstance) ?? true;
       const shouldSaveMessage =
         messagingDelegate?.shouldSaveMessage?.(messageInstance) ?? false;
-      RCTAEPMessaging.setMessageSettings(shouldShowMessage, shouldSaveMessage);
+      RCTAEPMessaging.setMessageSettingsForMessage(
+        message.id ?? "",
+        shouldShowMessage,
+        shouldSaveMessage
+      );
     });
 
     if (Platform.OS === "ios") {
-      eventEmitter.addListener(
+      addListener(
         "urlLoaded",
         (event: { url: string; message: Message }) =>
           messagingDelegate?.urlLoaded?.(event.url, new Message(event.message))
@@ -330,7 +512,7 @@ class Messaging {
     }
 
     if (Platform.OS === "android") {
-      eventEmitter.addListener(
+      addListener(
         "onContentLoaded",
         (event: { message: Message }) =>
           messagingDelegate?.onContentLoaded?.(new Message(event.message))
@@ -340,22 +522,18 @@ class Messaging {
     RCTAEPMessaging.setMessagingDelegate();
 
     return () => {
-      eventEmitter.removeAllListeners("onDismiss");
-      eventEmitter.removeAllListeners("onShow");
-      eventEmitter.removeAllListeners("shouldShowMessage");
-      if (Platform.OS === "ios") {
-        eventEmitter.removeAllListeners("urlLoaded");
-      }
-      if (Platform.OS === "android") {
-        eventEmitter.removeAllListeners("onContentLoaded");
+      for (const [eventName, eventEmitter] of Object.entries(eventEmitters)) {
+        eventEmitter.removeAllListeners(eventName);
       }
     };
   }
 
   /**
    * Sets global settings for messages being shown and cached
-   * Note: This method is also used by MessagingDelegate.shouldShowMessage,
-   * which allows finer-grained control over setting these settings
+   * Note: MessagingDelegate.shouldShowMessage and shouldSaveMessage answer for a single
+   * message, through setMessageSettingsForMessage. These global settings are the default
+   * for messages without such an answer, and setting them also releases every message
+   * still waiting for a decision with these values
    * @param shouldShowMessage Whether or not a message should be displayed
    * @param shouldSaveMessage Whether or not a message should be cached
    */
@@ -366,6 +544,33 @@ class Messaging {
     RCTAEPMessaging.setMessageSettings(shouldShowMessage, shouldSaveMessage);
   }
 
+  /**
+   * Sets how long the SDK waits for the messaging delegate's `shouldShowMessage` answer before
+   * falling back to the global settings from `setMessageSettings`. Defaults to 1000 milliseconds.
+   * @param timeoutMs The maximum time to wait for a decision, in milliseconds
+   */
+  static setMessageDecisionTimeout(timeoutMs: number) {
+    RCTAEPMessaging.setMessageDecisionTimeout(timeoutMs);
+  }
+
+  /**
+   * Registers show/save rules that are evaluated natively before an in-app message is displayed,
+   * replacing any previously registered rules. The first matching rule decides, and the messaging
+   * delegate's `shouldShowMessage` is only called for messages no rule matches.
+   * @param rules The rules to evaluate, in order. Pass an empty array to remove all rules
+   */
+  static setMessageDisplayRules(rules: MessageDisplayRule[]) {
+    RCTAEPMessaging.setMessageDisplayRules(rules);
+  }
+
+  /**
+   * Sets the screen currently shown by the app, matched against the `screen` of message display rules.
+   * @param screen The current screen name, or null when no screen applies
+   */
+  static setCurrentScreen(screen: string | null) {
+    RCTAEPMessaging.setCurrentScreen(screen);
+  }
+
   /**
    * Dispatches an event to fetch propositions for the provided surfaces from remote.
    * @param surfaces A list of surface names to update
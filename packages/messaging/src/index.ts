@@ -17,12 +17,23 @@ import { HTMLProposition, HTMLPropositionData } from './models/HTMLProposition';
 import { JSONPropositionItem, JSONPropositionData } from './models/JSONProposition';
 
 import Message from './models/Message';
+import { CacheStats, MessageCacheStats } from './models/MessageCacheStats';
+import { MessageDisplayRule } from './models/MessageDisplayRule';
 import { MessagingDelegate } from './models/MessagingDelegate';
 import MessagingEdgeEventType from './models/MessagingEdgeEventType';
 import { MessagingProposition } from './models/MessagingProposition';
 import { MessagingPropositionItem } from './models/MessagingPropositionItem';
 import { PersonalizationSchema } from './models/PersonalizationSchema';
-import { PropositionItem, PropositionItemData } from './models/PropositionItem';
+import {
+  PropositionItem,
+  PropositionItemData,
+  PropositionItemTrackingEvent
+} from './models/PropositionItem';
+import {
+  PropositionItemSummary,
+  PropositionSummary,
+  PropositionsPage
+} from './models/PropositionsPage';
 import { Activity, Characteristics } from './models/ScopeDetails';
 
 export * from './models/ContentCard';
@@ -30,10 +41,13 @@ export * from './ui';
 
 export {
   Activity,
+  CacheStats,
   Characteristics,
   InAppMessage,
   Messaging,
   Message,
+  MessageCacheStats,
+  MessageDisplayRule,
   MessagingDelegate,
   MessagingEdgeEventType,
   MessagingProposition,
@@ -41,6 +55,10 @@ export {
   PersonalizationSchema,
   PropositionItem,
   PropositionItemData,
+  PropositionItemSummary,
+  PropositionItemTrackingEvent,
+  PropositionSummary,
+  PropositionsPage,
   HTMLProposition,
   HTMLPropositionData,
   JSONPropositionItem,
@@ -10,7 +10,8 @@ OF ANY KIND, either express or implied. See the License for the specific languag
 governing permissions and limitations under the License.
 */
 
-import { NativeEventEmitter, NativeModules, Platform } from 'react-native';
+import { NativeModules, Platform } from 'react-native';
+import { createEventEmitter } from '@adobe/react-native-aepcore';
 
 const RCTAEPMessaging = NativeModules.AEPMessaging;
 
@@ -22,17 +23,15 @@ const jsMessageHandlers: Record<string, Record<string, (content: string) => void
 // Record - {messageId : {javascriptString : callback}}
 const jsResultHandlers: Record<string, Record<string, (result: string) => void>> = {};
 
-const handleJSMessageEventEmitter = new NativeEventEmitter(RCTAEPMessaging);
-
 // invokes the callback registered in Message.handleJavascriptMessage with the content received from the inAppMessage webview
-handleJSMessageEventEmitter.addListener('onJavascriptMessage', (event) => {
+createEventEmitter(RCTAEPMessaging, 'onJavascriptMessage').addListener('onJavascriptMessage', (event) => {
   const {messageId, handlerName, content} = event;
   if (jsMessageHandlers[messageId] && jsMessageHandlers[messageId][handlerName]) {
     jsMessageHandlers[messageId][handlerName](content);
   }
 });
 
-handleJSMessageEventEmitter.addListener('onJavascriptResult', (event) => {
+createEventEmitter(RCTAEPMessaging, 'onJavascriptResult').addListener('onJavascriptResult', (event) => {
   const {messageId, javascriptString, result} = event;
   if (jsResultHandlers[messageId] && jsResultHandlers[messageId][javascriptString]) {
     // Convert result to string to maintain API parity
@@ -0,0 +1,33 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+
+export interface CacheStats {
+  /** Number of entries currently cached */
+  size: number;
+  /** Maximum number of entries before the least recently used entry is evicted */
+  maxEntries: number;
+  /** Maximum age of an entry in milliseconds, 0 when entries do not expire */
+  maxAgeMs: number;
+  hits: number;
+  misses: number;
+  /** Entries removed because the cache was full */
+  evictions: number;
+  /** Entries removed because they were older than maxAgeMs */
+  expirations: number;
+}
+
+export interface MessageCacheStats {
+  /** Messages saved through `shouldSaveMessage` */
+  messageCache: CacheStats;
+  /** Messages currently displayed, used for javascript message handling */
+  presentableCache: CacheStats;
+}
@@ -0,0 +1,42 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+
+/**
+ * A show/save rule evaluated natively before an in-app message is displayed.
+ * Rules are checked in order and the first matching rule decides; the messaging
+ * delegate's `shouldShowMessage` is only called when no rule matches.
+ */
+export interface MessageDisplayRule {
+  /**
+   * Message id to match. `*` matches any sequence of characters.
+   * Matches every message when omitted.
+   */
+  messageId?: string;
+
+  /**
+   * Screen to match, as last set with `Messaging.setCurrentScreen`. `*` matches any sequence
+   * of characters. Matches every screen when omitted.
+   */
+  screen?: string;
+
+  /**
+   * Maximum number of times a matching message is shown during the app session.
+   * Once reached, the rule suppresses the message. Unlimited when omitted.
+   */
+  maxDisplays?: number;
+
+  /** Whether a matching message should be shown */
+  shouldShowMessage: boolean;
+
+  /** Whether a matching message should be cached for later use. Defaults to false */
+  shouldSaveMessage?: boolean;
+}
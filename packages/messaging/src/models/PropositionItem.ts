@@ -29,6 +29,17 @@ export interface PropositionItemData {
   };
 }
 
+/**
+ * A single PropositionItem tracking call, as passed to Messaging.trackPropositionItems
+ */
+export interface PropositionItemTrackingEvent {
+  /** The activityID of the PropositionItem */
+  uuid: string;
+  interaction?: string | null;
+  eventType: MessagingEdgeEventType;
+  tokens?: string[] | null;
+}
+
 /**
  * A PropositionItem represents a personalization JSON object returned by Konductor.
  * This is the base class that provides tracking functionality for all proposition items
@@ -14,9 +14,12 @@ export * from './ContentCard';
 export * from './InAppMessage';
 export * from './JSONProposition';
 export * from './Message';
+export * from './MessageCacheStats';
+export * from './MessageDisplayRule';
 export * from './MessagingDelegate';
 export * from './MessagingEdgeEventType';
 export * from './MessagingProposition';
 export * from './MessagingPropositionItem';
 export * from './PersonalizationSchema';
+export * from './PropositionsPage';
 export * from './ScopeDetails';
\ No newline at end of file
@@ -11,13 +11,24 @@
 */
 
 import { NativeModules } from 'react-native';
-import { loadInboxState, saveInboxState } from './inboxStorage';
+import {
+  clearInboxStates,
+  loadInboxCounts,
+  loadInboxState,
+  loadInboxStates,
+  saveInboxState,
+  saveInboxStates,
+} from './inboxStorage';
 
 jest.mock('react-native', () => ({
   NativeModules: {
     AEPMessaging: {
       getInboxState: jest.fn(),
       setInboxState: jest.fn(),
+      getInboxStates: jest.fn(),
+      setInboxStates: jest.fn(),
+      getInboxCounts: jest.fn(),
+      clearInboxStates: jest.fn(),
     },
   },
 }));
@@ -27,6 +38,10 @@ describe('inboxStorage', () => {
   const aep = NativeModules.AEPMessaging as {
     getInboxState: jest.Mock;
     setInboxState: jest.Mock;
+    getInboxStates: jest.Mock;
+    setInboxStates: jest.Mock;
+    getInboxCounts: jest.Mock;
+    clearInboxStates: jest.Mock;
   };
 
   beforeEach(() => {
@@ -35,6 +50,10 @@ describe('inboxStorage', () => {
     aep.setInboxState.mockReset();
     aep.getInboxState = jest.fn();
     aep.setInboxState = jest.fn();
+    aep.getInboxStates = jest.fn();
+    aep.setInboxStates = jest.fn();
+    aep.getInboxCounts = jest.fn();
+    aep.clearInboxStates = jest.fn();
   });
 
   describe('loadInboxState', () => {
@@ -133,4 +152,86 @@ describe('inboxStorage', () => {
       ).resolves.toBeUndefined();
     });
   });
+
+  describe('loadInboxStates', () => {
+    it('reads all activity ids in one native call with defaults for missing ids', async () => {
+      aep.getInboxStates.mockResolvedValue({
+        a1: JSON.stringify({ dismissed: ['d1'], interacted: ['i1'] }),
+        a2: 'not-json',
+      });
+
+      await expect(loadInboxStates(['a1', 'a2', 'a3', ''])).resolves.toEqual({
+        a1: { dismissed: ['d1'], interacted: ['i1'] },
+        a2: { dismissed: [], interacted: [] },
+        a3: { dismissed: [], interacted: [] },
+      });
+      expect(aep.getInboxStates).toHaveBeenCalledTimes(1);
+      expect(aep.getInboxStates).toHaveBeenCalledWith(['a1', 'a2', 'a3']);
+      expect(aep.getInboxState).not.toHaveBeenCalled();
+    });
+
+    it('returns empty defaults when native read fails', async () => {
+      aep.getInboxStates.mockRejectedValue(new Error('db locked'));
+
+      await expect(loadInboxStates(['a1'])).resolves.toEqual({
+        a1: { dismissed: [], interacted: [] },
+      });
+    });
+  });
+
+  describe('saveInboxStates', () => {
+    it('writes all states in one native call, null removing a state', async () => {
+      const state = { dismissed: ['d1'], interacted: [] };
+      aep.setInboxStates.mockResolvedValue(undefined);
+
+      await saveInboxStates({ a1: state, a2: null });
+
+      expect(aep.setInboxStates).toHaveBeenCalledTimes(1);
+      expect(aep.setInboxStates).toHaveBeenCalledWith({
+        a1: JSON.stringify(state),
+        a2: null,
+      });
+    });
+
+    it('no-ops for an empty map and swallows errors', async () => {
+      await saveInboxStates({});
+      expect(aep.setInboxStates).not.toHaveBeenCalled();
+
+      aep.setInboxStates.mockRejectedValue(new Error('disk full'));
+      await expect(
+        saveInboxStates({ a1: { dismissed: [], interacted: [] } })
+      ).resolves.toBeUndefined();
+    });
+  });
+
+  describe('loadInboxCounts', () => {
+    it('reads the counts of all activity ids in one native call', async () => {
+      const counts = { a1: { dismissed: 1, read: 2 } };
+      aep.getInboxCounts.mockResolvedValue(counts);
+
+      await expect(loadInboxCounts(['a1', '', 'a2'])).resolves.toEqual(counts);
+      expect(aep.getInboxCounts).toHaveBeenCalledTimes(1);
+      expect(aep.getInboxCounts).toHaveBeenCalledWith(['a1', 'a2']);
+    });
+
+    it('returns an empty object without ids or on errors', async () => {
+      await expect(loadInboxCounts([])).resolves.toEqual({});
+      expect(aep.getInboxCounts).not.toHaveBeenCalled();
+
+      aep.getInboxCounts.mockRejectedValue(new Error('db locked'));
+      await expect(loadInboxCounts(['a1'])).resolves.toEqual({});
+    });
+  });
+
+  describe('clearInboxStates', () => {
+    it('clears the given activity ids', async () => {
+      await clearInboxStates(['a1', 'a2']);
+      expect(aep.clearInboxStates).toHaveBeenCalledWith(['a1', 'a2']);
+    });
+
+    it('clears every inbox when no ids are given', async () => {
+      await clearInboxStates();
+      expect(aep.clearInboxStates).toHaveBeenCalledWith(null);
+    });
+  });
 });
@@ -17,12 +17,17 @@ export interface InboxPersistedState {
   interacted: string[];
 }
 
+export interface InboxStateCounts {
+  dismissed: number;
+  read: number;
+}
+
 const RCTAEPMessaging = NativeModules.AEPMessaging;
 
 /**
  * Load persisted inbox state (dismissed and read card IDs) from native storage.
  * Uses scopeDetails.activity.id as the key - this is constant across server responses.
- * Persists via SharedPreferences (Android) / UserDefaults (iOS) - no AsyncStorage needed.
+ * Persists via an indexed native inbox store (SQLite on Android, a file on iOS) - no AsyncStorage needed.
  * @param activityId - From scopeDetails.activity in the inbox proposition
  * @returns Persisted state or empty defaults if not found
  */
@@ -33,18 +38,36 @@ export async function loadInboxState(
     return { dismissed: [], interacted: [] };
   }
   try {
-    const raw = await RCTAEPMessaging.getInboxState(activityId);
-    if (!raw || typeof raw !== 'string') return { dismissed: [], interacted: [] };
-    const parsed = JSON.parse(raw) as InboxPersistedState;
-    return {
-      dismissed: Array.isArray(parsed?.dismissed) ? parsed.dismissed : [],
-      interacted: Array.isArray(parsed?.interacted) ? parsed.interacted : [],
-    };
+    return parseInboxState(await RCTAEPMessaging.getInboxState(activityId));
   } catch {
     return { dismissed: [], interacted: [] };
   }
 }
 
+/**
+ * Load persisted inbox state of several inboxes with a single native read.
+ * @param activityIds - From scopeDetails.activity of the inbox propositions
+ * @returns Persisted state keyed by activity id, with empty defaults for ids that have none
+ */
+export async function loadInboxStates(
+  activityIds: string[]
+): Promise<Record<string, InboxPersistedState>> {
+  const ids = activityIds.filter(Boolean);
+  let raw: Record<string, unknown> = {};
+  if (ids.length > 0 && RCTAEPMessaging?.getInboxStates) {
+    try {
+      raw = (await RCTAEPMessaging.getInboxStates(ids)) ?? {};
+    } catch {
+      // Fall back to empty defaults
+    }
+  }
+  const states: Record<string, InboxPersistedState> = {};
+  ids.forEach((id) => {
+    states[id] = parseInboxState(raw[id]);
+  });
+  return states;
+}
+
 /**
  * @experimental First React Native inbox UI — subject to change while we expand testing.
  * Save inbox state to native storage for persistence across app launches.
@@ -62,3 +85,70 @@ export async function saveInboxState(
     // Silently fail - persistence is best-effort
   }
 }
+
+/**
+ * Save the state of several inboxes with a single native write.
+ * @param states - Dismissed and interacted card IDs keyed by activity id; null removes the persisted state
+ */
+export async function saveInboxStates(
+  states: Record<string, InboxPersistedState | null>
+): Promise<void> {
+  const serialized: Record<string, string | null> = {};
+  Object.keys(states).forEach((id) => {
+    if (!id) return;
+    const state = states[id];
+    serialized[id] = state ? JSON.stringify(state) : null;
+  });
+  if (Object.keys(serialized).length === 0 || !RCTAEPMessaging?.setInboxStates) return;
+  try {
+    await RCTAEPMessaging.setInboxStates(serialized);
+  } catch {
+    // Silently fail - persistence is best-effort
+  }
+}
+
+/**
+ * Load the number of dismissed and read cards of several inboxes with a single native read.
+ * Inboxes without persisted state are not included in the result.
+ * @param activityIds - From scopeDetails.activity of the inbox propositions
+ * @returns Counts keyed by activity id, or an empty object if they cannot be read
+ */
+export async function loadInboxCounts(
+  activityIds: string[]
+): Promise<Record<string, InboxStateCounts>> {
+  const ids = activityIds.filter(Boolean);
+  if (ids.length === 0 || !RCTAEPMessaging?.getInboxCounts) return {};
+  try {
+    return (await RCTAEPMessaging.getInboxCounts(ids)) ?? {};
+  } catch {
+    return {};
+  }
+}
+
+/**
+ * Remove persisted inbox state with a single native write.
+ * @param activityIds - Inboxes to clear; clears every inbox when omitted
+ */
+export async function clearInboxStates(activityIds?: string[]): Promise<void> {
+  if (!RCTAEPMessaging?.clearInboxStates) return;
+  try {
+    await RCTAEPMessaging.clearInboxStates(
+      activityIds ? activityIds.filter(Boolean) : null
+    );
+  } catch {
+    // Silently fail - persistence is best-effort
+  }
+}
+
+function parseInboxState(raw: unknown): InboxPersistedState {
+  if (!raw || typeof raw !== 'string') return { dismissed: [], interacted: [] };
+  try {
+    const parsed = JSON.parse(raw) as InboxPersistedState;
+    return {
+      dismissed: Array.isArray(parsed?.dismissed) ? parsed.dismissed : [],
+      interacted: Array.isArray(parsed?.interacted) ? parsed.interacted : [],
+    };
+  } catch {
+    return { dismissed: [], interacted: [] };
+  }
+}
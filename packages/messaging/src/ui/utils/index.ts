@@ -1,3 +1,11 @@
 export { generateCardHash } from './generateCardHash';
-export { loadInboxState, saveInboxState } from './inboxStorage';
+export {
+  clearInboxStates,
+  loadInboxCounts,
+  loadInboxState,
+  loadInboxStates,
+  saveInboxState,
+  saveInboxStates,
+} from './inboxStorage';
+export type { InboxPersistedState, InboxStateCounts } from './inboxStorage';
 
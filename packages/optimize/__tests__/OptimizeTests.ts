@@ -10,7 +10,7 @@ OF ANY KIND, either express or implied. See the License for the specific languag
 governing permissions and limitations under the License.
 */
 
-import { NativeModules } from 'react-native';
+import { NativeEventEmitter, NativeModules } from 'react-native';
 import { Optimize, Proposition, DecisionScope, Offer } from '../src';
 import offerJson from './offer.json';
 import propositionJson from './proposition.json';
@@ -32,6 +32,29 @@ describe('Optimize', () => {
     expect(spy).toHaveBeenCalled();
   });
 
+  it('AEPOptimize onPropositionUpdate forwards removed decision scopes', async () => {
+    const listeners: { [eventName: string]: (body: any) => void } = {};
+    const spy = jest
+      .spyOn(NativeEventEmitter.prototype, 'addListener')
+      .mockImplementation((eventName: string, listener: (body: any) => void) => {
+        listeners[eventName] = listener;
+        return { remove: jest.fn() } as any;
+      });
+    const adobeCallback = {
+      call: jest.fn(),
+      onRemoved: jest.fn()
+    };
+
+    Optimize.onPropositionUpdate(adobeCallback);
+    listeners['onPropositionsUpdate']({ scope1: propositionJson });
+    listeners['onPropositionsRemoved'](['scope2']);
+
+    expect(adobeCallback.call).toHaveBeenCalledTimes(1);
+    expect(adobeCallback.call.mock.calls[0][0].get('scope1')).toBeInstanceOf(Proposition);
+    expect(adobeCallback.onRemoved).toHaveBeenCalledWith(['scope2']);
+    spy.mockRestore();
+  });
+
   it('AEPOptimize clearCachedProposition is called', async () => {
     const spy = jest.spyOn(
       NativeModules.AEPOptimize,
@@ -287,6 +310,56 @@ describe('Optimize', () => {
     expect(spy).toHaveBeenCalledWith(offerJson.id, cleanedProposition);
   });
 
+  it('Test Offer.displayed without proposition', async () => {
+    const spy = jest.spyOn(NativeModules.AEPOptimize, 'offerDisplayedById');
+    const proposition = new Proposition(propositionJson as any);
+    const offer = proposition.items[0];
+    await offer.displayed();
+    expect(spy).toHaveBeenCalledWith(
+      'xcore:offer-activity:1111111111111111',
+      offer.id
+    );
+  });
+
+  it('Test Offer.tapped without proposition', async () => {
+    const spy = jest.spyOn(NativeModules.AEPOptimize, 'offerTappedById');
+    const proposition = new Proposition(propositionJson as any);
+    const offer = proposition.items[0];
+    await offer.tapped();
+    expect(spy).toHaveBeenCalledWith(
+      'xcore:offer-activity:1111111111111111',
+      offer.id
+    );
+  });
+
+  it('Test Offer.generateDisplayInteractionXdm without proposition', async () => {
+    const spy = jest.spyOn(
+      NativeModules.AEPOptimize,
+      'generateDisplayInteractionXdmById'
+    );
+    const proposition = new Proposition(propositionJson as any);
+    const offer = proposition.items[0];
+    await offer.generateDisplayInteractionXdm();
+    expect(spy).toHaveBeenCalledWith(
+      'xcore:offer-activity:1111111111111111',
+      offer.id
+    );
+  });
+
+  it('Test Offer.generateTapInteractionXdm without proposition', async () => {
+    const spy = jest.spyOn(
+      NativeModules.AEPOptimize,
+      'generateTapInteractionXdmById'
+    );
+    const proposition = new Proposition(propositionJson as any);
+    const offer = proposition.items[0];
+    await offer.generateTapInteractionXdm();
+    expect(spy).toHaveBeenCalledWith(
+      'xcore:offer-activity:1111111111111111',
+      offer.id
+    );
+  });
+
   it('Test Proposition Object state', async () => {
     const proposition = new Proposition(propositionJson as any);
     //Asserts
@@ -344,5 +417,17 @@ describe('Optimize', () => {
     await Optimize.generateDisplayInteractionXdm(offers);
     expect(spy).toHaveBeenCalledWith(offers);
   });
+
+  it('Test Optimize.setPropositionCacheLimits', async () => {
+    const spy = jest.spyOn(NativeModules.AEPOptimize, 'setPropositionCacheLimits');
+    Optimize.setPropositionCacheLimits(50, 600000);
+    expect(spy).toHaveBeenCalledWith(50, 600000);
+  });
+
+  it('Test Optimize.getCacheStats', async () => {
+    const spy = jest.spyOn(NativeModules.AEPOptimize, 'getCacheStats');
+    await Optimize.getCacheStats();
+    expect(spy).toHaveBeenCalled();
+  });
   
 });
@@ -24,47 +24,68 @@ import com.adobe.marketing.mobile.optimize.OfferType;
 import com.adobe.marketing.mobile.optimize.OfferUtils;
 import com.adobe.marketing.mobile.optimize.Optimize;
 import com.adobe.marketing.mobile.optimize.OptimizeProposition;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeSnapshotCache;
+import com.adobe.marketing.mobile.reactnative.RCTAEPEventEmitter;
 import com.adobe.marketing.mobile.util.DataReader;
 import com.adobe.marketing.mobile.util.DataReaderException;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.bridge.WritableNativeArray;
 import com.facebook.react.bridge.WritableNativeMap;
 import com.facebook.react.bridge.Callback;
-import com.facebook.react.modules.core.DeviceEventManagerModule;
 import android.util.Log;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import androidx.annotation.Nullable;
 
-public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
+public class RCTAEPOptimizeModule extends NativeAEPOptimizeSpec {
+    public static final String NAME = "AEPOptimize";
 
     private static final String TAG = "RCTAEPOptimizeModule";
+    private static final String PROPOSITIONS_UPDATE_EVENT = "onPropositionsUpdate";
+    private static final String PROPOSITIONS_REMOVED_EVENT = "onPropositionsRemoved";
     private final ReactApplicationContext reactContext;
-    // Cache of <Proposition ID, Proposition>
-    private final Map<String, OptimizeProposition> propositionCache = new ConcurrentHashMap<>();
+    // Cache of <Proposition ID, Proposition> with the offers of each proposition indexed by id
+    private final RCTAEPOptimizePropositionCache propositionCache = new RCTAEPOptimizePropositionCache();
+    // Event data of the proposition last sent to JS for each decision scope, so unchanged scopes are not sent again
+    private final Map<String, Map<String, Object>> scopeEventData = new ConcurrentHashMap<>();
+    // Converted propositions, so unchanged propositions are not converted again on every read
+    private final RCTAEPBridgeSnapshotCache propositionSnapshots = new RCTAEPBridgeSnapshotCache();
+    // Promises of the getPropositions calls in flight, keyed by RCTAEPOptimizeUtil#decisionScopesKey
+    private final Map<String, List<Promise>> pendingGetPropositions = new HashMap<>();
+    // Scope changes not sent to JS yet, guarded by pendingUpdatedPropositions. Each frame sends the latest change of a scope.
+    private final Map<String, PendingProposition> pendingUpdatedPropositions = new LinkedHashMap<>();
+    private final Set<String> pendingRemovedScopes = new LinkedHashSet<>();
+    private final RCTAEPEventEmitter eventEmitter;
 
     public RCTAEPOptimizeModule(ReactApplicationContext reactContext) {
         super(reactContext);
         this.reactContext = reactContext;
+        this.eventEmitter = new RCTAEPEventEmitter(reactContext);
     }
 
     @Override
     public String getName() {
-        return "AEPOptimize";
+        return NAME;
     }
 
     @ReactMethod
     public void offerDisplayed(final String offerId, final ReadableMap propositionMap) {
-        final Map<String, Object> eventData = RCTAEPOptimizeUtil.convertReadableMapToMap(propositionMap);
+        final Map<String, Object> eventData = RCTAEPBridgeConverter.toMap(propositionMap);
         final OptimizeProposition proposition = OptimizeProposition.fromEventData(eventData);
         for (Offer offer : proposition.getOffers()) {
             if (offer.getId().equalsIgnoreCase(offerId)) {
@@ -92,8 +113,8 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
         Log.d(TAG, "updatePropositions called");
         final List<DecisionScope> decisionScopeList = RCTAEPOptimizeUtil.createDecisionScopes(decisionScopesArray);
 
-        Map<String, Object> mapXdm = xdm != null ? RCTAEPOptimizeUtil.convertReadableMapToMap(xdm) : Collections.<String, Object>emptyMap();
-        Map<String, Object> mapData = data != null ? RCTAEPOptimizeUtil.convertReadableMapToMap(data) : Collections.<String, Object>emptyMap();
+        Map<String, Object> mapXdm = xdm != null ? RCTAEPBridgeConverter.toMap(xdm) : Collections.<String, Object>emptyMap();
+        Map<String, Object> mapData = data != null ? RCTAEPBridgeConverter.toMap(data) : Collections.<String, Object>emptyMap();
         
         Optimize.updatePropositions(decisionScopeList, mapXdm, mapData, new AdobeCallbackWithOptimizeError<Map<DecisionScope, OptimizeProposition>>() {
             @Override
@@ -123,11 +144,26 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
     @ReactMethod
     public void getPropositions(final ReadableArray decisionScopesArray, final Promise promise) {
         final List<DecisionScope> decisionScopeList = RCTAEPOptimizeUtil.createDecisionScopes(decisionScopesArray);
+        final String requestKey = RCTAEPOptimizeUtil.decisionScopesKey(decisionScopeList);
+
+        // Concurrent calls for the same scopes wait for the call already in flight.
+        synchronized (pendingGetPropositions) {
+            final List<Promise> waitingPromises = pendingGetPropositions.get(requestKey);
+            if (waitingPromises != null) {
+                waitingPromises.add(promise);
+                return;
+            }
+            final List<Promise> promises = new ArrayList<>();
+            promises.add(promise);
+            pendingGetPropositions.put(requestKey, promises);
+        }
 
         Optimize.getPropositions(decisionScopeList, new AdobeCallbackWithError<Map<DecisionScope, OptimizeProposition>>() {
             @Override
             public void fail(final AdobeError adobeError) {
-                promise.reject(String.valueOf(adobeError.getErrorCode()), adobeError.getErrorName());
+                for (final Promise waitingPromise : takePendingGetPropositions(requestKey)) {
+                    waitingPromise.reject(String.valueOf(adobeError.getErrorCode()), adobeError.getErrorName());
+                }
             }
 
             @Override
@@ -135,13 +171,29 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
                 cachePropositionOffers(decisionScopePropositionMap);
                 final WritableMap writableMap = new WritableNativeMap();
                 for (final Map.Entry<DecisionScope, OptimizeProposition> entry : decisionScopePropositionMap.entrySet()) {
-                    writableMap.putMap(entry.getKey().getName(), RCTAEPOptimizeUtil.convertPropositionToWritableMap(entry.getValue()));
+                    writableMap.putMap(entry.getKey().getName(), RCTAEPOptimizeUtil.convertPropositionToWritableMap(entry.getValue(), propositionSnapshots));
+                }
+
+                // A native map is consumed when it is sent to JS, so every other waiting promise gets a copy.
+                final List<Promise> waitingPromises = takePendingGetPropositions(requestKey);
+                final int last = waitingPromises.size() - 1;
+                for (int i = 0; i < last; i++) {
+                    waitingPromises.get(i).resolve(writableMap.copy());
+                }
+                if (last >= 0) {
+                    waitingPromises.get(last).resolve(writableMap);
                 }
-                promise.resolve(writableMap);
             }
         });
     }
 
+    private List<Promise> takePendingGetPropositions(final String requestKey) {
+        synchronized (pendingGetPropositions) {
+            final List<Promise> promises = pendingGetPropositions.remove(requestKey);
+            return promises != null ? promises : Collections.<Promise>emptyList();
+        }
+    }
+
     private void cachePropositionOffers(final Map<DecisionScope, OptimizeProposition> decisionScopePropositionMap) {
         for (final Map.Entry<DecisionScope, OptimizeProposition> entry : decisionScopePropositionMap.entrySet()) {
             OptimizeProposition proposition = entry.getValue();
@@ -174,8 +226,38 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
         }
     }
 
+    /**
+     * Looks up an offer of a proposition previously returned to JS, so tracking calls do not have to send and
+     * re-parse the whole proposition.
+     *
+     * @param propositionId the activity id the proposition is cached under (the offer's uniquePropositionId)
+     * @param offerId the offer id, matched case-insensitively
+     * @return the cached offer, or null if the proposition or offer is not cached
+     */
+    @Nullable
+    private Offer getCachedOffer(final String propositionId, final String offerId) {
+        if (propositionId == null || offerId == null) {
+            Log.d(TAG, "getCachedOffer: propositionId or offerId is null");
+            return null;
+        }
+
+        final Map<String, Offer> propositionOffers = propositionCache.getOffers(propositionId);
+        if (propositionOffers == null) {
+            Log.d(TAG, "getCachedOffer: proposition not found in cache for propositionId: " + propositionId);
+            return null;
+        }
+
+        final Offer offer = propositionOffers.get(RCTAEPOptimizeUtil.offerIndexKey(offerId));
+        if (offer == null) {
+            Log.d(TAG, "getCachedOffer: offer " + offerId + " not found in proposition: " + propositionId);
+        }
+        return offer;
+    }
+
     private void clearPropositionsCache() {
         propositionCache.clear();
+        scopeEventData.clear();
+        propositionSnapshots.clear();
     }
 
     @ReactMethod
@@ -195,7 +277,7 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
         if (!nativeOffers.isEmpty()) {
             Log.d(TAG, "multipleOffersGenerateDisplayInteractionXdm: calling generateDisplayInteractionXdm for: " + nativeOffers.size() + " offers: " + nativeOffers.toString());
             final Map<String, Object> interactionXdm = OfferUtils.generateDisplayInteractionXdm(nativeOffers);
-            final WritableMap writableMap = RCTAEPOptimizeUtil.convertMapToWritableMap(interactionXdm);
+            final WritableMap writableMap = RCTAEPBridgeConverter.toWritableMap(interactionXdm);
             promise.resolve(writableMap);
         } else {
             promise.reject("multipleOffersGenerateDisplayInteractionXdm", "Error in generating Display interaction XDM for multiple offers: " + offersArray.toString());
@@ -204,6 +286,8 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void onPropositionsUpdate() {
+        // A new JS listener has not seen any scope yet.
+        scopeEventData.clear();
         Optimize.onPropositionsUpdate(new AdobeCallback<Map<DecisionScope, OptimizeProposition>>() {
             @Override
             public void call(final Map<DecisionScope, OptimizeProposition> decisionScopePropositionMap) {
@@ -215,7 +299,7 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void offerTapped(final String offerId, final ReadableMap propositionMap) {
-        final Map<String, Object> eventData = RCTAEPOptimizeUtil.convertReadableMapToMap(propositionMap);
+        final Map<String, Object> eventData = RCTAEPBridgeConverter.toMap(propositionMap);
         final OptimizeProposition proposition = OptimizeProposition.fromEventData(eventData);
         for (Offer offer : proposition.getOffers()) {
             if (offer.getId().equalsIgnoreCase(offerId)) {
@@ -227,7 +311,7 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void generateDisplayInteractionXdm(final String offerId, final ReadableMap propositionMap, final Promise promise) {
-        final Map<String, Object> eventData = RCTAEPOptimizeUtil.convertReadableMapToMap(propositionMap);
+        final Map<String, Object> eventData = RCTAEPBridgeConverter.toMap(propositionMap);
         final OptimizeProposition proposition = OptimizeProposition.fromEventData(eventData);
         Offer offerDisplayed = null;
         for (Offer offer : proposition.getOffers()) {
@@ -239,7 +323,7 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
 
         if (offerDisplayed != null) {
             final Map<String, Object> interactionXdm = offerDisplayed.generateDisplayInteractionXdm();
-            final WritableMap writableMap = RCTAEPOptimizeUtil.convertMapToWritableMap(interactionXdm);
+            final WritableMap writableMap = RCTAEPBridgeConverter.toWritableMap(interactionXdm);
             promise.resolve(writableMap);
         } else {
             promise.reject("generateDisplayInteractionXdm", "Error in generating Display interaction XDM for offer with id: " + offerId);
@@ -248,7 +332,7 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void generateTapInteractionXdm(final String offerId, final ReadableMap propositionMap, final Promise promise) {
-        final Map<String, Object> eventData = RCTAEPOptimizeUtil.convertReadableMapToMap(propositionMap);
+        final Map<String, Object> eventData = RCTAEPBridgeConverter.toMap(propositionMap);
         final OptimizeProposition proposition = OptimizeProposition.fromEventData(eventData);
         Offer offerTapped = null;
         for (Offer offer : proposition.getOffers()) {
@@ -260,33 +344,89 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
 
         if (offerTapped != null) {
             final Map<String, Object> interactionXdm = offerTapped.generateTapInteractionXdm();
-            final WritableMap writableMap = RCTAEPOptimizeUtil.convertMapToWritableMap(interactionXdm);
+            final WritableMap writableMap = RCTAEPBridgeConverter.toWritableMap(interactionXdm);
             promise.resolve(writableMap);
         } else {
             promise.reject("generateTapInteractionXdm", "Error in generating Tap interaction XDM for offer with id: " + offerId);
         }
     }
 
+    @ReactMethod
+    public void offerDisplayedById(final String propositionId, final String offerId) {
+        final Offer offer = getCachedOffer(propositionId, offerId);
+        if (offer != null) {
+            offer.displayed();
+        }
+    }
+
+    @ReactMethod
+    public void offerTappedById(final String propositionId, final String offerId) {
+        final Offer offer = getCachedOffer(propositionId, offerId);
+        if (offer != null) {
+            offer.tapped();
+        }
+    }
+
+    @ReactMethod
+    public void generateDisplayInteractionXdmById(final String propositionId, final String offerId, final Promise promise) {
+        final Offer offer = getCachedOffer(propositionId, offerId);
+        if (offer != null) {
+            promise.resolve(RCTAEPBridgeConverter.toWritableMap(offer.generateDisplayInteractionXdm()));
+        } else {
+            promise.reject("generateDisplayInteractionXdmById", "Error in generating Display interaction XDM for offer with id: " + offerId);
+        }
+    }
+
+    @ReactMethod
+    public void generateTapInteractionXdmById(final String propositionId, final String offerId, final Promise promise) {
+        final Offer offer = getCachedOffer(propositionId, offerId);
+        if (offer != null) {
+            promise.resolve(RCTAEPBridgeConverter.toWritableMap(offer.generateTapInteractionXdm()));
+        } else {
+            promise.reject("generateTapInteractionXdmById", "Error in generating Tap interaction XDM for offer with id: " + offerId);
+        }
+    }
+
     @ReactMethod
     public void generateReferenceXdm(final ReadableMap propositionMap, final Promise promise) {
-        final Map<String, Object> propositionEventData = RCTAEPOptimizeUtil.convertReadableMapToMap(propositionMap);
+        final Map<String, Object> propositionEventData = RCTAEPBridgeConverter.toMap(propositionMap);
         final OptimizeProposition proposition = OptimizeProposition.fromEventData(propositionEventData);
         if (proposition != null) {
             Map<String, Object> referenceXdm = proposition.generateReferenceXdm();
-            final WritableMap writableMap = RCTAEPOptimizeUtil.convertMapToWritableMap(referenceXdm);
+            final WritableMap writableMap = RCTAEPBridgeConverter.toWritableMap(referenceXdm);
             promise.resolve(writableMap);
         } else {
             promise.reject("generateReferenceXdm", "Error in generating Reference XDM.");
         }
     }
 
+    @ReactMethod
+    public void setPropositionCacheLimits(final double maxEntries, final double maxAgeMs) {
+        propositionCache.setLimits((int) maxEntries, (long) maxAgeMs);
+    }
+
+    @ReactMethod
+    public void getCacheStats(final Promise promise) {
+        promise.resolve(propositionCache.getStats());
+    }
+
     // Required for React Native built in EventEmitter Calls.
     @ReactMethod
-    public void addListener(String eventName) {}
+    public void addListener(String eventName) {
+        eventEmitter.addListener(eventName);
+    }
 
     // Required for React Native built in EventEmitter Calls.
     @ReactMethod
-    public void removeListeners(Integer count) {}
+    public void removeListeners(double count) {
+        eventEmitter.removeListeners(count);
+    }
+
+    // See RCTAEPEventEmitter#removeListeners(String, double).
+    @ReactMethod
+    public void removeEventListeners(String eventName, double count) {
+        eventEmitter.removeListeners(eventName, count);
+    }
 
     private static Offer createOffer(Map<String, Object> offerEventData) {
         String id = (String) offerEventData.get("id");
@@ -301,11 +441,108 @@ public class RCTAEPOptimizeModule extends ReactContextBaseJavaModule {
         return offer;
     }
 
+    /**
+     * Sends the scopes whose proposition was added or changed since it was last sent with onPropositionsUpdate, and
+     * the scopes whose proposition no longer has offers with onPropositionsRemoved. Unchanged scopes are not
+     * converted nor sent, and no event is sent when nothing changed. Changes are sent with the next frame, only the
+     * latest change of each scope within a frame is sent. Nothing is compared while JS listens to neither event.
+     */
     private void sendUpdatedPropositionsEvent(final Map<DecisionScope, OptimizeProposition> decisionScopePropositionMap) {
-        final WritableMap writableMap = new WritableNativeMap();
-        for (final Map.Entry<DecisionScope, OptimizeProposition> entry : decisionScopePropositionMap.entrySet()) {
-            writableMap.putMap(entry.getKey().getName(), RCTAEPOptimizeUtil.convertPropositionToWritableMap(entry.getValue()));
+        if (!eventEmitter.hasListeners(PROPOSITIONS_UPDATE_EVENT) && !eventEmitter.hasListeners(PROPOSITIONS_REMOVED_EVENT)) {
+            return;
+        }
+
+        boolean hasUpdates = false;
+        boolean hasRemovals = false;
+        synchronized (pendingUpdatedPropositions) {
+            for (final Map.Entry<DecisionScope, OptimizeProposition> entry : decisionScopePropositionMap.entrySet()) {
+                final String scope = entry.getKey().getName();
+                final OptimizeProposition proposition = entry.getValue();
+                if (proposition == null || proposition.getOffers() == null || proposition.getOffers().isEmpty()) {
+                    if (scopeEventData.remove(scope) != null) {
+                        pendingUpdatedPropositions.remove(scope);
+                        pendingRemovedScopes.add(scope);
+                        hasRemovals = true;
+                    }
+                    continue;
+                }
+
+                final Map<String, Object> eventData = proposition.toEventData();
+                if (eventData == null) {
+                    scopeEventData.remove(scope);
+                } else if (eventData.equals(scopeEventData.put(scope, eventData))) {
+                    continue;
+                }
+                pendingRemovedScopes.remove(scope);
+                pendingUpdatedPropositions.put(scope, new PendingProposition(proposition, eventData));
+                hasUpdates = true;
+            }
+        }
+
+        if (hasUpdates && !eventEmitter.emit(PROPOSITIONS_UPDATE_EVENT, "", new RCTAEPEventEmitter.Payload() {
+            @Override
+            public Object create() {
+                return takeUpdatedPropositions();
+            }
+        })) {
+            synchronized (pendingUpdatedPropositions) {
+                pendingUpdatedPropositions.clear();
+            }
+        }
+        if (hasRemovals && !eventEmitter.emit(PROPOSITIONS_REMOVED_EVENT, "", new RCTAEPEventEmitter.Payload() {
+            @Override
+            public Object create() {
+                return takeRemovedScopes();
+            }
+        })) {
+            synchronized (pendingUpdatedPropositions) {
+                pendingRemovedScopes.clear();
+            }
+        }
+    }
+
+    @Nullable
+    private WritableMap takeUpdatedPropositions() {
+        final Map<String, PendingProposition> updated;
+        synchronized (pendingUpdatedPropositions) {
+            if (pendingUpdatedPropositions.isEmpty()) {
+                return null;
+            }
+            updated = new LinkedHashMap<>(pendingUpdatedPropositions);
+            pendingUpdatedPropositions.clear();
+        }
+
+        final WritableMap updatedPropositions = new WritableNativeMap();
+        for (final Map.Entry<String, PendingProposition> entry : updated.entrySet()) {
+            final PendingProposition pending = entry.getValue();
+            updatedPropositions.putMap(entry.getKey(), RCTAEPOptimizeUtil.convertPropositionToWritableMap(pending.proposition, pending.eventData, propositionSnapshots));
+        }
+        return updatedPropositions;
+    }
+
+    @Nullable
+    private WritableArray takeRemovedScopes() {
+        final WritableArray removedScopes = new WritableNativeArray();
+        synchronized (pendingUpdatedPropositions) {
+            if (pendingRemovedScopes.isEmpty()) {
+                return null;
+            }
+            for (final String scope : pendingRemovedScopes) {
+                removedScopes.pushString(scope);
+            }
+            pendingRemovedScopes.clear();
+        }
+        return removedScopes;
+    }
+
+    private static final class PendingProposition {
+        final OptimizeProposition proposition;
+        @Nullable
+        final Map<String, Object> eventData;
+
+        PendingProposition(final OptimizeProposition proposition, @Nullable final Map<String, Object> eventData) {
+            this.proposition = proposition;
+            this.eventData = eventData;
         }
-        reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class).emit("onPropositionsUpdate", writableMap);
     }
-}
\ No newline at end of file
+}
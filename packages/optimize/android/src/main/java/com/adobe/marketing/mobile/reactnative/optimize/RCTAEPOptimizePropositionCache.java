@@ -0,0 +1,78 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+package com.adobe.marketing.mobile.reactnative.optimize;
+
+import androidx.annotation.Nullable;
+
+import com.adobe.marketing.mobile.optimize.Offer;
+import com.adobe.marketing.mobile.optimize.OptimizeProposition;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeLruCache;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.Map;
+
+/**
+ * Cache of the propositions returned to JS, keyed by proposition (activity) id, with their offer index.
+ * It is a {@link RCTAEPBridgeLruCache}, so it is bounded by entry count and by entry age, and its statistics
+ * include an estimate of the bytes held by the cached propositions.
+ */
+class RCTAEPOptimizePropositionCache {
+
+    private final RCTAEPBridgeLruCache<Entry> entries = new RCTAEPBridgeLruCache<>(
+            new RCTAEPBridgeLruCache.Sizer<Entry>() {
+                @Override
+                public long estimateBytes(final Entry entry) {
+                    return RCTAEPOptimizeUtil.estimateBytes(entry.proposition);
+                }
+            });
+
+    void put(final String propositionId, final OptimizeProposition proposition) {
+        entries.put(propositionId, new Entry(proposition, RCTAEPOptimizeUtil.indexOffers(proposition)));
+    }
+
+    /**
+     * @param propositionId the proposition (activity) id
+     * @return the offers of the cached proposition keyed by {@link RCTAEPOptimizeUtil#offerIndexKey}, or null if the
+     * proposition is not cached or has expired
+     */
+    @Nullable
+    Map<String, Offer> getOffers(final String propositionId) {
+        final Entry entry = entries.get(propositionId);
+        return entry != null ? entry.offers : null;
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @param maxEntries maximum number of propositions, values below 1 are treated as 1
+     * @param maxAgeMs maximum time a proposition is kept after it is cached, 0 or less for no limit
+     */
+    void setLimits(final int maxEntries, final long maxAgeMs) {
+        entries.setLimits(maxEntries, maxAgeMs);
+    }
+
+    WritableMap getStats() {
+        return entries.getStats();
+    }
+
+    private static final class Entry {
+        // Held so the offers' reference to their proposition stays valid for tracking.
+        final OptimizeProposition proposition;
+        final Map<String, Offer> offers;
+
+        Entry(final OptimizeProposition proposition, final Map<String, Offer> offers) {
+            this.proposition = proposition;
+            this.offers = offers;
+        }
+    }
+}
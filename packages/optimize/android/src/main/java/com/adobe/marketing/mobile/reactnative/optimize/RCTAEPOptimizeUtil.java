@@ -17,47 +17,78 @@ import com.adobe.marketing.mobile.optimize.DecisionScope;
 import com.adobe.marketing.mobile.optimize.Offer;
 import com.adobe.marketing.mobile.optimize.OptimizeProposition;
 import com.adobe.marketing.mobile.optimize.AEPOptimizeError;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeSnapshotCache;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
-import com.facebook.react.bridge.ReadableMapKeySetIterator;
-import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
-import com.facebook.react.bridge.WritableNativeArray;
-import com.facebook.react.bridge.WritableNativeMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeSet;
 /**
  * Utility class for converting data models to {@link com.facebook.react.bridge.WritableMap}
  */
 class RCTAEPOptimizeUtil {
     private static final String TAG = "RCTAEPOptimize";
+    // Approximate JVM header size of an object and of a map entry, used by estimateBytes.
+    private static final long OBJECT_OVERHEAD_BYTES = 16;
+    private static final long ENTRY_OVERHEAD_BYTES = 32;
     private RCTAEPOptimizeUtil() {}
     static WritableMap convertPropositionToWritableMap(final OptimizeProposition proposition) {
-        final WritableMap propositionWritableMap = new WritableNativeMap();
+        final WritableMap propositionWritableMap = RCTAEPBridgeConverter.createMap();
         if (proposition == null) {
             return propositionWritableMap;
         }
         propositionWritableMap.putString("id", proposition.getId());
         propositionWritableMap.putString("scope", proposition.getScope());
-        propositionWritableMap.putMap("scopeDetails", convertMapToWritableMap(proposition.getScopeDetails()));
-        WritableArray offersWritableArray = new WritableNativeArray();
+        propositionWritableMap.putMap("scopeDetails", RCTAEPBridgeConverter.toWritableMap(proposition.getScopeDetails()));
+        WritableArray offersWritableArray = RCTAEPBridgeConverter.createArray();
         for (final Offer offer : proposition.getOffers()) {
             offersWritableArray.pushMap(convertOfferToWritableMap(offer));
         }
         propositionWritableMap.putArray("items", offersWritableArray);
         if (proposition.getActivity() != null) {
-            propositionWritableMap.putMap("activity", convertMapToWritableMap(proposition.getActivity()));
+            propositionWritableMap.putMap("activity", RCTAEPBridgeConverter.toWritableMap(proposition.getActivity()));
         }
         if (proposition.getPlacement() != null) {
-            propositionWritableMap.putMap("placement", convertMapToWritableMap(proposition.getPlacement()));
+            propositionWritableMap.putMap("placement", RCTAEPBridgeConverter.toWritableMap(proposition.getPlacement()));
         }
         return propositionWritableMap;
     }
+    /**
+     * Converts a proposition, reusing the snapshot of its previous conversion if its content has not changed.
+     * @param proposition the proposition to convert
+     * @param snapshots the snapshots of the propositions previously converted
+     * @return the converted proposition
+     */
+    static WritableMap convertPropositionToWritableMap(final OptimizeProposition proposition, final RCTAEPBridgeSnapshotCache snapshots) {
+        if (proposition == null) {
+            return convertPropositionToWritableMap(null);
+        }
+        return convertPropositionToWritableMap(proposition, proposition.toEventData(), snapshots);
+    }
+
+    /**
+     * @param eventData the event data of the proposition, when the caller already has it
+     */
+    static WritableMap convertPropositionToWritableMap(final OptimizeProposition proposition, final Map<String, Object> eventData, final RCTAEPBridgeSnapshotCache snapshots) {
+        if (proposition.getId() == null || eventData == null) {
+            return convertPropositionToWritableMap(proposition);
+        }
+        final WritableMap snapshot = snapshots.get(proposition.getId(), eventData);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return snapshots.put(proposition.getId(), eventData, convertPropositionToWritableMap(proposition));
+    }
     static WritableMap convertOfferToWritableMap(final Offer offer) {
-        final WritableMap offerWritableMap = new WritableNativeMap();
+        final WritableMap offerWritableMap = RCTAEPBridgeConverter.createMap();
         if (offer == null) {
             return offerWritableMap;
         }
@@ -67,61 +98,22 @@ class RCTAEPOptimizeUtil {
         }
         offerWritableMap.putString("schema", offer.getSchema());
         if (offer.getMeta() != null) {
-            offerWritableMap.putMap("meta", convertMapToWritableMap(new HashMap<String, Object>(offer.getMeta())));
+            offerWritableMap.putMap("meta", RCTAEPBridgeConverter.toWritableMap(offer.getMeta()));
         }
         offerWritableMap.putDouble("score", offer.getScore());
-        final WritableMap dataWritableMap = new WritableNativeMap();
+        final WritableMap dataWritableMap = RCTAEPBridgeConverter.createMap();
         dataWritableMap.putString("id", offer.getId());
         dataWritableMap.putString("format", offer.getType().toString());
         dataWritableMap.putString("content", offer.getContent());
         if (offer.getLanguage() != null) {
-            dataWritableMap.putArray("language", convertListToWritableArray(new ArrayList<Object>(offer.getLanguage())));
+            dataWritableMap.putArray("language", RCTAEPBridgeConverter.toWritableArray(offer.getLanguage()));
         }
         if (offer.getCharacteristics() != null) {
-            dataWritableMap.putMap("characteristics", convertMapToWritableMap(new HashMap<String, Object>(offer.getCharacteristics())));
+            dataWritableMap.putMap("characteristics", RCTAEPBridgeConverter.toWritableMap(offer.getCharacteristics()));
         }
         offerWritableMap.putMap("data", dataWritableMap);
         return offerWritableMap;
     }
-    static WritableArray convertListToWritableArray(final List<Object> objectList) {
-        final WritableArray writableArray = new WritableNativeArray();
-        for (final Object object : objectList) {
-            if (object instanceof Map) {
-                writableArray.pushMap(convertMapToWritableMap((Map<String, Object>) object));
-            } else if (object instanceof List) {
-                writableArray.pushArray(convertListToWritableArray((List<Object>) object));
-            } else if (object instanceof String) {
-                writableArray.pushString((String) object);
-            } else if (object instanceof Boolean) {
-                writableArray.pushBoolean((Boolean) object);
-            } else if (object instanceof Integer) {
-                writableArray.pushInt((Integer) object);
-            } else if (object instanceof Double) {
-                writableArray.pushDouble((Double) object);
-            }
-        }
-        return writableArray;
-    }
-    static WritableMap convertMapToWritableMap(final Map<String, Object> map) {
-        final WritableMap writableMap = new WritableNativeMap();
-        for (final Map.Entry<String, Object> entry : map.entrySet()) {
-            final Object value = entry.getValue();
-            if (value instanceof Map) {
-                writableMap.putMap(entry.getKey(), convertMapToWritableMap((Map<String, Object>) value));
-            } else if (value instanceof List) {
-                writableMap.putArray(entry.getKey(), convertListToWritableArray((List<Object>) value));
-            } else if (value instanceof String) {
-                writableMap.putString(entry.getKey(), (String) value);
-            } else if (value instanceof Boolean) {
-                writableMap.putBoolean(entry.getKey(), (Boolean) value);
-            } else if (value instanceof Integer) {
-                writableMap.putInt(entry.getKey(), (Integer) value);
-            } else if (value instanceof Double) {
-                writableMap.putDouble(entry.getKey(), (Double) value);
-            }
-        }
-        return writableMap;
-    }
     static List<DecisionScope> createDecisionScopes(final ReadableArray decisionScopesArray) {
         final List<DecisionScope> decisionScopeList = new ArrayList<>(decisionScopesArray.size());
         for (int i = 0; i < decisionScopesArray.size(); i++) {
@@ -132,68 +124,27 @@ class RCTAEPOptimizeUtil {
         }
         return decisionScopeList;
     }
+
     /**
-     * Converts {@link ReadableMap} Map to {@link Map}
-     *
-     * @param readableMap instance of {@code ReadableMap}
-     * @return instance of {@code Map}
+     * Key identifying a set of decision scopes regardless of their order or duplicates, so that concurrent
+     * getPropositions calls for the same scopes can share one request.
+     * @param decisionScopes the requested decision scopes
+     * @return the sorted, distinct scope names joined by a separator that cannot appear in a scope name
      */
-    static Map<String, Object> convertReadableMapToMap(final ReadableMap readableMap) {
-        ReadableMapKeySetIterator iterator = readableMap.keySetIterator();
-        Map<String, Object> map = new HashMap<>();
-        while (iterator.hasNextKey()) {
-            String key = iterator.nextKey();
-            ReadableType type = readableMap.getType(key);
-            switch (type) {
-                case Boolean:
-                    map.put(key, readableMap.getBoolean(key));
-                    break;
-                case Number:
-                    map.put(key, readableMap.getDouble(key));
-                    break;
-                case String:
-                    map.put(key, readableMap.getString(key));
-                    break;
-                case Map:
-                    map.put(key, convertReadableMapToMap(readableMap.getMap(key)));
-                    break;
-                case Array:
-                    map.put(key, convertReadableArrayToList(readableMap.getArray(key)));
-                    break;
-                default:
-                    break;
-            }
+    static String decisionScopesKey(final List<DecisionScope> decisionScopes) {
+        final TreeSet<String> names = new TreeSet<>();
+        for (final DecisionScope decisionScope : decisionScopes) {
+            names.add(decisionScope.getName());
         }
-        return map;
-    }
-    private static List<Object> convertReadableArrayToList(final ReadableArray readableArray) {
-        final List<Object> list = new ArrayList<>(readableArray.size());
-        for (int i = 0; i < readableArray.size(); i++) {
-            ReadableType indexType = readableArray.getType(i);
-            switch(indexType) {
-                case Boolean:
-                    list.add(i, readableArray.getBoolean(i));
-                    break;
-                case Number:
-                    list.add(i, readableArray.getDouble(i));
-                    break;
-                case String:
-                    list.add(i, readableArray.getString(i));
-                    break;
-                case Map:
-                    list.add(i, convertReadableMapToMap(readableArray.getMap(i)));
-                    break;
-                case Array:
-                    list.add(i, convertReadableArrayToList(readableArray.getArray(i)));
-                    break;
-                default:
-                    break;
-            }
+
+        final StringBuilder key = new StringBuilder();
+        for (final String name : names) {
+            key.append(name).append('\u0000');
         }
-        return list;
+        return key.toString();
     }
 
-    static List<Offer> getNativeOffers(final ReadableArray offersArray, Map<String, OptimizeProposition> propositionCache) {
+    static List<Offer> getNativeOffers(final ReadableArray offersArray, RCTAEPOptimizePropositionCache propositionCache) {
         List<Offer> nativeOffers = new ArrayList<>();
 
         if (offersArray == null || offersArray.size() == 0) {
@@ -216,30 +167,112 @@ class RCTAEPOptimizeUtil {
                 continue;
             }
 
-            OptimizeProposition proposition = propositionCache.get(uniquePropositionId);
-            if (proposition == null) {
+            Map<String, Offer> propositionOffers = propositionCache.getOffers(uniquePropositionId);
+            if (propositionOffers == null) {
                 Log.d(TAG, "getNativeOffers: proposition not found in cache for uniquePropositionId: " + uniquePropositionId);
                 continue;
             }
 
-            for (Offer propositionOffer : proposition.getOffers()) {
-                if (propositionOffer.getId().equalsIgnoreCase(offerId)) {
-                    nativeOffers.add(propositionOffer);
-                    break;
-                }
+            Offer propositionOffer = propositionOffers.get(offerIndexKey(offerId));
+            if (propositionOffer != null) {
+                nativeOffers.add(propositionOffer);
             }
         }
 
         return nativeOffers;
     }
 
+    /**
+     * Indexes the offers of a cached proposition by {@link #offerIndexKey}, so offers can be resolved without
+     * scanning the proposition. The first offer wins if two ids differ only in case.
+     * @param proposition the proposition being cached
+     * @return an unmodifiable map of lower-cased offer id to offer
+     */
+    static Map<String, Offer> indexOffers(final OptimizeProposition proposition) {
+        final List<Offer> offers = proposition.getOffers();
+        if (offers == null || offers.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Offer> index = new HashMap<>(offers.size() * 2);
+        for (final Offer offer : offers) {
+            if (offer != null && offer.getId() != null) {
+                final String key = offerIndexKey(offer.getId());
+                if (!index.containsKey(key)) {
+                    index.put(key, offer);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Offer ids are matched case-insensitively, as the proposition scan they replace did.
+     */
+    static String offerIndexKey(final String offerId) {
+        return offerId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Rough estimate of the memory held by a proposition: two bytes per character of its strings plus a fixed
+     * overhead per object and map entry. Used for cache statistics only.
+     * @param proposition the proposition being cached
+     * @return the estimated size in bytes
+     */
+    static long estimateBytes(final OptimizeProposition proposition) {
+        long bytes = OBJECT_OVERHEAD_BYTES
+                + estimateBytes(proposition.getId())
+                + estimateBytes(proposition.getScope())
+                + estimateBytes(proposition.getScopeDetails())
+                + estimateBytes(proposition.getActivity())
+                + estimateBytes(proposition.getPlacement());
+        final List<Offer> offers = proposition.getOffers();
+        if (offers != null) {
+            for (final Offer offer : offers) {
+                bytes += OBJECT_OVERHEAD_BYTES
+                        + estimateBytes(offer.getId())
+                        + estimateBytes(offer.getEtag())
+                        + estimateBytes(offer.getSchema())
+                        + estimateBytes(offer.getContent())
+                        + estimateBytes(offer.getLanguage())
+                        + estimateBytes(offer.getCharacteristics())
+                        + estimateBytes(offer.getMeta());
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(final Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES + 2L * ((String) value).length();
+        }
+        if (value instanceof Map) {
+            long bytes = OBJECT_OVERHEAD_BYTES;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                bytes += ENTRY_OVERHEAD_BYTES + estimateBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof Collection) {
+            long bytes = OBJECT_OVERHEAD_BYTES;
+            for (final Object item : (Collection<?>) value) {
+                bytes += estimateBytes(item);
+            }
+            return bytes;
+        }
+        return OBJECT_OVERHEAD_BYTES;
+    }
+
     /**
      * Helper method to create callback response
      * @param propositionsMap
      * @return WritableMap
      */
     static WritableMap createCallbackResponse(final Map<DecisionScope, OptimizeProposition> propositionsMap) {
-        final WritableMap propositionsWritableMap = new WritableNativeMap();
+        final WritableMap propositionsWritableMap = RCTAEPBridgeConverter.createMap();
         
         if (propositionsMap != null && !propositionsMap.isEmpty()) {
             for (final Map.Entry<DecisionScope, OptimizeProposition> entry : propositionsMap.entrySet()) {
@@ -254,7 +287,7 @@ class RCTAEPOptimizeUtil {
      * Converts an AEPOptimizeError to a WritableMap for React Native error callback
      */
     static WritableMap convertAEPOptimizeErrorToWritableMap(final AEPOptimizeError error) {
-        final WritableMap errorMap = new WritableNativeMap();
+        final WritableMap errorMap = RCTAEPBridgeConverter.createMap();
         if (error == null) {
             return errorMap;
         }
@@ -265,7 +298,7 @@ class RCTAEPOptimizeUtil {
         errorMap.putString("title", error.getTitle());
         errorMap.putString("detail", error.getDetail());
         if (error.getReport() != null && error.getReport() instanceof Map) {
-            errorMap.putMap("report", convertMapToWritableMap((Map<String, Object>) error.getReport()));
+            errorMap.putMap("report", RCTAEPBridgeConverter.toWritableMap((Map<String, Object>) error.getReport()));
         }
         if (error.getAdobeError() != null) {
             errorMap.putString("aepError", error.getAdobeError().getErrorName());
@@ -0,0 +1,26 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+package com.adobe.marketing.mobile.reactnative.optimize;
+
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+
+/**
+ * Base class of {@link RCTAEPOptimizeModule} when the New Architecture is disabled. With it enabled, codegen
+ * generates this class from src/specs/NativeAEPOptimize.ts instead.
+ */
+public abstract class NativeAEPOptimizeSpec extends ReactContextBaseJavaModule {
+
+    public NativeAEPOptimizeSpec(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+}
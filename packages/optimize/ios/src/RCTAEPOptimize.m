@@ -11,22 +11,31 @@
  */
 
 #import "RCTAEPOptimize.h"
+#import "RCTAEPOptimizePropositionCache.h"
 #import <React/RCTEventEmitter.h>
 @import AEPOptimize;
 @import AEPServices;
 @import Foundation;
+#import <CommonCrypto/CommonDigest.h>
 
 static NSString *const TAG = @"RCTAEPOptimize";
 
 @implementation RCTAEPOptimize {
   bool hasListeners;
-  NSMutableDictionary<NSString *, AEPOptimizeProposition *> *propositionCache;
+  // Cache of <Proposition ID, Proposition> with the offers of each proposition indexed by id
+  RCTAEPOptimizePropositionCache *propositionCache;
+  // Content hash of the proposition last sent to JS for each decision scope, so unchanged scopes are not sent again
+  NSMutableDictionary<NSString *, NSString *> *scopeContentHashes;
+  // Resolve and reject blocks of the getPropositions calls in flight, keyed by their sorted decision scope names
+  NSMutableDictionary<NSString *, NSMutableArray<NSArray *> *> *pendingGetPropositions;
 }
 
 - (instancetype)init {
   self = [super init];
   hasListeners = false;
-  propositionCache = [[NSMutableDictionary alloc] init];
+  propositionCache = [[RCTAEPOptimizePropositionCache alloc] init];
+  scopeContentHashes = [[NSMutableDictionary alloc] init];
+  pendingGetPropositions = [[NSMutableDictionary alloc] init];
   return self;
 }
 
@@ -105,14 +114,31 @@ RCT_EXPORT_METHOD(getPropositions
   [AEPLog traceWithLabel:TAG message:@"getPropositions is called."];
   NSArray<AEPDecisionScope *> *decisionScopesArray =
       [self createDecisionScopesArray:decisionScopes];
+
+  // Concurrent calls for the same scopes wait for the call already in flight.
+  NSString *requestKey = [[[[NSSet setWithArray:decisionScopes] allObjects]
+      sortedArrayUsingSelector:@selector(compare:)] componentsJoinedByString:@"\n"];
+  @synchronized(pendingGetPropositions) {
+    NSMutableArray<NSArray *> *waitingBlocks = [pendingGetPropositions objectForKey:requestKey];
+    if (waitingBlocks) {
+      [waitingBlocks addObject:@[ resolve, reject ]];
+      return;
+    }
+    [pendingGetPropositions setObject:[NSMutableArray arrayWithObject:@[ resolve, reject ]] forKey:requestKey];
+  }
+
   [AEPMobileOptimize
       getPropositions:decisionScopesArray
            completion:^(NSDictionary<AEPDecisionScope *, AEPOptimizeProposition *>
                             *decisionScopePropositionDict,
                         NSError *error) {
+             NSArray<NSArray *> *waitingBlocks = [self takePendingGetPropositions:requestKey];
              if (error) {
-               reject([NSString stringWithFormat:@"%ld", (long)error.code],
-                      error.description, nil);
+               for (NSArray *blocks in waitingBlocks) {
+                 RCTPromiseRejectBlock waitingReject = blocks[1];
+                 waitingReject([NSString stringWithFormat:@"%ld", (long)error.code],
+                               error.description, nil);
+               }
              } else {
               [self cachePropositions:decisionScopePropositionDict];
 
@@ -126,31 +152,34 @@ RCT_EXPORT_METHOD(getPropositions
                      setValue:[self convertPropositionToDict:proposition]
                        forKey:key.name];
                }
-               resolve(propositionDictionary);
+               for (NSArray *blocks in waitingBlocks) {
+                 RCTPromiseResolveBlock waitingResolve = blocks[0];
+                 waitingResolve(propositionDictionary);
+               }
              }
            }];
 }
 
+- (NSArray<NSArray *> *)takePendingGetPropositions:(NSString *)requestKey {
+  @synchronized(pendingGetPropositions) {
+    NSArray<NSArray *> *blocks = [pendingGetPropositions objectForKey:requestKey];
+    [pendingGetPropositions removeObjectForKey:requestKey];
+    return blocks ?: @[];
+  }
+}
+
 RCT_EXPORT_METHOD(onPropositionsUpdate) {
   [AEPLog traceWithLabel:TAG message:@"onPropositionsUpdate is called."];
+  // A new JS listener has not seen any scope yet.
+  @synchronized(scopeContentHashes) {
+    [scopeContentHashes removeAllObjects];
+  }
   [AEPMobileOptimize onPropositionsUpdate:^(
                          NSDictionary<AEPDecisionScope *, AEPOptimizeProposition *>
                              *decisionScopePropositionDict) {
 
     [self cachePropositions:decisionScopePropositionDict];
-    NSDictionary<NSString *, NSDictionary<NSString *, id> *>
-        *propositionDictionary = [[NSMutableDictionary alloc] init];
-
-    for (AEPDecisionScope *key in decisionScopePropositionDict) {
-        AEPOptimizeProposition *proposition = decisionScopePropositionDict[key];
-      [propositionDictionary
-          setValue:[self convertPropositionToDict:proposition]
-            forKey:key.name];
-    }
-
-    if (self->hasListeners) {
-      [self sendEventWithName:@"onPropositionsUpdate" body:propositionDictionary];
-    }
+    [self sendUpdatedPropositionsEvent:decisionScopePropositionDict];
   }];
 }
 
@@ -251,6 +280,70 @@ RCT_EXPORT_METHOD(generateDisplayInteractionXdm
   }
 }
 
+RCT_EXPORT_METHOD(offerDisplayedById
+                  : (NSString *)propositionId offerId
+                  : (NSString *)offerId) {
+  [AEPLog debugWithLabel:TAG message:@"offerDisplayedById is called."];
+  [[self getCachedOffer:offerId propositionId:propositionId] displayed];
+}
+
+RCT_EXPORT_METHOD(offerTappedById
+                  : (NSString *)propositionId offerId
+                  : (NSString *)offerId) {
+  [AEPLog debugWithLabel:TAG message:@"offerTappedById is called."];
+  [[self getCachedOffer:offerId propositionId:propositionId] tapped];
+}
+
+RCT_EXPORT_METHOD(generateDisplayInteractionXdmById
+                  : (NSString *)propositionId offerId
+                  : (NSString *)offerId resolver
+                  : (RCTPromiseResolveBlock)resolve rejector
+                  : (RCTPromiseRejectBlock)reject) {
+  [AEPLog debugWithLabel:TAG message:@"generateDisplayInteractionXdmById is called."];
+  AEPOffer *offer = [self getCachedOffer:offerId propositionId:propositionId];
+  if (offer != nil) {
+    resolve([offer generateDisplayInteractionXdm]);
+  } else {
+    reject(@"generateDisplayInteractionXdmById",
+           [NSString stringWithFormat:@"Error in generating Display "
+                                      @"interaction XDM for offer with id: %@",
+                                      offerId],
+           nil);
+  }
+}
+
+RCT_EXPORT_METHOD(generateTapInteractionXdmById
+                  : (NSString *)propositionId offerId
+                  : (NSString *)offerId resolver
+                  : (RCTPromiseResolveBlock)resolve rejector
+                  : (RCTPromiseRejectBlock)reject) {
+  [AEPLog debugWithLabel:TAG message:@"generateTapInteractionXdmById is called."];
+  AEPOffer *offer = [self getCachedOffer:offerId propositionId:propositionId];
+  if (offer != nil) {
+    resolve([offer generateTapInteractionXdm]);
+  } else {
+    reject(@"generateTapInteractionXdmById",
+           [NSString stringWithFormat:@"Error in generating Tap interaction "
+                                      @"XDM for offer with id: %@",
+                                      offerId],
+           nil);
+  }
+}
+
+RCT_EXPORT_METHOD(setPropositionCacheLimits
+                  : (double)maxEntries maxAgeMs
+                  : (double)maxAgeMs) {
+  [AEPLog traceWithLabel:TAG message:@"setPropositionCacheLimits is called."];
+  [propositionCache setMaxEntries:(NSInteger)maxEntries maxAgeMs:maxAgeMs];
+}
+
+RCT_EXPORT_METHOD(getCacheStats
+                  : (RCTPromiseResolveBlock)resolve rejecter
+                  : (RCTPromiseRejectBlock)reject) {
+  [AEPLog traceWithLabel:TAG message:@"getCacheStats is called."];
+  resolve([propositionCache stats]);
+}
+
 RCT_EXPORT_METHOD(multipleOffersDisplayed
                   : (NSArray<NSDictionary<NSString *, id> *> *)offersArray) {
                     
@@ -307,24 +400,42 @@ RCT_EXPORT_METHOD(multipleOffersGenerateDisplayInteractionXdm
       continue;
     }
     
-    AEPOptimizeProposition *proposition = [propositionCache objectForKey:uniquePropositionId];
-    if (!proposition) {
+    NSDictionary<NSString *, AEPOffer *> *propositionOffers = [propositionCache offersForKey:uniquePropositionId];
+    if (!propositionOffers) {
       [AEPLog debugWithLabel:TAG message:[NSString stringWithFormat:@"getNativeOffersFromOffersArray: proposition not found in cache for uniquePropositionId: %@", uniquePropositionId]];
       continue;
     }
 
-    NSArray<AEPOffer *> *offers = [proposition offers];
-    for (AEPOffer *propositionOffer in offers) {
-      if ([[propositionOffer id] isEqualToString:offerId]) {
-        [nativeOffers addObject:propositionOffer];
-        break;
-      }
+    AEPOffer *propositionOffer = [propositionOffers objectForKey:offerId];
+    if (propositionOffer) {
+      [nativeOffers addObject:propositionOffer];
     }
   }
 
   return nativeOffers;
 }
 
+// Looks up an offer of a proposition previously returned to JS, so tracking calls do not have to send and
+// re-parse the whole proposition.
+- (AEPOffer *)getCachedOffer:(NSString *)offerId propositionId:(NSString *)propositionId {
+  if (!propositionId || !offerId) {
+    [AEPLog debugWithLabel:TAG message:@"getCachedOffer: propositionId or offerId is null"];
+    return nil;
+  }
+
+  NSDictionary<NSString *, AEPOffer *> *propositionOffers = [propositionCache offersForKey:propositionId];
+  if (!propositionOffers) {
+    [AEPLog debugWithLabel:TAG message:[NSString stringWithFormat:@"getCachedOffer: proposition not found in cache for propositionId: %@", propositionId]];
+    return nil;
+  }
+
+  AEPOffer *offer = [propositionOffers objectForKey:offerId];
+  if (!offer) {
+    [AEPLog debugWithLabel:TAG message:[NSString stringWithFormat:@"getCachedOffer: offer %@ not found in proposition: %@", offerId, propositionId]];
+  }
+  return offer;
+}
+
 #pragma mark - Cache Management
 
 - (void)cachePropositions:(NSDictionary<AEPDecisionScope *, AEPOptimizeProposition *> *)decisionScopePropositionDict {
@@ -354,13 +465,80 @@ RCT_EXPORT_METHOD(multipleOffersGenerateDisplayInteractionXdm
         }
 
         if (activityId) {
-          [propositionCache setObject:proposition forKey:activityId];
+          [propositionCache setProposition:proposition forKey:activityId];
         }
     }
 }
 
 - (void)clearPropositionsCache {
     [propositionCache removeAllObjects];
+    @synchronized(scopeContentHashes) {
+        [scopeContentHashes removeAllObjects];
+    }
+}
+
+#pragma mark - Proposition updates
+
+// Sends the scopes whose proposition was added or changed since it was last sent with onPropositionsUpdate, and the
+// scopes whose proposition no longer has offers with onPropositionsRemoved. No event is sent when nothing changed.
+- (void)sendUpdatedPropositionsEvent:(NSDictionary<AEPDecisionScope *, AEPOptimizeProposition *> *)decisionScopePropositionDict {
+  NSMutableDictionary<NSString *, NSDictionary<NSString *, id> *> *updatedPropositions = [[NSMutableDictionary alloc] init];
+  NSMutableArray<NSString *> *removedScopes = [[NSMutableArray alloc] init];
+
+  @synchronized(scopeContentHashes) {
+    for (AEPDecisionScope *key in decisionScopePropositionDict) {
+      AEPOptimizeProposition *proposition = decisionScopePropositionDict[key];
+      if (!proposition || [[proposition offers] count] == 0) {
+        if ([scopeContentHashes objectForKey:key.name]) {
+          [scopeContentHashes removeObjectForKey:key.name];
+          [removedScopes addObject:key.name];
+        }
+        continue;
+      }
+
+      NSDictionary<NSString *, id> *propositionDict = [self convertPropositionToDict:proposition];
+      NSString *contentHash = [self contentHashOfDictionary:propositionDict];
+      if (contentHash && [contentHash isEqualToString:[scopeContentHashes objectForKey:key.name]]) {
+        continue;
+      }
+      if (contentHash) {
+        [scopeContentHashes setObject:contentHash forKey:key.name];
+      } else {
+        [scopeContentHashes removeObjectForKey:key.name];
+      }
+      [updatedPropositions setObject:propositionDict forKey:key.name];
+    }
+  }
+
+  if (!hasListeners) {
+    return;
+  }
+  if ([updatedPropositions count] > 0) {
+    [self sendEventWithName:@"onPropositionsUpdate" body:updatedPropositions];
+  }
+  if ([removedScopes count] > 0) {
+    [self sendEventWithName:@"onPropositionsRemoved" body:removedScopes];
+  }
+}
+
+// SHA-256 of the proposition serialized with sorted keys, or nil if it cannot be serialized, in which case the
+// proposition is always treated as changed.
+- (NSString *)contentHashOfDictionary:(NSDictionary<NSString *, id> *)dictionary {
+  if (![NSJSONSerialization isValidJSONObject:dictionary]) {
+    return nil;
+  }
+  NSData *data = [NSJSONSerialization dataWithJSONObject:dictionary options:NSJSONWritingSortedKeys error:nil];
+  if (!data) {
+    return nil;
+  }
+
+  unsigned char digest[CC_SHA256_DIGEST_LENGTH];
+  CC_SHA256([data bytes], (CC_LONG)[data length], digest);
+  NSMutableString *hash = [NSMutableString stringWithCapacity:CC_SHA256_DIGEST_LENGTH * 2];
+  for (int i = 0; i < CC_SHA256_DIGEST_LENGTH; i++) {
+    [hash appendFormat:@"%02x", digest[i]];
+  }
+  return hash;
 }
 
 #pragma mark - Helper methods
@@ -508,8 +686,15 @@ RCT_EXPORT_METHOD(multipleOffersGenerateDisplayInteractionXdm
 
 #pragma mark - RCTEventEmitter functions
 
+// The event name sent from JS is only used on Android; RCTEventEmitter keeps a total count.
+RCT_EXPORT_METHOD(removeEventListeners
+                  : (NSString *)eventName count
+                  : (double)count) {
+  [self removeListeners:count];
+}
+
 - (NSArray<NSString *> *)supportedEvents {
-  return @[ @"onPropositionsUpdate" ];
+  return @[ @"onPropositionsUpdate", @"onPropositionsRemoved" ];
 }
 
 - (void)startObserving {
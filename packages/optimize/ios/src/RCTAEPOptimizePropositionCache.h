@@ -0,0 +1,37 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+#import <Foundation/Foundation.h>
+
+@class AEPOffer;
+@class AEPOptimizeProposition;
+
+NS_ASSUME_NONNULL_BEGIN
+
+// Thread-safe LRU cache of the propositions returned to JS, keyed by proposition (activity) id, with their offer
+// index. It is bounded by entry count and by entry age, and keeps hit, miss and eviction counts.
+@interface RCTAEPOptimizePropositionCache : NSObject
+
+- (void)setProposition:(AEPOptimizeProposition *)proposition forKey:(NSString *)propositionId;
+
+// Returns the offers of the cached proposition keyed by offer id, or nil if it is not cached or has expired.
+- (nullable NSDictionary<NSString *, AEPOffer *> *)offersForKey:(NSString *)propositionId;
+
+- (void)removeAllObjects;
+
+// maxEntries below 1 is treated as 1, maxAgeMs of 0 or less disables the age limit.
+- (void)setMaxEntries:(NSInteger)maxEntries maxAgeMs:(double)maxAgeMs;
+
+- (NSDictionary<NSString *, NSNumber *> *)stats;
+
+@end
+
+NS_ASSUME_NONNULL_END
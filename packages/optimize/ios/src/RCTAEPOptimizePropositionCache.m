@@ -0,0 +1,210 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+#import "RCTAEPOptimizePropositionCache.h"
+@import AEPOptimize;
+
+static const NSInteger DEFAULT_MAX_ENTRIES = 100;
+static const double DEFAULT_MAX_AGE_MS = 60 * 60 * 1000;
+// Approximate size of an object header and of a dictionary entry, used by the bytes estimate.
+static const long long OBJECT_OVERHEAD_BYTES = 16;
+static const long long ENTRY_OVERHEAD_BYTES = 32;
+
+@interface RCTAEPOptimizePropositionCacheEntry : NSObject
+// Held so the offers' reference to their proposition stays valid for tracking.
+@property(nonatomic, strong) AEPOptimizeProposition *proposition;
+@property(nonatomic, strong) NSDictionary<NSString *, AEPOffer *> *offers;
+@property(nonatomic, assign) long long bytesEstimate;
+@property(nonatomic, assign) NSTimeInterval createdAt;
+@end
+
+@implementation RCTAEPOptimizePropositionCacheEntry
+@end
+
+@implementation RCTAEPOptimizePropositionCache {
+  NSMutableDictionary<NSString *, RCTAEPOptimizePropositionCacheEntry *> *entries;
+  // Keys ordered from least to most recently used.
+  NSMutableArray<NSString *> *accessOrder;
+  NSInteger maxEntries;
+  double maxAgeMs;
+  long long bytesEstimate;
+  long long hits;
+  long long misses;
+  long long evictions;
+  long long expirations;
+}
+
+- (instancetype)init {
+  self = [super init];
+  entries = [[NSMutableDictionary alloc] init];
+  accessOrder = [[NSMutableArray alloc] init];
+  maxEntries = DEFAULT_MAX_ENTRIES;
+  maxAgeMs = DEFAULT_MAX_AGE_MS;
+  return self;
+}
+
+- (void)setProposition:(AEPOptimizeProposition *)proposition forKey:(NSString *)propositionId {
+  @synchronized(self) {
+    RCTAEPOptimizePropositionCacheEntry *entry = [[RCTAEPOptimizePropositionCacheEntry alloc] init];
+    entry.proposition = proposition;
+    entry.offers = [self indexOffers:proposition];
+    entry.bytesEstimate = [self estimateBytesOfProposition:proposition];
+    entry.createdAt = [self now];
+
+    [self removeEntryForKey:propositionId];
+    [entries setObject:entry forKey:propositionId];
+    [accessOrder addObject:propositionId];
+    bytesEstimate += entry.bytesEstimate;
+    [self trim];
+  }
+}
+
+- (NSDictionary<NSString *, AEPOffer *> *)offersForKey:(NSString *)propositionId {
+  @synchronized(self) {
+    RCTAEPOptimizePropositionCacheEntry *entry = [entries objectForKey:propositionId];
+    if (entry && [self isExpired:entry now:[self now]]) {
+      [self removeEntryForKey:propositionId];
+      expirations++;
+      entry = nil;
+    }
+
+    if (!entry) {
+      misses++;
+      return nil;
+    }
+    hits++;
+    [accessOrder removeObject:propositionId];
+    [accessOrder addObject:propositionId];
+    return entry.offers;
+  }
+}
+
+- (void)removeAllObjects {
+  @synchronized(self) {
+    [entries removeAllObjects];
+    [accessOrder removeAllObjects];
+    bytesEstimate = 0;
+  }
+}
+
+- (void)setMaxEntries:(NSInteger)newMaxEntries maxAgeMs:(double)newMaxAgeMs {
+  @synchronized(self) {
+    maxEntries = MAX(1, newMaxEntries);
+    maxAgeMs = newMaxAgeMs;
+    [self trim];
+  }
+}
+
+- (NSDictionary<NSString *, NSNumber *> *)stats {
+  @synchronized(self) {
+    [self trim];
+    return @{
+      @"size" : @([entries count]),
+      @"maxEntries" : @(maxEntries),
+      @"maxAgeMs" : @(maxAgeMs),
+      @"hits" : @(hits),
+      @"misses" : @(misses),
+      @"evictions" : @(evictions),
+      @"expirations" : @(expirations),
+      @"bytesEstimate" : @(bytesEstimate)
+    };
+  }
+}
+
+#pragma mark - Helper methods
+
+- (void)trim {
+  if (maxAgeMs > 0) {
+    NSTimeInterval now = [self now];
+    for (NSString *key in [accessOrder copy]) {
+      if ([self isExpired:[entries objectForKey:key] now:now]) {
+        [self removeEntryForKey:key];
+        expirations++;
+      }
+    }
+  }
+
+  while ((NSInteger)[entries count] > maxEntries && [accessOrder count] > 0) {
+    [self removeEntryForKey:[accessOrder firstObject]];
+    evictions++;
+  }
+}
+
+- (void)removeEntryForKey:(NSString *)propositionId {
+  RCTAEPOptimizePropositionCacheEntry *entry = [entries objectForKey:propositionId];
+  if (entry) {
+    bytesEstimate -= entry.bytesEstimate;
+    [entries removeObjectForKey:propositionId];
+    [accessOrder removeObject:propositionId];
+  }
+}
+
+- (BOOL)isExpired:(RCTAEPOptimizePropositionCacheEntry *)entry now:(NSTimeInterval)now {
+  return maxAgeMs > 0 && (now - entry.createdAt) * 1000 > maxAgeMs;
+}
+
+- (NSTimeInterval)now {
+  return [[NSProcessInfo processInfo] systemUptime];
+}
+
+// Indexes the offers of a cached proposition by id, so offers can be resolved without scanning the proposition.
+// The first offer wins if two offers share an id.
+- (NSDictionary<NSString *, AEPOffer *> *)indexOffers:(AEPOptimizeProposition *)proposition {
+  NSMutableDictionary<NSString *, AEPOffer *> *index = [[NSMutableDictionary alloc] initWithCapacity:[[proposition offers] count]];
+  for (AEPOffer *offer in [proposition offers]) {
+    if ([offer id] && ![index objectForKey:[offer id]]) {
+      [index setObject:offer forKey:[offer id]];
+    }
+  }
+  return index;
+}
+
+// Rough estimate of the memory held by a proposition: two bytes per character of its strings plus a fixed
+// overhead per object and dictionary entry. Used for cache statistics only.
+- (long long)estimateBytesOfProposition:(AEPOptimizeProposition *)proposition {
+  long long bytes = OBJECT_OVERHEAD_BYTES + [self estimateBytes:[proposition id]] +
+                    [self estimateBytes:[proposition scope]] + [self estimateBytes:[proposition scopeDetails]] +
+                    [self estimateBytes:[proposition activity]] + [self estimateBytes:[proposition placement]];
+  for (AEPOffer *offer in [proposition offers]) {
+    bytes += OBJECT_OVERHEAD_BYTES + [self estimateBytes:[offer id]] + [self estimateBytes:[offer etag]] +
+             [self estimateBytes:[offer schema]] + [self estimateBytes:[offer content]] +
+             [self estimateBytes:[offer language]] + [self estimateBytes:[offer characteristics]] +
+             [self estimateBytes:[offer meta]];
+  }
+  return bytes;
+}
+
+- (long long)estimateBytes:(id)value {
+  if (!value || value == [NSNull null]) {
+    return 0;
+  }
+  if ([value isKindOfClass:[NSString class]]) {
+    return OBJECT_OVERHEAD_BYTES + 2 * (long long)[(NSString *)value length];
+  }
+  if ([value isKindOfClass:[NSDictionary class]]) {
+    long long bytes = OBJECT_OVERHEAD_BYTES;
+    NSDictionary *dict = (NSDictionary *)value;
+    for (id key in dict) {
+      bytes += ENTRY_OVERHEAD_BYTES + [self estimateBytes:key] + [self estimateBytes:[dict objectForKey:key]];
+    }
+    return bytes;
+  }
+  if ([value isKindOfClass:[NSArray class]]) {
+    long long bytes = OBJECT_OVERHEAD_BYTES;
+    for (id item in (NSArray *)value) {
+      bytes += [self estimateBytes:item];
+    }
+    return bytes;
+  }
+  return OBJECT_OVERHEAD_BYTES;
+}
+
+@end
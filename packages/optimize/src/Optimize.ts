@@ -11,12 +11,13 @@ governing permissions and limitations under the License.
 */
 
 import { EventSubscription, NativeModules } from 'react-native';
-import { NativeEventEmitter } from 'react-native';
+import { createEventEmitter } from '@adobe/react-native-aepcore';
 import Proposition from './models/Proposition';
 import DecisionScope from './models/DecisionScope';
 import Offer from './models/Offer';
 import { AdobePropositionCallback }  from './models/AdobePropositionCallback';
 import AEPOptimizeError from './models/AEPOptimizeError';
+import { PropositionCacheStats } from './models/PropositionCacheStats';
 
 
 interface IOptimize {
@@ -33,13 +34,17 @@ interface IOptimize {
   ) => void;
   displayed: (offers: Array<Offer>) => void;
   generateDisplayInteractionXdm: (offers: Array<Offer>) => Promise<Map<string, any>>;
+  setPropositionCacheLimits: (maxEntries: number, maxAgeMs: number) => void;
+  getCacheStats: () => Promise<PropositionCacheStats>;
 }
 
 const RCTAEPOptimize = NativeModules.AEPOptimize;
 
 declare var onPropositionUpdateSubscription: EventSubscription;
+declare var onPropositionRemovedSubscription: EventSubscription;
 
 var onPropositionUpdateSubscription: EventSubscription;
+var onPropositionRemovedSubscription: EventSubscription;
 
 
 /**
@@ -56,21 +61,28 @@ const Optimize: IOptimize = {
 
   /**
    * This API registers a permanent callback which is invoked whenever the Edge extension dispatches a response Event received from the Experience Edge Network upon a personalization query.
+   * The callback is only called with the decision scopes whose Proposition was added or changed since the previous update,
+   * and its optional onRemoved function with the decision scopes whose Proposition no longer has offers.
    * @param {Object} onPropositionUpdateCallback - the callback that will be called with the updated Propositions.
    */
   onPropositionUpdate(adobeCallback: AdobePropositionCallback) {        
     if(onPropositionUpdateSubscription) {
       onPropositionUpdateSubscription.remove();
     }
+    if(onPropositionRemovedSubscription) {
+      onPropositionRemovedSubscription.remove();
+    }
 
-    const eventEmitter = new NativeEventEmitter(RCTAEPOptimize);        
-    onPropositionUpdateSubscription = eventEmitter.addListener("onPropositionsUpdate", (propositions: Proposition[]) => {      
+    onPropositionUpdateSubscription = createEventEmitter(RCTAEPOptimize, "onPropositionsUpdate").addListener("onPropositionsUpdate", (propositions: Proposition[]) => {      
       const map = new Map<string, Proposition>();
       for (const [key, value] of Object.entries(propositions)) {
         map.set(key, new Proposition(value));  
       }      
       adobeCallback.call(map);
     });    
+    onPropositionRemovedSubscription = createEventEmitter(RCTAEPOptimize, "onPropositionsRemoved").addListener("onPropositionsRemoved", (decisionScopeNames: Array<string>) => {
+      adobeCallback.onRemoved?.(decisionScopeNames);
+    });
     RCTAEPOptimize.onPropositionsUpdate();        
   }, 
 
@@ -148,6 +160,25 @@ const Optimize: IOptimize = {
   generateDisplayInteractionXdm(offers: Array<Offer>) {
     return RCTAEPOptimize.multipleOffersGenerateDisplayInteractionXdm(offers);
   },
+
+/**
+ * Sets the limits of the native cache of propositions returned to JS, which is used to resolve offers for tracking.
+ * The least recently used proposition is evicted when the cache is full.
+ * Offers of an evicted or expired proposition can no longer be tracked until their proposition is retrieved again.
+ * @param {number} maxEntries - maximum number of cached propositions, defaults to 100
+ * @param {number} maxAgeMs - maximum age of a cached proposition in milliseconds, 0 for no limit, defaults to one hour
+ */
+  setPropositionCacheLimits(maxEntries: number, maxAgeMs: number) {
+    RCTAEPOptimize.setPropositionCacheLimits(maxEntries, maxAgeMs);
+  },
+
+/**
+ * Retrieves size, hit, miss and eviction counts and an estimated memory footprint of the native propositions cache.
+ * @return {Promise<PropositionCacheStats>} - a promise that resolves to the cache statistics
+ */
+  getCacheStats(): Promise<PropositionCacheStats> {
+    return RCTAEPOptimize.getCacheStats();
+  },
 };
 
 export default Optimize;
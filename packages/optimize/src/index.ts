@@ -16,6 +16,7 @@ import AEPOptimizeError from "./models/AEPOptimizeError";
 import DecisionScope from "./models/DecisionScope";
 import Offer from "./models/Offer";
 import Proposition from "./models/Proposition";
+import { PropositionCacheStats } from "./models/PropositionCacheStats";
 
 export {
   Optimize,
@@ -23,5 +24,6 @@ export {
   AEPOptimizeError,
   DecisionScope,
   Offer,
-  Proposition
+  Proposition,
+  PropositionCacheStats
 }
\ No newline at end of file
@@ -15,7 +15,12 @@ import Proposition from "./Proposition";
 /**
 * A Type with callback function that gets called with a Map of decision scope names and Propositions.
 * This is a type for listener used for receiving Proposition updates.
+* Only the decision scopes whose Proposition was added or changed since the previous update are included.
 */
 export type AdobePropositionCallback = {    
     call(propositionMap: Map<string, Proposition>): void;
+    /**
+    * Optional function that gets called with the names of the decision scopes whose Proposition no longer has offers.
+    */
+    onRemoved?(decisionScopeNames: Array<string>): void;
 };
\ No newline at end of file
@@ -70,9 +70,15 @@ class Offer {
     /**
     * Dispatches an event for the Edge network extension to send an Experience Event to the Edge network with the display interaction data for the
     * given Proposition offer.
+    * When the proposition is omitted, the offer is resolved natively from the propositions previously returned by the Optimize APIs,
+    * so the proposition does not have to be sent over the bridge.
     * @param {Proposition} proposition - the proposition this Offer belongs to
     */
-    displayed(proposition: Proposition): void {
+    displayed(proposition?: Proposition): void {
+        if (!proposition) {
+            RCTAEPOptimize.offerDisplayedById(this.uniquePropositionId ?? '', this.id);
+            return;
+        }
         const entries = Object.entries(proposition).filter(([_, value]) => typeof(value) !== "function");        
         const cleanedProposition = Object.fromEntries(entries);  
         RCTAEPOptimize.offerDisplayed(this.id, cleanedProposition);
@@ -81,10 +87,15 @@ class Offer {
     /**
     * Dispatches an event for the Edge network extension to send an Experience Event to the Edge network with the tap interaction data for the
     * given Proposition offer.
+    * When the proposition is omitted, the offer is resolved natively from the propositions previously returned by the Optimize APIs.
     * @param {Proposition} proposition - the proposition this Offer belongs to
     */
-    tapped(proposition: Proposition): void {                
+    tapped(proposition?: Proposition): void {                
         console.log("Offer is tapped");
+        if (!proposition) {
+            RCTAEPOptimize.offerTappedById(this.uniquePropositionId ?? '', this.id);
+            return;
+        }
         const entries = Object.entries(proposition).filter(([_, value]) => typeof(value) !== "function");
         const cleanedProposition = Object.fromEntries(entries);        
         RCTAEPOptimize.offerTapped(this.id, cleanedProposition);
@@ -95,10 +106,14 @@ class Offer {
     * The returned XDM data does contain the eventType for the Experience Event with value decisioning.propositionDisplay.    
     * Note: The Edge sendEvent API can be used to dispatch this data in an Experience Event along with any additional XDM, free-form data, and override
     * dataset identifier.
+    * When the proposition is omitted, the offer is resolved natively from the propositions previously returned by the Optimize APIs.
     * @param {Proposition} proposition - the proposition this Offer belongs to
     * @return {Promise<Map<string, any>>} - a promise that resolves to xdm map
     */
-    generateDisplayInteractionXdm(proposition: Proposition): Promise<Map<string, any>> {        
+    generateDisplayInteractionXdm(proposition?: Proposition): Promise<Map<string, any>> {        
+        if (!proposition) {
+            return Promise.resolve(RCTAEPOptimize.generateDisplayInteractionXdmById(this.uniquePropositionId ?? '', this.id));
+        }
         const entries = Object.entries(proposition).filter(([_, value]) => typeof(value) !== "function");
         const cleanedProposition = Object.fromEntries(entries);
         return Promise.resolve(RCTAEPOptimize.generateDisplayInteractionXdm(this.id, cleanedProposition));        
@@ -109,10 +124,14 @@ class Offer {
     * The returned XDM data contains the eventType for the Experience Event with value decisioning.propositionInteract.    
     * Note: The Edge sendEvent API can be used to dispatch this data in an Experience Event along with any additional XDM, free-form data, and override
     * dataset identifier.    
+    * When the proposition is omitted, the offer is resolved natively from the propositions previously returned by the Optimize APIs.
     * @param {Proposition} proposition - proposition this Offer belongs to
     * @return {Promise<Map<string, any>>} a promise that resolves to xdm map
     */
-    generateTapInteractionXdm(proposition: Proposition): Promise<Map<string, any>> {
+    generateTapInteractionXdm(proposition?: Proposition): Promise<Map<string, any>> {
+        if (!proposition) {
+            return Promise.resolve(RCTAEPOptimize.generateTapInteractionXdmById(this.uniquePropositionId ?? '', this.id));
+        }
         const entries = Object.entries(proposition).filter(([_, value]) => typeof(value) !== "function");
         const cleanedProposition = Object.fromEntries(entries);
         return Promise.resolve(RCTAEPOptimize.generateTapInteractionXdm(this.id, cleanedProposition));
@@ -0,0 +1,28 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+
+export interface PropositionCacheStats {
+  /** Number of propositions currently cached */
+  size: number;
+  /** Maximum number of propositions before the least recently used one is evicted */
+  maxEntries: number;
+  /** Maximum age of a proposition in milliseconds, 0 when propositions do not expire */
+  maxAgeMs: number;
+  hits: number;
+  misses: number;
+  /** Propositions removed because the cache was full */
+  evictions: number;
+  /** Propositions removed because they were older than maxAgeMs */
+  expirations: number;
+  /** Rough estimate of the native memory held by the cached propositions, in bytes */
+  bytesEstimate: number;
+}
@@ -0,0 +1,64 @@
+/*
+Copyright 2026 Adobe. All rights reserved.
+This file is licensed to you under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License. You may obtain a copy
+of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software distributed under
+the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+OF ANY KIND, either express or implied. See the License for the specific language
+governing permissions and limitations under the License.
+*/
+
+import type { TurboModule } from 'react-native';
+import { TurboModuleRegistry } from 'react-native';
+
+/**
+ * Codegen spec of the AEPOptimize native module. With the New Architecture enabled,
+ * Android implements it as a TurboModule called over JSI.
+ */
+export interface Spec extends TurboModule {
+  extensionVersion(): Promise<string>;
+  onPropositionsUpdate(): void;
+  clearCachedPropositions(): void;
+  getPropositions(decisionScopes: Array<string>): Promise<Object>;
+  updatePropositions(
+    decisionScopes: Array<string>,
+    xdm: Object | null,
+    data: Object | null,
+    onSuccess: (response: Object) => void,
+    onError: (error: Object) => void
+  ): void;
+  offerDisplayed(offerId: string, proposition: Object): void;
+  offerTapped(offerId: string, proposition: Object): void;
+  multipleOffersDisplayed(offers: Array<Object>): void;
+  multipleOffersGenerateDisplayInteractionXdm(
+    offers: Array<Object>
+  ): Promise<Object>;
+  generateDisplayInteractionXdm(
+    offerId: string,
+    proposition: Object
+  ): Promise<Object>;
+  generateTapInteractionXdm(
+    offerId: string,
+    proposition: Object
+  ): Promise<Object>;
+  generateReferenceXdm(proposition: Object): Promise<Object>;
+  offerDisplayedById(propositionId: string, offerId: string): void;
+  offerTappedById(propositionId: string, offerId: string): void;
+  generateDisplayInteractionXdmById(
+    propositionId: string,
+    offerId: string
+  ): Promise<Object>;
+  generateTapInteractionXdmById(
+    propositionId: string,
+    offerId: string
+  ): Promise<Object>;
+  setPropositionCacheLimits(maxEntries: number, maxAgeMs: number): void;
+  getCacheStats(): Promise<Object>;
+  addListener(eventName: string): void;
+  removeListeners(count: number): void;
+  removeEventListeners(eventName: string, count: number): void;
+}
+
+export default TurboModuleRegistry.getEnforcing<Spec>('AEPOptimize');
@@ -16,6 +16,7 @@ import android.location.Location;
 
 import com.adobe.marketing.mobile.places.PlacesAuthorizationStatus;
 import com.adobe.marketing.mobile.places.PlacesPOI;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
@@ -131,7 +132,7 @@ public class RCTAEPPlacesDataBridge {
     locationMap.putBoolean(AEP_PLACES_POI_USER_IS_WITHIN, placesPOI.containsUser());
     locationMap.putString(AEP_PLACES_POI_LIBRARY, placesPOI.getLibrary());
     locationMap.putInt(AEP_PLACES_POI_WEIGHT, placesPOI.getWeight());
-    locationMap.putMap(AEP_PLACES_POI_METADATA, RCTAEPMapUtil.toWritableMap(placesPOI.getMetadata()));
+    locationMap.putMap(AEP_PLACES_POI_METADATA, RCTAEPBridgeConverter.toWritableMap(placesPOI.getMetadata()));
 
     return locationMap;
   }
@@ -33,6 +33,7 @@ import android.location.Location;
 import java.util.List;
 
 public class RCTAEPPlacesModule extends ReactContextBaseJavaModule {
+  public static final String NAME = "AEPPlaces";
 
   private final ReactApplicationContext reactContext;
 
@@ -43,7 +44,7 @@ public class RCTAEPPlacesModule extends ReactContextBaseJavaModule {
 
   @Override
   public String getName() {
-    return "AEPPlaces";
+    return NAME;
   }
 
   @ReactMethod
@@ -12,6 +12,7 @@ governing permissions and limitations under the License.
 package com.adobe.marketing.mobile.reactnative.target;
 
 import com.adobe.marketing.mobile.AdobeCallback;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
 import com.adobe.marketing.mobile.target.TargetOrder;
 import com.adobe.marketing.mobile.target.TargetParameters;
 import com.adobe.marketing.mobile.target.TargetPrefetch;
@@ -73,8 +74,8 @@ public class RCTAEPTargetDataBridge {
         TargetOrder order = mapToOrder(getNullableMap(map, ORDER_KEY));
         TargetProduct product = mapToProduct(getNullableMap(map, PRODUCT_KEY));
 
-        Map<String, String> parameters = RCTAEPTargetMapUtil.toStringMap(getNullableMap(map, PARAMETERS_KEY));
-        Map<String, String> profileParameters = RCTAEPTargetMapUtil.toStringMap(getNullableMap(map, PROFILE_PARAMETERS_KEY));
+        Map<String, String> parameters = RCTAEPBridgeConverter.toStringMap(getNullableMap(map, PARAMETERS_KEY));
+        Map<String, String> profileParameters = RCTAEPBridgeConverter.toStringMap(getNullableMap(map, PROFILE_PARAMETERS_KEY));
 
         return new TargetParameters.Builder().order(order).product(product).parameters(parameters).profileParameters(profileParameters).build();
     }
@@ -85,7 +86,7 @@ public class RCTAEPTargetDataBridge {
             return null;
         }
 
-        List<String> purchasedProductsIds = RCTAEPTargetArrayUtil.toStringArray(getNullableArray(map, PURCHASED_PRODUCTS_IDS_KEY));
+        List<String> purchasedProductsIds = RCTAEPBridgeConverter.toStringList(getNullableArray(map, PURCHASED_PRODUCTS_IDS_KEY));
         return new TargetOrder(getNullableString(map, ORDER_ID_KEY), getNullableDouble(map, TOTAL_KEY), purchasedProductsIds);
     }
 
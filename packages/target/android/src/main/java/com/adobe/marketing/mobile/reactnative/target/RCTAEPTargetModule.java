@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 public class RCTAEPTargetModule extends ReactContextBaseJavaModule {
+  public static final String NAME = "AEPTarget";
 
   private final ReactApplicationContext reactContext;
   private final String REQUEST_ID_KEY = "id";
@@ -43,7 +44,7 @@ public class RCTAEPTargetModule extends ReactContextBaseJavaModule {
 
   @Override
   public String getName() {
-    return "AEPTarget";
+    return NAME;
   }
 
   @ReactMethod
@@ -12,6 +12,7 @@ package com.adobe.marketing.mobile.reactnative.userprofile;
 
 import com.adobe.marketing.mobile.AdobeCallback;
 import com.adobe.marketing.mobile.UserProfile;
+import com.adobe.marketing.mobile.reactnative.RCTAEPBridgeConverter;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
@@ -22,6 +23,7 @@ import com.facebook.react.bridge.ReadableMap;
 import java.util.Map;
 
 public class RCTAEPUserProfileModule extends ReactContextBaseJavaModule {
+  public static final String NAME = "AEPUserProfile";
 
   private final ReactApplicationContext reactContext;
 
@@ -32,7 +34,7 @@ public class RCTAEPUserProfileModule extends ReactContextBaseJavaModule {
 
   @Override
   public String getName() {
-    return "AEPUserProfile";
+    return NAME;
   }
 
   @ReactMethod
@@ -42,15 +44,15 @@ public class RCTAEPUserProfileModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void updateUserAttributes(ReadableMap attributeMap) {
-    UserProfile.updateUserAttributes(RCTAEPUserProfileMapUtil.toMap(attributeMap));
+    UserProfile.updateUserAttributes(RCTAEPBridgeConverter.toMap(attributeMap));
   }
 
   @ReactMethod
   public void getUserAttributes(final ReadableArray attributeNames, final Promise promise) {
-    UserProfile.getUserAttributes(RCTAEPUserProfileArrayUtil.toStringList(attributeNames), new AdobeCallback<Map<String, Object>>() {
+    UserProfile.getUserAttributes(RCTAEPBridgeConverter.toStringList(attributeNames), new AdobeCallback<Map<String, Object>>() {
       @Override
       public void call(Map<String, Object> stringObjectMap) {
-        promise.resolve(RCTAEPUserProfileMapUtil.toWritableMap(stringObjectMap));
+        promise.resolve(RCTAEPBridgeConverter.toWritableMap(stringObjectMap));
 
       }
     });
@@ -58,7 +60,7 @@ public class RCTAEPUserProfileModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void removeUserAttributes(final ReadableArray attributeNames) {
-    UserProfile.removeUserAttributes(RCTAEPUserProfileArrayUtil.toStringList(attributeNames));
+    UserProfile.removeUserAttributes(RCTAEPBridgeConverter.toStringList(attributeNames));
   }
 
 }
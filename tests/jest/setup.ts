@@ -63,6 +63,19 @@ jest.doMock('react-native', () => {
                 resolve([{ type: 'example', payload: { sample: 'data' } }])
               )
           ),
+          sendEventAndForget: jest.fn(),
+          sendEvents: jest.fn(
+            (events, fireAndForget) =>
+              new Promise((resolve) =>
+                resolve(
+                  fireAndForget
+                    ? null
+                    : events.map(() => [
+                        { type: 'example', payload: { sample: 'data' } }
+                      ])
+                )
+              )
+          ),
           setLocationHint: jest.fn(() => new Promise((resolve) => resolve(''))),
           getLocationHint: jest.fn(
             () => new Promise((resolve) => resolve('va6'))
@@ -112,11 +125,17 @@ jest.doMock('react-native', () => {
             () => new Promise((resolve) => resolve(''))
           ),
           dispatchEvent: jest.fn(),
+          dispatchEvents: jest.fn(() => new Promise((resolve) => resolve(true))),
           dispatchEventWithResponseCallback: jest.fn(
             () => new Promise((resolve) => resolve(null))
           ),
           trackAction: jest.fn(),
           trackState: jest.fn(),
+          trackBatch: jest.fn(),
+          registerEventListener: jest.fn(
+            () => new Promise((resolve) => resolve('1'))
+          ),
+          unregisterEventListener: jest.fn(),
           setAdvertisingIdentifier: jest.fn(),
           setPushIdentifier: jest.fn(),
           collectPii: jest.fn(),
@@ -149,6 +168,15 @@ jest.doMock('react-native', () => {
           ),
           refreshInAppMessages: jest.fn(),
           setMessagingDelegate: jest.fn(),
+          setMessageSettings: jest.fn(),
+          setMessageSettingsForMessage: jest.fn(),
+          setMessageDecisionTimeout: jest.fn(),
+          setMessageDisplayRules: jest.fn(),
+          setCurrentScreen: jest.fn(),
+          setMessageCacheLimits: jest.fn(),
+          getMessageCacheStats: jest.fn(
+            () => new Promise((resolve) => resolve({}))
+          ),
           setAutoTrack: jest.fn(),
           show: jest.fn(),
           dismiss: jest.fn(),
@@ -162,9 +190,18 @@ jest.doMock('react-native', () => {
           getPropositionsForSurfaces: jest.fn(
             () => new Promise((resolve) => resolve([]))
           ),
+          getPropositionsForSurfacesPage: jest.fn(
+            () => new Promise((resolve) => resolve({}))
+          ),
+          getPropositionById: jest.fn(
+            () => new Promise((resolve) => resolve(null))
+          ),
           trackPropositionItem: jest.fn(),
+          trackPropositionItems: jest.fn(),
           trackContentCardDisplay: jest.fn(),
-          trackContentCardInteraction: jest.fn()
+          trackContentCardInteraction: jest.fn(),
+          trackContentCardDisplayById: jest.fn(),
+          trackContentCardInteractionById: jest.fn()
         },
         AEPOptimize: {
           extensionVersion: jest.fn(
@@ -194,6 +231,18 @@ jest.doMock('react-native', () => {
           multipleOffersDisplayed: jest.fn(),
           multipleOffersGenerateDisplayInteractionXdm: jest.fn(
             () => new Promise((resolve) => resolve(new Map()))
+          ),
+          offerDisplayedById: jest.fn(),
+          offerTappedById: jest.fn(),
+          generateDisplayInteractionXdmById: jest.fn(
+            () => new Promise((resolve) => resolve(new Map()))
+          ),
+          generateTapInteractionXdmById: jest.fn(
+            () => new Promise((resolve) => resolve(new Map()))
+          ),
+          setPropositionCacheLimits: jest.fn(),
+          getCacheStats: jest.fn(
+            () => new Promise((resolve) => resolve({}))
           )
         },
         AEPTarget: {